@@ -0,0 +1,12 @@
+-- ID 블록 발급용 카운터 테이블 (com.team12.auction.util.BlockIdAllocator)
+-- 행은 처음 사용할 때 기존 데이터의 최대 번호를 기준으로 자동 생성된다.
+CREATE TABLE IdCounter (
+    counter_name VARCHAR2(30) PRIMARY KEY,
+    next_value   NUMBER(19)   NOT NULL
+);
+
+-- 새 ID 형식은 자릿수가 늘어난다 (BID0000001, E0000001, L0000001).
+-- 기존 컬럼 길이가 부족하면 함께 늘려준다.
+ALTER TABLE Bid MODIFY (bid_sequence VARCHAR2(20));
+ALTER TABLE Enrollment MODIFY (enrollment_id VARCHAR2(20));
+ALTER TABLE Log MODIFY (log_id VARCHAR2(20));
@@ -0,0 +1,27 @@
+-- 학생별 포인트/학점 장부 (com.team12.auction.dao.StudentDAO)
+-- 수강/입찰/수강꾸러미를 바꾸는 트랜잭션 안에서 증감으로 갱신된다.
+-- 남은 포인트는 Student.max_point - spent_points 로 계산한다 (max_point를 바꿔도 장부는 그대로).
+CREATE TABLE StudentLedger (
+    student_id       NUMBER PRIMARY KEY REFERENCES Student(student_id),
+    spent_points     NUMBER NOT NULL,   -- 수강 등록에 쓴 포인트 합 (Enrollment.points_used)
+    committed_points NUMBER NOT NULL,   -- 마감되지 않은 입찰에 건 포인트 합 (Bid.is_successful IS NULL)
+    enrolled_credits NUMBER NOT NULL,   -- 수강 중인 학점 합
+    basket_credits   NUMBER NOT NULL,   -- 수강꾸러미에 담은 학점 합
+    updated_at       DATE   NOT NULL
+);
+
+-- 기존 데이터로 채우기 (빠진 행은 애플리케이션 시작 시 StudentLedgerReconciler도 채운다)
+INSERT INTO StudentLedger (student_id, spent_points, committed_points, enrolled_credits, basket_credits, updated_at)
+SELECT st.student_id,
+       (SELECT NVL(SUM(e.points_used), 0) FROM Enrollment e WHERE e.student_id = st.student_id),
+       (SELECT NVL(SUM(b.bid_amount), 0) FROM Bid b WHERE b.student_id = st.student_id AND b.is_successful IS NULL),
+       (SELECT NVL(SUM(c.credits), 0) FROM Enrollment e
+          JOIN Section s ON e.section_id = s.section_id JOIN Course c ON s.course_id = c.course_id
+         WHERE e.student_id = st.student_id),
+       (SELECT NVL(SUM(c.credits), 0) FROM Basket ba JOIN BasketItem bi ON ba.basket_id = bi.basket_id
+          JOIN Section s ON bi.section_id = s.section_id JOIN Course c ON s.course_id = c.course_id
+         WHERE ba.student_id = st.student_id),
+       SYSDATE
+  FROM Student st;
+
+COMMIT;
@@ -0,0 +1,102 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.cache.AuctionOrderBooks;
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.util.TransactionUtil;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크가 함께 쓰는 DB 상태
+ * <p>
+ * 포크(JVM)마다 스키마를 만들고 데이터 규모 파라미터대로 적재한다. 규모는 JMH 파라미터로 바꾼다 (예: -p students=50000).
+ * DataGenerator로 미리 채워 둔 DB를 쓸 때는 적재를 건너뛰므로, 그때 적재한 규모와 같은 값을 준다.
+ * warmCaches=true면 강의 캐시/분반 카운터/경매 순위표를 미리 채워 운영 중인 서버와 같은 경로를 잰다.
+ */
+@State(Scope.Benchmark)
+public class BenchDatabase {
+
+    @Param("2000")
+    public int students;
+
+    @Param("300")
+    public int courses;
+
+    @Param("3")
+    public int sectionsPerCourse;
+
+    @Param("5")
+    public int basketItemsPerStudent;
+
+    @Param("200")
+    public int auctions;
+
+    @Param("100")
+    public int bidsPerAuction;
+
+    @Param("0")
+    public int closedAuctions;
+
+    @Param("0")
+    public int logsPerStudent;
+
+    @Param("false")
+    public boolean warmCaches;
+
+    @Param("42")
+    public long seed;
+
+    private BenchDataset dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchSchema.createIfMissing();
+        dataset = new BenchDataset(students, courses, sectionsPerCourse, basketItemsPerStudent, auctions, bidsPerAuction, seed);
+        dataset.setClosedAuctions(closedAuctions);
+        dataset.setLogsPerStudent(logsPerStudent);
+        dataset.setThreads(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        dataset.load();
+
+        if (warmCaches) {
+            CatalogCache.start();
+            SectionCounters.start();
+            for (int i = 0; i < dataset.getAuctions(); i++) {
+                String auctionId = BenchDataset.auctionId(i);
+                TransactionUtil.execute(conn -> AuctionOrderBooks.get(conn, auctionId));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (warmCaches) {
+            SectionCounters.stop();
+            CatalogCache.stop();
+            AuctionOrderBooks.clear();
+        }
+    }
+
+    public BenchDataset getDataset() {
+        return dataset;
+    }
+
+    public int randomStudentId() {
+        return BenchDataset.studentId(ThreadLocalRandom.current().nextInt(dataset.getStudents()));
+    }
+
+    public String randomAuctionId() {
+        return BenchDataset.auctionId(ThreadLocalRandom.current().nextInt(dataset.getAuctions()));
+    }
+
+    public int randomBidAmount() {
+        return 1 + ThreadLocalRandom.current().nextInt(50);
+    }
+}
@@ -0,0 +1,587 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.IdAllocators;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 벤치마크/부하 테스트용 데이터 적재 (같은 seed면 항상 같은 데이터)
+ * <p>
+ * 학생/강의/분반/시간표/수강꾸러미/경매/입찰/로그를 batch INSERT로 채우고, 마지막에 StudentLedger를 맞춘다.
+ * 테이블마다 행을 청크(트랜잭션 하나)로 나눠 여러 스레드가 각자 커넥션으로 넣는다.
+ * 청크마다 seed에서 만든 난수를 따로 쓰므로 스레드 수와 순서에 관계없이 같은 데이터가 된다.
+ * <p>
+ * 경매 0 ~ auctions-1은 진행 중(ACTIVE)이고, 그 뒤 closedAuctions개는 이미 마감(COMPLETED)되어
+ * 입찰 결과(is_successful)와 낙찰자의 수강신청(FROM_AUCTION)까지 들어 있다.
+ * Student 테이블에 이미 행이 있으면 적재하지 않는다.
+ */
+public final class BenchDataset {
+
+    static final String[] DEPARTMENTS = {"컴퓨터공학과", "전자공학과", "경영학과", "수학과", "물리학과", "영어영문학과", "기계공학과", "화학과"};
+    static final String[] DEPARTMENT_CODES = {"CSE", "EE", "BUS", "MATH", "PHY", "ENG", "ME", "CHEM"};
+    static final String[] SUBJECTS = {"자료구조", "알고리즘", "데이터베이스", "운영체제", "네트워크", "선형대수", "확률과 통계",
+        "회로이론", "신호처리", "마케팅", "재무관리", "일반물리", "유기화학", "열역학", "영문학 개론", "컴파일러"};
+    static final String[] LEVELS = {"개론", "I", "II", "특강", "설계", "실습"};
+    static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수아", "예준", "지우", "현우", "채원"};
+    static final String[][] DAY_PAIRS = {{"MON", "WED"}, {"TUE", "THU"}, {"WED", "FRI"}, {"MON", "THU"}};
+    static final int[] START_TIMES = {900, 1030, 1200, 1330, 1500, 1630};
+    // 서블릿이 남기는 로그 종류와 누적 비율(%)
+    static final String[] LOG_ACTIONS = {"LOGIN", "LOGOUT", "PROFILE_UPDATE", "PASSWORD_CHANGE"};
+    static final int[] LOG_ACTION_PERCENTILES = {60, 95, 98, 100};
+
+    public static final int FIRST_STUDENT_ID = 20200001;
+    public static final String PASSWORD = "bench";
+
+    // 경매당 수강 가능 인원 상한 (낙찰자 수강신청 번호를 경매 번호로 미리 나눠 두는 데 쓴다)
+    static final int MAX_SLOTS = 10;
+
+    private static final int BATCH_SIZE = 1000;
+    // 청크 하나에 넣는 대략의 행 수 (청크마다 커밋)
+    private static final int CHUNK_ROWS = 20_000;
+
+    private final int students;
+    private final int courses;
+    private final int sectionsPerCourse;
+    private final int basketItemsPerStudent;
+    private final int auctions;
+    private final int bidsPerAuction;
+    private final long seed;
+
+    private int closedAuctions;
+    private int logsPerStudent;
+    private int threads = 1;
+
+    private final long now = System.currentTimeMillis() / 1000 * 1000;
+
+    public BenchDataset(int students, int courses, int sectionsPerCourse, int basketItemsPerStudent,
+                        int auctions, int bidsPerAuction, long seed) {
+        this.students = students;
+        this.courses = courses;
+        this.sectionsPerCourse = sectionsPerCourse;
+        this.basketItemsPerStudent = Math.min(basketItemsPerStudent, courses * sectionsPerCourse);
+        this.auctions = Math.min(auctions, courses * sectionsPerCourse);
+        this.bidsPerAuction = Math.min(bidsPerAuction, students);
+        this.seed = seed;
+    }
+
+    /**
+     * 이미 마감된 경매 수 (분반 하나에 경매 하나까지라 분반 수를 넘지 않게 줄인다)
+     */
+    public void setClosedAuctions(int closedAuctions) {
+        this.closedAuctions = Math.max(0, Math.min(closedAuctions, getSections() - auctions));
+    }
+
+    public void setLogsPerStudent(int logsPerStudent) {
+        this.logsPerStudent = Math.max(0, logsPerStudent);
+    }
+
+    /**
+     * 적재 스레드 수 (스레드마다 커넥션 하나, db.pool.maxSize 이하로)
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public static int studentId(int index) {
+        return FIRST_STUDENT_ID + index;
+    }
+
+    public static String courseId(int index) {
+        return DEPARTMENT_CODES[index % DEPARTMENT_CODES.length] + String.format("%04d", index);
+    }
+
+    public String sectionId(int index) {
+        return courseId(index / sectionsPerCourse) + "-" + String.format("%02d", index % sectionsPerCourse + 1);
+    }
+
+    /**
+     * 적재한 과목명 중 하나 (검색어로 쓰면 항상 결과가 있다)
+     */
+    public static String searchKeyword(Random random) {
+        return SUBJECTS[random.nextInt(SUBJECTS.length)];
+    }
+
+    public static String auctionId(int index) {
+        return String.format("A%06d", index + 1);
+    }
+
+    /**
+     * 경매 index가 걸린 분반 (진행 중/마감 경매 전체에 대해 분반을 고르게 건너뛰며 고른다)
+     */
+    public String auctionSectionId(int index) {
+        return sectionId((int) ((long) index * getSections() / getTotalAuctions()));
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getSections() {
+        return courses * sectionsPerCourse;
+    }
+
+    /**
+     * 진행 중인 경매 수 (경매 0 ~ getAuctions()-1)
+     */
+    public int getAuctions() {
+        return auctions;
+    }
+
+    public int getClosedAuctions() {
+        return closedAuctions;
+    }
+
+    public int getTotalAuctions() {
+        return auctions + closedAuctions;
+    }
+
+    public int getBidsPerAuction() {
+        return bidsPerAuction;
+    }
+
+    /**
+     * @return 적재했으면 true, 이미 데이터가 있어 건너뛰었으면 false
+     */
+    public boolean load() throws SQLException {
+        if (hasRows()) {
+            System.out.println("[INFO] Bench dataset already present, skipping load");
+            return false;
+        }
+
+        long started = System.currentTimeMillis();
+        long rows = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // 외래 키 순서대로 테이블 단위로 넣고, 테이블 안에서는 청크를 나눠 동시에 넣는다
+            rows += loadTable(executor, "Student", students, 1, this::loadStudents);
+            rows += loadTable(executor, "Course", courses, 1, this::loadCourses);
+            rows += loadTable(executor, "Section", getSections(), 3, this::loadSections);
+            rows += loadTable(executor, "Basket", students, 1 + basketItemsPerStudent, this::loadBaskets);
+            rows += loadTable(executor, "Auction", getTotalAuctions(), 1 + bidsPerAuction, this::loadAuctions);
+            rows += loadTable(executor, "Log", logsPerStudent == 0 ? 0 : students, logsPerStudent, this::loadLogs);
+        } finally {
+            executor.shutdownNow();
+        }
+        saveIdCounters();
+
+        new StudentDAO().reconcileLedger();
+        long elapsed = System.currentTimeMillis() - started;
+        System.out.println("[OK] Bench dataset loaded (students=" + students + ", sections=" + getSections()
+            + ", basketItems=" + (long) students * basketItemsPerStudent + ", auctions=" + auctions
+            + "+" + closedAuctions + " closed, bids=" + (long) getTotalAuctions() * bidsPerAuction
+            + ", logs=" + (long) students * logsPerStudent + ", rows=" + rows + ", threads=" + threads + ") in "
+            + elapsed + "ms (" + rows * 1000 / Math.max(1, elapsed) + " rows/s)");
+        return true;
+    }
+
+    private boolean hasRows() throws SQLException {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DBConnection.getPool().getConnection();
+            pstmt = conn.prepareStatement("SELECT COUNT(*) FROM Student");
+            rs = pstmt.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        } finally {
+            DBConnection.close(rs, pstmt, conn);
+        }
+    }
+
+    /**
+     * [from, to) 범위의 행을 넣는 작업 (커밋은 호출하는 쪽에서)
+     */
+    @FunctionalInterface
+    private interface ChunkLoader {
+        long load(Connection conn, SplittableRandom random, int from, int to) throws SQLException;
+    }
+
+    /**
+     * 테이블 하나를 청크로 나눠 동시에 적재
+     *
+     * @param units        학생/분반/경매처럼 청크를 나누는 단위의 수
+     * @param rowsPerUnit  단위 하나에서 생기는 대략의 행 수 (청크 크기 계산용)
+     * @return 넣은 행 수
+     */
+    private long loadTable(ExecutorService executor, String table, int units, int rowsPerUnit, ChunkLoader loader)
+        throws SQLException {
+        if (units == 0) {
+            return 0;
+        }
+        long started = System.currentTimeMillis();
+        int unitsPerChunk = Math.max(1, CHUNK_ROWS / Math.max(1, rowsPerUnit));
+
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int chunk = 0; (long) chunk * unitsPerChunk < units; chunk++) {
+            int from = chunk * unitsPerChunk;
+            int to = Math.min(units, from + unitsPerChunk);
+            SplittableRandom random = new SplittableRandom(chunkSeed(table, chunk));
+            futures.add(executor.submit(() -> loadChunk(loader, random, from, to)));
+        }
+
+        long rows = 0;
+        try {
+            for (Future<Long> future : futures) {
+                rows += future.get();
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Loading " + table + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new SQLException("Loading " + table + " interrupted", e);
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        System.out.println("[INFO] Loaded " + table + " (" + rows + " rows, " + futures.size() + " chunks) in "
+            + elapsed + "ms (" + rows * 1000 / Math.max(1, elapsed) + " rows/s)");
+        return rows;
+    }
+
+    private static long loadChunk(ChunkLoader loader, SplittableRandom random, int from, int to) throws SQLException {
+        Connection conn = null;
+
+        try {
+            conn = DBConnection.getPool().getConnection();
+            long rows = loader.load(conn, random, from, to);
+            conn.commit();
+            return rows;
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            DBConnection.close(conn);
+        }
+    }
+
+    private static void cancel(List<Future<Long>> futures) {
+        for (Future<Long> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 테이블과 청크 번호로 정해지는 난수 seed (스레드 수와 무관)
+     */
+    private long chunkSeed(String table, int chunk) {
+        return seed ^ (table.hashCode() * 0x9E3779B97F4A7C15L) ^ ((chunk + 1) * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private long loadStudents(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String sql = "INSERT INTO Student (student_id, name, department, grade, password, max_credits, max_point) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                pstmt.setInt(1, studentId(i));
+                pstmt.setString(2, pick(random, SURNAMES) + pick(random, GIVEN_NAMES));
+                pstmt.setString(3, pick(random, DEPARTMENTS));
+                pstmt.setInt(4, 1 + random.nextInt(4));
+                pstmt.setString(5, PASSWORD);
+                pstmt.setInt(6, 18 + 3 * random.nextInt(2));
+                pstmt.setInt(7, 1000);
+                addBatch(pstmt, i - from);
+            }
+            pstmt.executeBatch();
+        }
+        return to - from;
+    }
+
+    private long loadCourses(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String sql = "INSERT INTO Course (course_id, course_name, department, credits, capacity, semester, year) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                pstmt.setString(1, courseId(i));
+                pstmt.setString(2, pick(random, SUBJECTS) + " " + pick(random, LEVELS));
+                pstmt.setString(3, DEPARTMENTS[i % DEPARTMENTS.length]);
+                pstmt.setInt(4, 1 + random.nextInt(3));
+                pstmt.setInt(5, 30 * sectionsPerCourse);
+                pstmt.setString(6, "1");
+                pstmt.setInt(7, 2025);
+                addBatch(pstmt, i - from);
+            }
+            pstmt.executeBatch();
+        }
+        return to - from;
+    }
+
+    private long loadSections(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String sectionSql = "INSERT INTO Section (section_id, section_number, professor, capacity, classroom, course_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+        String slotSql = "INSERT INTO TimeSlot (day, start_time, end_time, section_id) VALUES (?, ?, ?, ?)";
+        long rows = 0;
+        try (PreparedStatement section = conn.prepareStatement(sectionSql);
+             PreparedStatement slot = conn.prepareStatement(slotSql)) {
+            for (int i = from; i < to; i++) {
+                String sectionId = sectionId(i);
+                section.setString(1, sectionId);
+                section.setInt(2, i % sectionsPerCourse + 1);
+                section.setString(3, pick(random, SURNAMES) + pick(random, GIVEN_NAMES));
+                section.setInt(4, 20 + 10 * random.nextInt(5));
+                section.setString(5, (char) ('A' + random.nextInt(6)) + "-" + (100 + random.nextInt(400)));
+                section.setString(6, courseId(i / sectionsPerCourse));
+                section.addBatch();
+                rows++;
+
+                int start = START_TIMES[random.nextInt(START_TIMES.length)];
+                int end = start + 115; // 75분
+                for (String day : DAY_PAIRS[random.nextInt(DAY_PAIRS.length)]) {
+                    slot.setString(1, day);
+                    slot.setInt(2, start);
+                    slot.setInt(3, end);
+                    slot.setString(4, sectionId);
+                    slot.addBatch();
+                    rows++;
+                }
+                if ((i - from + 1) % BATCH_SIZE == 0) {
+                    section.executeBatch();
+                    slot.executeBatch();
+                }
+            }
+            section.executeBatch();
+            slot.executeBatch();
+        }
+        return rows;
+    }
+
+    private long loadBaskets(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String basketSql = "INSERT INTO Basket (basket_id, student_id) VALUES (?, ?)";
+        String itemSql = "INSERT INTO BasketItem (registration_time, status, processed_time, reason, basket_id, section_id) "
+            + "VALUES (?, 'PENDING', NULL, NULL, ?, ?)";
+        long rows = 0;
+        int studentsPerBatch = Math.max(1, BATCH_SIZE / (1 + basketItemsPerStudent));
+        try (PreparedStatement basket = conn.prepareStatement(basketSql);
+             PreparedStatement item = conn.prepareStatement(itemSql)) {
+            for (int i = from; i < to; i++) {
+                String basketId = "B" + studentId(i);
+                basket.setString(1, basketId);
+                basket.setInt(2, studentId(i));
+                basket.addBatch();
+                rows++;
+
+                // 겹치지 않는 분반을 고르기 위해 시작 위치에서 일정 간격으로 건너뛴다
+                int first = random.nextInt(getSections());
+                int step = Math.max(1, getSections() / Math.max(1, basketItemsPerStudent));
+                for (int k = 0; k < basketItemsPerStudent; k++) {
+                    item.setTimestamp(1, new Timestamp(now - random.nextInt(7 * 24 * 60) * 60_000L));
+                    item.setString(2, basketId);
+                    item.setString(3, sectionId((first + k * step) % getSections()));
+                    item.addBatch();
+                    rows++;
+                }
+                if ((i - from + 1) % studentsPerBatch == 0) {
+                    basket.executeBatch();
+                    item.executeBatch();
+                }
+            }
+            basket.executeBatch();
+            item.executeBatch();
+        }
+        return rows;
+    }
+
+    /**
+     * 경매와 그 경매의 입찰을 함께 넣는다. 마감된 경매는 BidDAO의 마감 순서(금액 내림차순, 시간, 번호)대로
+     * 수강 가능 인원까지 낙찰 처리하고 수강신청을 만든다.
+     */
+    private long loadAuctions(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String auctionSql = "INSERT INTO Auction (auction_id, start_time, end_time, status, available_slots, created_at, section_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String bidSql = "INSERT INTO Bid (bid_sequence, bid_amount, bid_time, is_successful, auction_id, student_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+        String enrollmentSql = "INSERT INTO Enrollment (enrollment_id, enrollment_source, points_used, enrollment_time, student_id, section_id) "
+            + "VALUES (?, 'FROM_AUCTION', ?, ?, ?, ?)";
+        long rows = 0;
+        long day = 24 * 3600_000L;
+
+        try (PreparedStatement auction = conn.prepareStatement(auctionSql);
+             PreparedStatement bid = conn.prepareStatement(bidSql);
+             PreparedStatement enrollment = conn.prepareStatement(enrollmentSql)) {
+            // 외래 키 때문에 경매를 먼저 넣는다
+            int[] slots = new int[to - from];
+            for (int a = from; a < to; a++) {
+                boolean active = a < auctions;
+                slots[a - from] = 3 + random.nextInt(MAX_SLOTS - 2);
+                // 마감된 경매는 경매 번호 순서대로 과거에 하루씩 열렸던 것으로 둔다
+                long end = active ? now + 7 * day : now - (1 + (a - auctions) % 30) * day;
+                auction.setString(1, auctionId(a));
+                auction.setTimestamp(2, new Timestamp(end - (active ? 8 : 1) * day));
+                auction.setTimestamp(3, new Timestamp(end));
+                auction.setString(4, active ? "ACTIVE" : "COMPLETED");
+                auction.setInt(5, slots[a - from]);
+                auction.setTimestamp(6, new Timestamp(end - (active ? 9 : 2) * day));
+                auction.setString(7, auctionSectionId(a));
+                addBatch(auction, a - from);
+                rows++;
+            }
+            auction.executeBatch();
+
+            long[][] bids = new long[bidsPerAuction][];
+            int pending = 0;
+            for (int a = from; a < to; a++) {
+                boolean active = a < auctions;
+                long end = active ? now + 7 * day : now - (1 + (a - auctions) % 30) * day;
+                long bidFrom = active ? now - day : end - day;
+
+                // 한 경매에 같은 학생이 두 번 입찰하지 않도록 연속된 학생을 고른다
+                int first = random.nextInt(students);
+                for (int k = 0; k < bidsPerAuction; k++) {
+                    long sequence = (long) a * bidsPerAuction + k + 1;
+                    long amount = 1 + random.nextInt(50);
+                    long time = bidFrom + random.nextInt(24 * 3600) * 1000L;
+                    bids[k] = new long[] {amount, time, sequence, studentId((first + k) % students)};
+                }
+                if (!active) {
+                    Arrays.sort(bids, (x, y) -> x[0] != y[0] ? Long.compare(y[0], x[0])
+                        : x[1] != y[1] ? Long.compare(x[1], y[1]) : Long.compare(x[2], y[2]));
+                }
+
+                for (int rank = 0; rank < bidsPerAuction; rank++) {
+                    long[] b = bids[rank];
+                    boolean won = rank < slots[a - from];
+                    bid.setString(1, String.format("BID%07d", b[2]));
+                    bid.setLong(2, b[0]);
+                    bid.setTimestamp(3, new Timestamp(b[1]));
+                    bid.setString(4, active ? null : won ? "Y" : "N");
+                    bid.setString(5, auctionId(a));
+                    bid.setLong(6, b[3]);
+                    bid.addBatch();
+                    rows++;
+
+                    if (!active && won) {
+                        // 경매마다 MAX_SLOTS개씩 번호를 나눠 두어 청크끼리 겹치지 않게 한다
+                        enrollment.setString(1, String.format("E%07d", (long) (a - auctions) * MAX_SLOTS + rank + 1));
+                        enrollment.setLong(2, b[0]);
+                        enrollment.setTimestamp(3, new Timestamp(end));
+                        enrollment.setLong(4, b[3]);
+                        enrollment.setString(5, auctionSectionId(a));
+                        enrollment.addBatch();
+                        rows++;
+                    }
+                    if (++pending % BATCH_SIZE == 0) {
+                        bid.executeBatch();
+                        enrollment.executeBatch();
+                    }
+                }
+            }
+            bid.executeBatch();
+            enrollment.executeBatch();
+        }
+        return rows;
+    }
+
+    private long loadLogs(Connection conn, SplittableRandom random, int from, int to) throws SQLException {
+        String sql = "INSERT INTO Log (log_id, action_type, timestamp, details, student_id, auction_id) "
+            + "VALUES (?, ?, ?, ?, ?, NULL)";
+        long rows = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                int studentId = studentId(i);
+                for (int k = 0; k < logsPerStudent; k++) {
+                    String action = pickLogAction(random);
+                    pstmt.setString(1, String.format("L%07d", (long) i * logsPerStudent + k + 1));
+                    pstmt.setString(2, action);
+                    // 최근 30일에 고르게 흩어 둔다
+                    pstmt.setTimestamp(3, new Timestamp(now - random.nextLong(30L * 24 * 3600_000L)));
+                    pstmt.setString(4, logDetails(action, studentId));
+                    pstmt.setInt(5, studentId);
+                    pstmt.addBatch();
+                    if (++rows % BATCH_SIZE == 0) {
+                        pstmt.executeBatch();
+                    }
+                }
+            }
+            pstmt.executeBatch();
+        }
+        return rows;
+    }
+
+    /**
+     * 넣은 번호 다음부터 발급하도록 IdCounter를 맞춘다 (없으면 BlockIdAllocator가 MAX()로 전체 스캔을 하게 된다)
+     */
+    private void saveIdCounters() throws SQLException {
+        Connection conn = null;
+        PreparedStatement delete = null;
+        PreparedStatement insert = null;
+
+        try {
+            conn = DBConnection.getPool().getConnection();
+            delete = conn.prepareStatement("DELETE FROM IdCounter WHERE counter_name = ?");
+            insert = conn.prepareStatement("INSERT INTO IdCounter (counter_name, next_value) VALUES (?, ?)");
+            saveCounter(delete, insert, IdAllocators.BID, (long) getTotalAuctions() * bidsPerAuction);
+            saveCounter(delete, insert, IdAllocators.ENROLLMENT, (long) closedAuctions * MAX_SLOTS);
+            saveCounter(delete, insert, IdAllocators.LOG, (long) students * logsPerStudent);
+            conn.commit();
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            DBConnection.close(delete, null);
+            DBConnection.close(insert, conn);
+        }
+    }
+
+    private static void saveCounter(PreparedStatement delete, PreparedStatement insert, String name, long maxUsed)
+        throws SQLException {
+        delete.setString(1, name);
+        delete.executeUpdate();
+        insert.setString(1, name);
+        insert.setLong(2, maxUsed + 1);
+        insert.executeUpdate();
+    }
+
+    private static String pickLogAction(SplittableRandom random) {
+        int p = random.nextInt(100);
+        for (int i = 0; i < LOG_ACTIONS.length; i++) {
+            if (p < LOG_ACTION_PERCENTILES[i]) {
+                return LOG_ACTIONS[i];
+            }
+        }
+        return LOG_ACTIONS[0];
+    }
+
+    private static String logDetails(String action, int studentId) {
+        switch (action) {
+            case "LOGOUT":
+                return "Student " + studentId + " logout";
+            case "PROFILE_UPDATE":
+                return "Student " + studentId + " profile updated";
+            case "PASSWORD_CHANGE":
+                return "Student " + studentId + " changed password";
+            default:
+                return "Student " + studentId + " login";
+        }
+    }
+
+    private static void addBatch(PreparedStatement pstmt, int row) throws SQLException {
+        pstmt.addBatch();
+        if ((row + 1) % BATCH_SIZE == 0) {
+            pstmt.executeBatch();
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
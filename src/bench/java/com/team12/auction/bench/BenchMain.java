@@ -0,0 +1,132 @@
+package com.team12.auction.bench;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크 실행기
+ * <p>
+ * JMH 명령행 옵션을 그대로 받고 (예: BidBenchmarks -p students=50000 -rf json -rff before.json),
+ * -t를 주지 않으면 -Dbench.threads 목록(기본 1,2,4,8)의 스레드 수마다 한 번씩 돌린다.
+ * 끝나면 벤치마크/스레드 수별 처리량(ops/s)과 지연 시간 백분위(us)를 표로 출력한다.
+ */
+public final class BenchMain {
+
+    private static final String DEFAULT_THREADS = "1,2,4,8";
+
+    private BenchMain() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams() || cli.shouldListProfilers()
+            || cli.shouldListResultFormats()) {
+            try {
+                org.openjdk.jmh.Main.main(args);
+            } catch (Exception e) {
+                throw new RunnerException(e);
+            }
+            return;
+        }
+
+        List<Integer> threadCounts = new ArrayList<>();
+        if (cli.getThreads().hasValue()) {
+            threadCounts.add(cli.getThreads().get());
+        } else {
+            for (String value : System.getProperty("bench.threads", DEFAULT_THREADS).split(",")) {
+                threadCounts.add(Integer.parseInt(value.trim()));
+            }
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threads : threadCounts) {
+            System.out.println("[INFO] Running benchmarks with " + threads + " thread(s)");
+            Collection<RunResult> run = new Runner(new OptionsBuilder().parent(cli).threads(threads).build()).run();
+            results.addAll(run);
+        }
+        printSummary(results);
+    }
+
+    /**
+     * 처리량(Throughput)과 지연 시간(SampleTime) 결과를 한 줄로 묶어 출력한다.
+     */
+    static void printSummary(List<RunResult> results) {
+        Set<String> varyingParams = varyingParams(results);
+        Map<String, double[]> rows = new LinkedHashMap<>();
+
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            StringBuilder key = new StringBuilder(shortName(params.getBenchmark()));
+            for (String param : varyingParams) {
+                key.append(' ').append(param).append('=').append(params.getParam(param));
+            }
+            key.append('\t').append(params.getThreads());
+
+            double[] row = rows.computeIfAbsent(key.toString(), k -> new double[]{Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN});
+            double unitNanos = params.getTimeUnit().toNanos(1);
+            switch (params.getMode()) {
+                case Throughput:
+                    row[0] = result.getPrimaryResult().getScore() * TimeUnit.SECONDS.toNanos(1) / unitNanos;
+                    break;
+                case SampleTime:
+                    row[1] = result.getPrimaryResult().getScore() * unitNanos / 1000;
+                    row[2] = result.getPrimaryResult().getStatistics().getPercentile(50) * unitNanos / 1000;
+                    row[3] = result.getPrimaryResult().getStatistics().getPercentile(99) * unitNanos / 1000;
+                    row[4] = result.getPrimaryResult().getStatistics().getPercentile(99.9) * unitNanos / 1000;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-60s %7s %12s %10s %10s %10s %10s",
+            "Benchmark", "Threads", "ops/s", "mean(us)", "p50(us)", "p99(us)", "p99.9(us)"));
+        for (Map.Entry<String, double[]> entry : rows.entrySet()) {
+            String[] key = entry.getKey().split("\t");
+            double[] row = entry.getValue();
+            System.out.println(String.format("%-60s %7s %12.1f %10.1f %10.1f %10.1f %10.1f",
+                key[0], key[1], row[0], row[1], row[2], row[3], row[4]));
+        }
+    }
+
+    /**
+     * 실행 결과마다 값이 다른 파라미터 (표에 함께 적는다)
+     */
+    private static Set<String> varyingParams(List<RunResult> results) {
+        Map<String, Set<String>> values = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            for (String param : params.getParamsKeys()) {
+                values.computeIfAbsent(param, k -> new TreeSet<>()).add(params.getParam(param));
+            }
+        }
+        Set<String> varying = new TreeSet<>();
+        for (Map.Entry<String, Set<String>> entry : values.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                varying.add(entry.getKey());
+            }
+        }
+        return varying;
+    }
+
+    private static String shortName(String benchmark) {
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        return benchmark.substring(type + 1);
+    }
+}
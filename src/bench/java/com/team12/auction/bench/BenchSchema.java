@@ -0,0 +1,109 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.util.DBConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클래스패스의 bench/schema.sql로 테이블을 만든다 (H2 메모리 DB 또는 비워 둔 테스트 스키마용)
+ * <p>
+ * H2면 Oracle 호환 모드에 없는 함수(H2Functions)를 먼저 등록한다.
+ */
+public final class BenchSchema {
+
+    private static final String RESOURCE = "bench/schema.sql";
+
+    private BenchSchema() {
+    }
+
+    /**
+     * 테이블이 이미 있으면 아무것도 하지 않는다.
+     *
+     * @return 테이블을 새로 만들었으면 true
+     */
+    public static boolean createIfMissing() throws SQLException {
+        Connection conn = null;
+        Statement stmt = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            stmt = conn.createStatement();
+            if (isH2(conn)) {
+                for (String alias : H2Functions.ALIASES) {
+                    stmt.execute(alias);
+                }
+            }
+            if (exists(conn)) {
+                DBConnection.commit(conn);
+                return false;
+            }
+            for (String sql : statements()) {
+                stmt.execute(sql);
+            }
+            DBConnection.commit(conn);
+            System.out.println("[OK] Bench schema created");
+            return true;
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            if (stmt != null) {
+                stmt.close();
+            }
+            DBConnection.close(conn);
+        }
+    }
+
+    private static boolean isH2(Connection conn) throws SQLException {
+        return conn.getMetaData().getDatabaseProductName().startsWith("H2");
+    }
+
+    private static boolean exists(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("SELECT COUNT(*) FROM Student").close();
+            return true;
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            return false;
+        }
+    }
+
+    /**
+     * 주석을 빼고 ;로 나눈 문장 목록
+     */
+    static List<String> statements() {
+        String script;
+        try (InputStream input = BenchSchema.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(RESOURCE + " not found on classpath");
+            }
+            script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + RESOURCE, e);
+        }
+
+        StringBuilder current = new StringBuilder();
+        List<String> statements = new ArrayList<>();
+        for (String line : script.split("\n")) {
+            int comment = line.indexOf("--");
+            String code = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (code.isEmpty()) {
+                continue;
+            }
+            current.append(code).append(' ');
+            if (code.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        return statements;
+    }
+}
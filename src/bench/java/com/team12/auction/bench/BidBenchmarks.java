@@ -0,0 +1,151 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.dao.BidDAO;
+import com.team12.auction.model.entity.Bid;
+import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.TransactionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 경로 벤치마크 (BidDAO)
+ * <p>
+ * insertBid는 실행할수록 Bid 테이블이 커지므로 같은 조건끼리만 비교한다.
+ * finalizeAuctionBids는 매 호출 전에 경매 하나의 마감 결과(입찰 표시, 수강신청, 학생 장부, 분반 카운터)를
+ * 되돌려 두고 잰다 (되돌리는 시간은 제외).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidBenchmarks {
+
+    private final BidDAO bidDAO = new BidDAO();
+
+    @Benchmark
+    public Bid insertBid(BenchDatabase db) throws SQLException {
+        Bid bid = new Bid();
+        bid.setAuctionId(db.randomAuctionId());
+        bid.setStudentId(db.randomStudentId());
+        bid.setBidAmount(db.randomBidAmount());
+        bidDAO.insertBid(bid);
+        return bid;
+    }
+
+    @Benchmark
+    public int calculateProspectiveRank(BenchDatabase db) throws SQLException {
+        return bidDAO.calculateProspectiveRank(db.randomAuctionId(), db.randomBidAmount());
+    }
+
+    @Benchmark
+    public String finalizeAuctionBids(ClearingTarget target) throws SQLException {
+        return TransactionUtil.execute(conn -> {
+            bidDAO.finalizeAuctionBids(conn, target.auctionId, target.availableSlots, target.sectionId);
+            return target.auctionId;
+        });
+    }
+
+    /**
+     * 스레드마다 겹치지 않는 경매를 돌아가며 고르고, 호출 전에 이전 마감 결과를 되돌린다.
+     * <p>
+     * 장부(StudentLedger)는 applyAuctionClearing의 반대로 되돌리고, 지운 수강신청 수만큼 분반 카운터를 줄인다.
+     * 그래야 반복해서 마감해도 학생 잔액과 분반 인원이 처음 데이터와 같게 유지된다.
+     */
+    @State(Scope.Thread)
+    public static class ClearingTarget {
+        private BenchDatabase db;
+        private int next;
+        private int step;
+
+        String auctionId;
+        String sectionId;
+        int availableSlots;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchDatabase db, ThreadParams threads) {
+            this.db = db;
+            this.next = threads.getThreadIndex();
+            this.step = threads.getThreadCount();
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() throws SQLException {
+            int auctions = db.getDataset().getAuctions();
+            int index = next % auctions;
+            next += step;
+
+            auctionId = BenchDataset.auctionId(index);
+            sectionId = db.getDataset().auctionSectionId(index);
+
+            Connection conn = null;
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+
+            try {
+                conn = DBConnection.getConnection();
+                pstmt = conn.prepareStatement("SELECT available_slots FROM Auction WHERE auction_id = ?");
+                pstmt.setString(1, auctionId);
+                rs = pstmt.executeQuery();
+                availableSlots = rs.next() ? rs.getInt(1) : 0;
+                DBConnection.close(rs, pstmt, null);
+
+                // 마감 때 옮긴 포인트/학점을 되돌린다 (아직 마감되지 않은 경매면 대상 행이 없음)
+                pstmt = conn.prepareStatement("UPDATE StudentLedger l SET "
+                    + "spent_points = spent_points - (SELECT NVL(SUM(CASE WHEN b.is_successful = 'Y' THEN b.bid_amount ELSE 0 END), 0) "
+                    + "  FROM Bid b WHERE b.auction_id = ? AND b.student_id = l.student_id), "
+                    + "committed_points = committed_points + (SELECT NVL(SUM(b.bid_amount), 0) "
+                    + "  FROM Bid b WHERE b.auction_id = ? AND b.student_id = l.student_id AND b.is_successful IS NOT NULL), "
+                    + "enrolled_credits = enrolled_credits - ? * (SELECT COUNT(*) "
+                    + "  FROM Bid b WHERE b.auction_id = ? AND b.student_id = l.student_id AND b.is_successful = 'Y') "
+                    + "WHERE l.student_id IN (SELECT student_id FROM Bid WHERE auction_id = ? AND is_successful IS NOT NULL)");
+                pstmt.setString(1, auctionId);
+                pstmt.setString(2, auctionId);
+                pstmt.setInt(3, CatalogCache.getCredits(sectionId));
+                pstmt.setString(4, auctionId);
+                pstmt.setString(5, auctionId);
+                pstmt.executeUpdate();
+                pstmt.close();
+
+                // 이 경매 낙찰자의 수강신청만 지운다
+                pstmt = conn.prepareStatement("DELETE FROM Enrollment WHERE section_id = ? AND enrollment_source = 'FROM_AUCTION' "
+                    + "AND student_id IN (SELECT student_id FROM Bid WHERE auction_id = ? AND is_successful = 'Y')");
+                pstmt.setString(1, sectionId);
+                pstmt.setString(2, auctionId);
+                int removed = pstmt.executeUpdate();
+                pstmt.close();
+
+                pstmt = conn.prepareStatement("UPDATE Bid SET is_successful = NULL WHERE auction_id = ?");
+                pstmt.setString(1, auctionId);
+                pstmt.executeUpdate();
+
+                DBConnection.commit(conn);
+                SectionCounters.enrollmentChanged(sectionId, -removed);
+            } catch (SQLException e) {
+                DBConnection.rollback(conn);
+                throw e;
+            } finally {
+                DBConnection.close(pstmt, conn);
+            }
+        }
+    }
+}
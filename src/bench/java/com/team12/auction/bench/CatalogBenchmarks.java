@@ -0,0 +1,55 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.dao.BasketDAO;
+import com.team12.auction.dao.SectionDAO;
+import com.team12.auction.model.dto.BasketItemDetail;
+import com.team12.auction.model.dto.SectionSearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의 검색/수강꾸러미 조회 벤치마크 (SectionDAO, BasketDAO)
+ * <p>
+ * 검색어는 적재한 과목명에서 고르므로 매번 결과가 있다.
+ * warmCaches=false면 인원 수를 GROUP BY 조인으로, true면 분반 카운터로 채우는 경로를 잰다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogBenchmarks {
+
+    private final SectionDAO sectionDAO = new SectionDAO();
+    private final BasketDAO basketDAO = new BasketDAO();
+
+    @Benchmark
+    public List<SectionSearchResult> searchSectionsByKeyword(BenchDatabase db) throws SQLException {
+        String[] subjects = BenchDataset.SUBJECTS;
+        return sectionDAO.searchSections(subjects[ThreadLocalRandom.current().nextInt(subjects.length)], null);
+    }
+
+    @Benchmark
+    public List<SectionSearchResult> searchSectionsByDepartment(BenchDatabase db) throws SQLException {
+        String[] departments = BenchDataset.DEPARTMENTS;
+        return sectionDAO.searchSections(null, departments[ThreadLocalRandom.current().nextInt(departments.length)]);
+    }
+
+    @Benchmark
+    public List<BasketItemDetail> getMyBasket(BenchDatabase db) throws SQLException {
+        return basketDAO.getMyBasket(db.randomStudentId());
+    }
+}
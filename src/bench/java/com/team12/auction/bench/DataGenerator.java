@@ -0,0 +1,54 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.util.DBConnection;
+
+import java.sql.SQLException;
+
+/**
+ * 운영 규모 데이터 생성기
+ * <p>
+ * 기본값은 학생 5만, 강의 5천, 분반 2만, 수강꾸러미 20만, 입찰 200만(경매 1만 중 9천은 마감), 로그 500만 건이다.
+ * src/bench/resources/db.properties의 DB(파일 H2 또는 비워 둔 Oracle 스키마)에 한 번 적재해 두면,
+ * 같은 규모 값을 준 벤치마크(-p)와 부하 테스트(-Dload.*)는 적재를 건너뛰고 그 데이터를 그대로 쓴다.
+ * 설정은 시스템 속성(-Ddatagen.*)이며 docs/BENCHMARK.md에 정리되어 있다.
+ */
+public final class DataGenerator {
+
+    private DataGenerator() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int students = Integer.getInteger("datagen.students", 50_000);
+        int courses = Integer.getInteger("datagen.courses", 5_000);
+        int sectionsPerCourse = Integer.getInteger("datagen.sectionsPerCourse", 4);
+        int basketItemsPerStudent = Integer.getInteger("datagen.basketItemsPerStudent", 4);
+        int auctions = Integer.getInteger("datagen.auctions", 1_000);
+        int closedAuctions = Integer.getInteger("datagen.closedAuctions", 9_000);
+        int bidsPerAuction = Integer.getInteger("datagen.bidsPerAuction", 200);
+        int logsPerStudent = Integer.getInteger("datagen.logsPerStudent", 100);
+        long seed = Long.getLong("datagen.seed", 42);
+        int threads = Integer.getInteger("datagen.threads",
+            Math.min(8, Math.min(Runtime.getRuntime().availableProcessors(), DBConnection.getPool().getMaxSize())));
+
+        BenchDataset dataset = new BenchDataset(students, courses, sectionsPerCourse, basketItemsPerStudent,
+            auctions, bidsPerAuction, seed);
+        dataset.setClosedAuctions(closedAuctions);
+        dataset.setLogsPerStudent(logsPerStudent);
+        dataset.setThreads(threads);
+
+        try {
+            BenchSchema.createIfMissing();
+            dataset.load();
+        } finally {
+            DBConnection.shutdown();
+        }
+
+        // 이 데이터를 그대로 쓰려면 벤치마크/부하 테스트에 같은 규모를 줘야 한다 (경매-분반 대응이 규모로 정해짐)
+        String sizes = "students=" + students + " courses=" + courses + " sectionsPerCourse=" + sectionsPerCourse
+            + " basketItemsPerStudent=" + basketItemsPerStudent + " auctions=" + auctions
+            + " closedAuctions=" + dataset.getClosedAuctions() + " bidsPerAuction=" + bidsPerAuction
+            + " logsPerStudent=" + logsPerStudent + " seed=" + seed;
+        System.out.println("[INFO] Benchmarks:  -p " + sizes.replace(" ", " -p "));
+        System.out.println("[INFO] Load test:   -Dload." + sizes.replace(" ", " -Dload."));
+    }
+}
@@ -0,0 +1,20 @@
+package com.team12.auction.bench;
+
+import java.math.BigDecimal;
+
+/**
+ * H2 Oracle 호환 모드에 없는 Oracle 함수 (BenchSchema가 CREATE ALIAS로 등록)
+ */
+public final class H2Functions {
+
+    static final String[] ALIASES = {
+        "CREATE ALIAS IF NOT EXISTS TO_NUMBER FOR 'com.team12.auction.bench.H2Functions.toNumber'"
+    };
+
+    private H2Functions() {
+    }
+
+    public static BigDecimal toNumber(String value) {
+        return value == null ? null : new BigDecimal(value.trim());
+    }
+}
@@ -0,0 +1,64 @@
+package com.team12.auction.bench;
+
+import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.IdAllocators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 발급 벤치마크 (IdAllocators)
+ * <p>
+ * maxPlusOneQuery는 블록 발급 전 방식(MAX()+1 조회)의 비용을 비교용으로 잰다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmarks {
+
+    @Benchmark
+    public String bidSequence(BenchDatabase db) throws SQLException {
+        return IdAllocators.bid().nextId();
+    }
+
+    @Benchmark
+    public String logId(BenchDatabase db) throws SQLException {
+        return IdAllocators.log().nextId();
+    }
+
+    /**
+     * 경매 마감 한 번에 낙찰자 수만큼 수강신청 번호를 예약하는 경로
+     */
+    @Benchmark
+    public long enrollmentRange(BenchDatabase db) throws SQLException {
+        return IdAllocators.enrollment().reserveRange(5);
+    }
+
+    @Benchmark
+    public long maxPlusOneQuery(BenchDatabase db) throws SQLException {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            pstmt = conn.prepareStatement("SELECT NVL(MAX(TO_NUMBER(SUBSTR(bid_sequence, 4))), 0) + 1 FROM Bid");
+            rs = pstmt.executeQuery();
+            return rs.next() ? rs.getLong(1) : 1;
+        } finally {
+            DBConnection.close(rs, pstmt, conn);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.team12.auction.load;
+
+import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.LatencyHistogram;
+import com.team12.auction.util.SqlMetrics;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 출력 (단계별 표 + 마지막 요약)
+ * <p>
+ * 지연 시간은 모두 밀리초이고, 별도 표시가 없으면 coordinated omission을 보정한 값이다.
+ */
+public final class LoadReport {
+
+    private final PrintStream out;
+    private final long sloP99Micros;
+    private final double maxErrorRate;
+
+    public LoadReport(PrintStream out, long sloP99Ms, double maxErrorRate) {
+        this.out = out;
+        this.sloP99Micros = sloP99Ms * 1000;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    /**
+     * 단계 하나의 단계별(로그인, 검색...) 결과
+     *
+     * @param embedded 같은 JVM의 서버면 커넥션 풀과 SQL 통계도 출력
+     */
+    public void printStage(int number, LoadStage stage, boolean embedded) {
+        out.println();
+        out.println(String.format("== Stage %d: target %.1f/s, achieved %.1f/s, journeys started=%d completed=%d aborted=%d queued=%d",
+            number, stage.getRate(), stage.getAchievedRate(), stage.getStarted(), stage.getCompleted(), stage.getAborted(),
+            stage.getQueued()));
+        out.println(String.format("%-12s %8s %8s %8s %7s %6s %9s %9s %9s %9s %9s %12s",
+            "step", "count", "ok", "rejected", "errors", "err%", "p50", "p90", "p99", "p99.9", "max", "service p99"));
+        for (StepStats step : stage.getSteps()) {
+            LatencyHistogram.Snapshot corrected = step.getCorrected().snapshot();
+            LatencyHistogram.Snapshot service = step.getService().snapshot();
+            out.println(String.format("%-12s %8d %8d %8d %7d %6.2f %9s %9s %9s %9s %9s %12s",
+                step.getName(), step.getTotal(), step.getOk(), step.getRejected(), step.getErrors(), step.getErrorRate() * 100,
+                ms(corrected.percentile(0.50)), ms(corrected.percentile(0.90)), ms(corrected.percentile(0.99)),
+                ms(corrected.percentile(0.999)), ms(step.getCorrected().getMaxMicros()), ms(service.percentile(0.99))));
+        }
+        LatencyHistogram.Snapshot journey = stage.getJourney().snapshot();
+        out.println(String.format("%-12s %8d %8s %8s %7s %6s %9s %9s %9s %9s %9s",
+            "journey", stage.getCompleted(), "", "", "", "",
+            ms(journey.percentile(0.50)), ms(journey.percentile(0.90)), ms(journey.percentile(0.99)),
+            ms(journey.percentile(0.999)), ms(stage.getJourney().getMaxMicros())));
+
+        for (StepStats step : stage.getSteps()) {
+            if (!step.getErrorReasons().isEmpty()) {
+                out.println("  errors in " + step.getName() + ": " + step.getErrorReasons());
+            }
+        }
+        if (embedded) {
+            out.println("  server pool: " + DBConnection.getPool().describe());
+            List<SqlMetrics.StatementStats> statements = SqlMetrics.getStatements();
+            for (int i = 0; i < Math.min(3, statements.size()); i++) {
+                SqlMetrics.StatementStats statement = statements.get(i);
+                out.println(String.format("  sql #%d (since start) total=%sms execs=%d p99=%sms: %s", i + 1,
+                    ms(statement.getLatency().getTotalMicros()), statement.getExecutions(),
+                    ms(statement.getLatency().snapshot().percentile(0.99)), abbreviate(statement.getSql(), 120)));
+            }
+        }
+    }
+
+    /**
+     * 단계별 한 줄 요약과 포화 지점
+     */
+    public void printSummary(List<LoadStage> stages) {
+        out.println();
+        out.println("== Summary (SLO: step p99 <= " + ms(sloP99Micros) + "ms, error rate <= "
+            + String.format("%.1f", maxErrorRate * 100) + "%)");
+        out.println(String.format("%-6s %9s %9s %11s %6s %12s %-24s", "stage", "target/s", "achieved", "completed/s",
+            "err%", "journey p99", "slowest step (p99)"));
+
+        LoadStage lastGood = null;
+        LoadStage firstBad = null;
+        for (int i = 0; i < stages.size(); i++) {
+            LoadStage stage = stages.get(i);
+            StepStats slowest = slowestStep(stage);
+            out.println(String.format("%-6d %9.1f %9.1f %11.1f %6.2f %12s %-24s", i + 1, stage.getRate(),
+                stage.getAchievedRate(), stage.getCompletedRate(), stage.getErrorRate() * 100,
+                ms(stage.getJourney().snapshot().percentile(0.99)),
+                slowest == null ? "-" : slowest.getName() + " (" + ms(p99(slowest)) + "ms)"));
+
+            if (firstBad == null) {
+                if (violation(stage) == null) {
+                    lastGood = stage;
+                } else {
+                    firstBad = stage;
+                }
+            }
+        }
+
+        out.println();
+        if (firstBad == null) {
+            out.println("No stage broke the SLO; raise load.rates to find the saturation point.");
+            return;
+        }
+        out.println("Saturation: " + (lastGood == null ? "already over SLO at the first stage"
+            : String.format("last stage within SLO at %.1f journeys/s", lastGood.getRate())));
+        out.println(String.format("Breaks first at %.1f journeys/s: %s", firstBad.getRate(), violation(firstBad)));
+    }
+
+    /**
+     * SLO를 어긴 내용 (없으면 null). 오류가 먼저, 그다음 지연 시간.
+     */
+    private String violation(LoadStage stage) {
+        StepStats worstErrors = null;
+        for (StepStats step : stage.getSteps()) {
+            if (step.getErrorRate() > maxErrorRate && (worstErrors == null || step.getErrorRate() > worstErrors.getErrorRate())) {
+                worstErrors = step;
+            }
+        }
+        if (worstErrors != null) {
+            return String.format("%s error rate %.2f%% %s", worstErrors.getName(), worstErrors.getErrorRate() * 100,
+                topReason(worstErrors.getErrorReasons()));
+        }
+        StepStats slowest = slowestStep(stage);
+        if (slowest != null && p99(slowest) > sloP99Micros) {
+            return String.format("%s p99 %sms (service p99 %sms)", slowest.getName(), ms(p99(slowest)),
+                ms(slowest.getService().snapshot().percentile(0.99)));
+        }
+        return null;
+    }
+
+    private static StepStats slowestStep(LoadStage stage) {
+        StepStats slowest = null;
+        for (StepStats step : stage.getSteps()) {
+            if (step.getTotal() > 0 && (slowest == null || p99(step) > p99(slowest))) {
+                slowest = step;
+            }
+        }
+        return slowest;
+    }
+
+    private static long p99(StepStats step) {
+        return step.getCorrected().snapshot().percentile(0.99);
+    }
+
+    private static String topReason(Map<String, Long> reasons) {
+        String top = null;
+        long count = 0;
+        for (Map.Entry<String, Long> entry : reasons.entrySet()) {
+            if (entry.getValue() > count) {
+                top = entry.getKey();
+                count = entry.getValue();
+            }
+        }
+        return top == null ? "" : "(mostly " + top + " x" + count + ")";
+    }
+
+    private static String ms(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private static String abbreviate(String sql, int max) {
+        return sql.length() <= max ? sql : sql.substring(0, max) + "...";
+    }
+}
@@ -0,0 +1,84 @@
+package com.team12.auction.load;
+
+import com.team12.auction.AppInitializer;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.loader.WebappLoader;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.webresources.DirResourceSet;
+import org.apache.catalina.webresources.StandardRoot;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+
+/**
+ * 부하 테스트용 내장 Tomcat
+ * <p>
+ * src/main/webapp을 그대로 올리고, 컴파일된 클래스 폴더를 /WEB-INF/classes로 붙여 @WebServlet/@WebFilter/@WebListener를 찾게 한다.
+ * 웹앱 클래스로더는 부모 우선으로 두어 부하 발생기와 서블릿이 같은 DBConnection/캐시를 쓰게 한다 (서버 쪽 지표를 바로 읽을 수 있음).
+ */
+public final class LoadServer {
+
+    public static final String CONTEXT_PATH = "/ProjectDBPhase4";
+
+    private final Tomcat tomcat = new Tomcat();
+    private int port;
+
+    /**
+     * @param port       0이면 빈 포트
+     * @param maxThreads 요청 처리 스레드 최대 수 (Tomcat 기본 200)
+     */
+    public void start(String webappDir, int port, int maxThreads) throws LifecycleException, IOException {
+        File baseDir = Files.createTempDirectory("auction-load-tomcat").toFile();
+        baseDir.deleteOnExit();
+        tomcat.setBaseDir(baseDir.getAbsolutePath());
+        tomcat.setPort(port);
+        tomcat.getConnector().setProperty("maxThreads", String.valueOf(maxThreads));
+
+        Context ctx = tomcat.addWebapp(CONTEXT_PATH, new File(webappDir).getAbsolutePath());
+
+        WebappLoader loader = new WebappLoader();
+        loader.setDelegate(true);
+        ctx.setLoader(loader);
+        ctx.setParentClassLoader(LoadServer.class.getClassLoader());
+
+        WebResourceRoot resources = new StandardRoot(ctx);
+        resources.addPreResources(new DirResourceSet(resources, "/WEB-INF/classes", classesDir(), "/"));
+        ctx.setResources(resources);
+
+        tomcat.start();
+        this.port = tomcat.getConnector().getLocalPort();
+        System.out.println("[OK] Embedded Tomcat started on port " + this.port + " (maxThreads=" + maxThreads + ")");
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + port + CONTEXT_PATH;
+    }
+
+    public void stop() {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } catch (LifecycleException e) {
+            System.err.println("[WARN] Failed to stop embedded Tomcat: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 클래스가 들어 있는 폴더 (run.sh의 build/bench/classes)
+     */
+    private static String classesDir() {
+        try {
+            File location = new File(AppInitializer.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!location.isDirectory()) {
+                throw new IllegalStateException("Application classes must be a directory, not " + location);
+            }
+            return location.getAbsolutePath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
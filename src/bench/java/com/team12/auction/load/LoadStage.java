@@ -0,0 +1,122 @@
+package com.team12.auction.load;
+
+import com.team12.auction.util.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도착률 단계 하나 (예: 초당 20명을 60초 동안)의 결과
+ * <p>
+ * 이 단계에서 시작한 수강신청 흐름은 단계가 끝난 뒤에 완료되어도 이 단계에 기록한다.
+ */
+public final class LoadStage {
+
+    private final double rate;
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final LatencyHistogram journey = new LatencyHistogram();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+
+    private long startedAtNanos;
+    private long endedAtNanos;
+
+    public LoadStage(double rate) {
+        this.rate = rate;
+        for (String step : StudentJourney.STEPS) {
+            steps.put(step, new StepStats(step));
+        }
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public StepStats step(String name) {
+        return steps.get(name);
+    }
+
+    public Iterable<StepStats> getSteps() {
+        return steps.values();
+    }
+
+    void journeyStarted() {
+        started.increment();
+    }
+
+    /**
+     * 동시 실행 한도에 걸려 기다린 흐름
+     */
+    void journeyQueued() {
+        queued.increment();
+    }
+
+    void journeyFinished(long intendedNanos, long doneNanos, boolean completedAllSteps) {
+        if (completedAllSteps) {
+            completed.increment();
+            journey.record(doneNanos - intendedNanos);
+        } else {
+            aborted.increment();
+        }
+    }
+
+    void markStarted(long nanos) {
+        startedAtNanos = nanos;
+    }
+
+    void markEnded(long nanos) {
+        endedAtNanos = nanos;
+    }
+
+    public LatencyHistogram getJourney() {
+        return journey;
+    }
+
+    public long getStarted() {
+        return started.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getAborted() {
+        return aborted.sum();
+    }
+
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    /**
+     * 실제 도착률 (흐름/초)
+     */
+    public double getAchievedRate() {
+        long nanos = endedAtNanos - startedAtNanos;
+        return nanos <= 0 ? 0 : getStarted() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * 도착 구간 길이 기준 완료율 (흐름/초)
+     */
+    public double getCompletedRate() {
+        long nanos = endedAtNanos - startedAtNanos;
+        return nanos <= 0 ? 0 : getCompleted() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * 모든 단계의 오류 비율
+     */
+    public double getErrorRate() {
+        long total = 0;
+        long errors = 0;
+        for (StepStats step : steps.values()) {
+            total += step.getTotal();
+            errors += step.getErrors();
+        }
+        return total == 0 ? 0 : (double) errors / total;
+    }
+}
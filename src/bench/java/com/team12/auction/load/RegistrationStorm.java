@@ -0,0 +1,233 @@
+package com.team12.auction.load;
+
+import com.team12.auction.bench.BenchDataset;
+import com.team12.auction.bench.BenchSchema;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 수강신청 오픈 상황 부하 테스트
+ * <p>
+ * 도착률(load.rates, 흐름/초)을 단계별로 올리며 학생 흐름(StudentJourney)을 포아송 분포로 시작시킨다 (open model).
+ * 서버가 느려져도 도착은 예정대로 계속되고, 지연 시간은 예정 시각부터 재므로 coordinated omission이 생기지 않는다.
+ * 단계마다 도착 구간이 끝나면 진행 중인 흐름이 끝나기를 기다린 뒤 결과를 출력하고,
+ * 오류 비율이 load.maxErrorRate를 넘으면 다음 단계로 가지 않는다.
+ * <p>
+ * load.baseUrl이 비어 있으면 H2 메모리 DB에 데이터를 채우고 내장 Tomcat에 앱을 올려서 테스트한다.
+ * 설정은 모두 시스템 속성(-Dload.*)이며 docs/BENCHMARK.md에 정리되어 있다.
+ */
+public final class RegistrationStorm {
+
+    private RegistrationStorm() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.baseUrl", "");
+        double[] rates = parseRates(System.getProperty("load.rates", "5,10,20,40"));
+        long stageSeconds = Long.getLong("load.stageSeconds", 30);
+        int concurrency = Integer.getInteger("load.concurrency", 1000);
+        long thinkTimeMs = Long.getLong("load.thinkTimeMs", 500);
+        long timeoutMs = Long.getLong("load.requestTimeoutMs", 10000);
+        long drainSeconds = Long.getLong("load.drainSeconds", 60);
+        int warmupJourneys = Integer.getInteger("load.warmupJourneys", 20);
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.05"));
+        long sloP99Ms = Long.getLong("load.sloP99Ms", 2000);
+        long seed = Long.getLong("load.seed", 42);
+        String reportFile = System.getProperty("load.reportFile", "");
+
+        BenchDataset dataset = new BenchDataset(
+            Integer.getInteger("load.students", 5000),
+            Integer.getInteger("load.courses", 500),
+            Integer.getInteger("load.sectionsPerCourse", 3),
+            Integer.getInteger("load.basketItemsPerStudent", 3),
+            Integer.getInteger("load.auctions", 300),
+            Integer.getInteger("load.bidsPerAuction", 50),
+            seed);
+        dataset.setClosedAuctions(Integer.getInteger("load.closedAuctions", 0));
+        dataset.setLogsPerStudent(Integer.getInteger("load.logsPerStudent", 0));
+        dataset.setThreads(Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+        boolean embedded = baseUrl.isEmpty();
+        LoadServer server = null;
+        if (embedded) {
+            BenchSchema.createIfMissing();
+            dataset.load();
+            server = new LoadServer();
+            server.start(System.getProperty("load.webappDir", "src/main/webapp"), Integer.getInteger("load.port", 0),
+                Integer.getInteger("load.server.maxThreads", 200));
+            baseUrl = server.getBaseUrl();
+        }
+
+        PrintStream report = reportFile.isEmpty() ? System.out
+            : new PrintStream(new TeeOutputStream(System.out, new FileOutputStream(reportFile)), true, StandardCharsets.UTF_8);
+        LoadReport printer = new LoadReport(report, sloP99Ms, maxErrorRate);
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(timeoutMs))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        Random random = new Random(seed);
+        Semaphore permits = new Semaphore(concurrency);
+        JourneyFactory factory = new JourneyFactory(client, baseUrl, Duration.ofMillis(timeoutMs), permits,
+            TimeUnit.MILLISECONDS.toNanos(thinkTimeMs), dataset, random);
+
+        try {
+            if (warmupJourneys > 0) {
+                // JSP 컴파일과 캐시 적재가 첫 단계 결과에 섞이지 않도록 먼저 몇 번 돌려 둔다
+                LoadStage warmup = new LoadStage(0);
+                for (int i = 0; i < warmupJourneys; i++) {
+                    factory.create(warmup, System.nanoTime()).run();
+                }
+                System.out.println("[INFO] Warm-up done (" + warmup.getCompleted() + "/" + warmupJourneys + " journeys completed)");
+            }
+
+            List<LoadStage> stages = new ArrayList<>();
+            for (double rate : rates) {
+                LoadStage stage = new LoadStage(rate);
+                stages.add(stage);
+                System.out.println("[INFO] Stage " + stages.size() + ": " + rate + " journeys/s for " + stageSeconds + "s");
+                runStage(stage, factory, random, stageSeconds, drainSeconds);
+                printer.printStage(stages.size(), stage, embedded);
+                if (stage.getErrorRate() > maxErrorRate) {
+                    System.out.println("[WARN] Error rate " + String.format("%.2f%%", stage.getErrorRate() * 100)
+                        + " exceeds load.maxErrorRate, stopping");
+                    break;
+                }
+            }
+            printer.printSummary(stages);
+        } finally {
+            if (report != System.out) {
+                report.close();
+            }
+            if (server != null) {
+                server.stop();
+            }
+        }
+    }
+
+    /**
+     * 도착 구간 동안 흐름을 예정 시각에 시작시키고, 끝나면 진행 중인 흐름을 기다린다.
+     */
+    private static void runStage(LoadStage stage, JourneyFactory factory, Random random, long stageSeconds,
+                                 long drainSeconds) throws InterruptedException {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(stageSeconds);
+        double meanGapNanos = 1_000_000_000.0 / stage.getRate();
+        stage.markStarted(start);
+
+        long next = start;
+        while (true) {
+            // 포아송 도착: 간격은 지수 분포
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (next >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(factory.create(stage, next));
+        }
+        stage.markEnded(end);
+
+        executor.shutdown();
+        if (!executor.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+            System.err.println("[WARN] Journeys still running after " + drainSeconds + "s, interrupting");
+            executor.shutdownNow();
+        }
+    }
+
+    private static double[] parseRates(String value) {
+        String[] parts = value.split(",");
+        double[] rates = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            rates[i] = Double.parseDouble(parts[i].trim());
+        }
+        return rates;
+    }
+
+    /**
+     * 흐름마다 학생/검색어/경매/입찰 금액을 seed 기반으로 고른다 (같은 seed면 같은 순서).
+     * 담는 분반은 입찰할 경매의 분반이라 입찰 조건(수강꾸러미에 있음)을 만족한다.
+     * 미리 넣은 입찰은 1~50포인트라서, 입찰 금액은 대부분 수강 가능 인원 안에 들도록 그보다 높게 잡는다.
+     */
+    private static final class JourneyFactory {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final Duration timeout;
+        private final Semaphore permits;
+        private final long thinkTimeNanos;
+        private final BenchDataset dataset;
+        private final Random random;
+
+        private JourneyFactory(HttpClient client, String baseUrl, Duration timeout, Semaphore permits, long thinkTimeNanos,
+                               BenchDataset dataset, Random random) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.timeout = timeout;
+            this.permits = permits;
+            this.thinkTimeNanos = thinkTimeNanos;
+            this.dataset = dataset;
+            this.random = random;
+        }
+
+        private StudentJourney create(LoadStage stage, long intendedStartNanos) {
+            int auction = random.nextInt(dataset.getAuctions());
+            String keyword = BenchDataset.searchKeyword(random);
+            return new StudentJourney(client, baseUrl, timeout, stage, permits, intendedStartNanos, thinkTimeNanos,
+                BenchDataset.studentId(random.nextInt(dataset.getStudents())), BenchDataset.PASSWORD, keyword,
+                dataset.auctionSectionId(auction), BenchDataset.auctionId(auction), 40 + random.nextInt(60));
+        }
+    }
+
+    /**
+     * 보고서를 화면과 파일에 함께 쓴다.
+     */
+    private static final class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            second.close();
+        }
+    }
+}
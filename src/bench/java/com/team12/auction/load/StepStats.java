@@ -0,0 +1,96 @@
+package com.team12.auction.load;
+
+import com.team12.auction.util.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계 하나(예: 로그인)의 결과 누적
+ * <p>
+ * 지연 시간은 두 가지로 기록한다.
+ * <ul>
+ *     <li>corrected: 예정 시각(도착 시각, 이전 단계 종료 + 생각 시간)부터 응답 완료까지 - 밀려서 늦게 보낸 시간도 포함 (coordinated omission 보정)</li>
+ *     <li>service: 실제로 요청을 보낸 시각부터 응답 완료까지</li>
+ * </ul>
+ * 결과는 ok(정상), rejected(화면에 업무 오류 메시지, 예: 이미 입찰함), error(5xx/4xx/연결 실패/시간 초과/세션 끊김)로 나눈다.
+ */
+public final class StepStats {
+
+    private final String name;
+    private final LatencyHistogram corrected = new LatencyHistogram();
+    private final LatencyHistogram service = new LatencyHistogram();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorReasons = new ConcurrentHashMap<>();
+
+    public StepStats(String name) {
+        this.name = name;
+    }
+
+    public void recordOk(long intendedNanos, long sentNanos, long doneNanos) {
+        record(intendedNanos, sentNanos, doneNanos);
+        ok.increment();
+    }
+
+    public void recordRejected(long intendedNanos, long sentNanos, long doneNanos) {
+        record(intendedNanos, sentNanos, doneNanos);
+        rejected.increment();
+    }
+
+    public void recordError(long intendedNanos, long sentNanos, long doneNanos, String reason) {
+        record(intendedNanos, sentNanos, doneNanos);
+        errors.increment();
+        errorReasons.computeIfAbsent(reason, k -> new LongAdder()).increment();
+    }
+
+    private void record(long intendedNanos, long sentNanos, long doneNanos) {
+        corrected.record(doneNanos - intendedNanos);
+        service.record(doneNanos - sentNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getCorrected() {
+        return corrected;
+    }
+
+    public LatencyHistogram getService() {
+        return service;
+    }
+
+    public long getOk() {
+        return ok.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTotal() {
+        return getOk() + getRejected() + getErrors();
+    }
+
+    public double getErrorRate() {
+        long total = getTotal();
+        return total == 0 ? 0 : (double) getErrors() / total;
+    }
+
+    /**
+     * 오류 원인별 횟수 (예: "HTTP 500", "HttpTimeoutException", "session lost")
+     */
+    public Map<String, Long> getErrorReasons() {
+        Map<String, Long> reasons = new TreeMap<>();
+        errorReasons.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        return reasons;
+    }
+}
@@ -0,0 +1,224 @@
+package com.team12.auction.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 학생 한 명의 수강신청 흐름
+ * <p>
+ * 로그인 → 강의 검색 → 수강꾸러미 담기 → 경매 목록 → 입찰 → 마이페이지 순서로 요청하고,
+ * 각 단계 사이에는 생각 시간을 둔다. 세션 쿠키는 이 흐름 안에서만 쓴다.
+ * 오류가 나면 그 뒤 단계는 건너뛴다 (업무 거절은 계속 진행).
+ */
+public final class StudentJourney implements Runnable {
+
+    public static final String LOGIN = "login";
+    public static final String SEARCH = "search";
+    public static final String BASKET_ADD = "basketAdd";
+    public static final String AUCTION_LIST = "auctionList";
+    public static final String BID = "bid";
+    public static final String MYPAGE = "mypage";
+    public static final List<String> STEPS = List.of(LOGIN, SEARCH, BASKET_ADD, AUCTION_LIST, BID, MYPAGE);
+
+    // JSP가 업무 오류 메시지를 보여 줄 때 쓰는 표시
+    private static final String ERROR_MARKER = "class=\"error-message\"";
+    private static final String LOGIN_PATH = "/auth/login";
+    private static final int MAX_REDIRECTS = 3;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final LoadStage stage;
+    private final Semaphore concurrency;
+    private final long intendedStartNanos;
+    private final long thinkTimeNanos;
+
+    private final int studentId;
+    private final String password;
+    private final String keyword;
+    private final String sectionId;
+    private final String auctionId;
+    private final int bidAmount;
+
+    private String sessionCookie;
+
+    public StudentJourney(HttpClient client, String baseUrl, Duration timeout, LoadStage stage, Semaphore concurrency,
+                          long intendedStartNanos, long thinkTimeNanos, int studentId, String password, String keyword,
+                          String sectionId, String auctionId, int bidAmount) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.stage = stage;
+        this.concurrency = concurrency;
+        this.intendedStartNanos = intendedStartNanos;
+        this.thinkTimeNanos = thinkTimeNanos;
+        this.studentId = studentId;
+        this.password = password;
+        this.keyword = keyword;
+        this.sectionId = sectionId;
+        this.auctionId = auctionId;
+        this.bidAmount = bidAmount;
+    }
+
+    @Override
+    public void run() {
+        stage.journeyStarted();
+        if (!concurrency.tryAcquire()) {
+            stage.journeyQueued();
+            concurrency.acquireUninterruptibly();
+        }
+        boolean completed = false;
+        try {
+            // 동시 실행 한도에서 기다린 시간은 첫 단계(예정 시각 = 도착 시각)의 지연에 들어간다
+            long done = step(LOGIN, intendedStartNanos, post("/auth/login", "studentId", String.valueOf(studentId), "password", password));
+            if (done < 0) {
+                return;
+            }
+            done = step(SEARCH, think(done), get("/section/list?keyword=" + encode(keyword)));
+            if (done < 0) {
+                return;
+            }
+            done = step(BASKET_ADD, think(done), post("/basket/add", "sectionId", sectionId));
+            if (done < 0) {
+                return;
+            }
+            done = step(AUCTION_LIST, think(done), get("/auction/list"));
+            if (done < 0) {
+                return;
+            }
+            done = step(BID, think(done), post("/auction/bid", "auctionId", auctionId, "bidAmount", String.valueOf(bidAmount)));
+            if (done < 0) {
+                return;
+            }
+            done = step(MYPAGE, think(done), get("/mypage"));
+            if (done < 0) {
+                return;
+            }
+            completed = true;
+            stage.journeyFinished(intendedStartNanos, done, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!completed) {
+                stage.journeyFinished(intendedStartNanos, System.nanoTime(), false);
+            }
+            concurrency.release();
+        }
+    }
+
+    /**
+     * 생각 시간만큼 쉬고 다음 단계의 예정 시각을 돌려준다.
+     */
+    private long think(long previousDoneNanos) {
+        long next = previousDoneNanos + thinkTimeNanos;
+        long wait;
+        while ((wait = next - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return next;
+    }
+
+    /**
+     * 요청 하나를 보내고 결과를 기록한다.
+     *
+     * @return 완료 시각 (오류로 흐름을 멈춰야 하면 -1)
+     */
+    private long step(String name, long intendedNanos, HttpRequest.Builder request) throws InterruptedException {
+        StepStats stats = stage.step(name);
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = send(request);
+            long done = System.nanoTime();
+            int status = response.statusCode();
+            String path = response.uri().getPath();
+
+            if (status >= 400) {
+                stats.recordError(intendedNanos, sent, done, "HTTP " + status);
+                return -1;
+            }
+            if (!LOGIN.equals(name) && path.contains(LOGIN_PATH)) {
+                stats.recordError(intendedNanos, sent, done, "session lost");
+                return -1;
+            }
+            if (response.body().contains(ERROR_MARKER)) {
+                stats.recordRejected(intendedNanos, sent, done);
+                // 로그인이 거절되면 더 진행할 수 없다
+                return LOGIN.equals(name) ? -1 : done;
+            }
+            stats.recordOk(intendedNanos, sent, done);
+            return done;
+        } catch (HttpTimeoutException e) {
+            stats.recordError(intendedNanos, sent, System.nanoTime(), "timeout");
+        } catch (IOException e) {
+            stats.recordError(intendedNanos, sent, System.nanoTime(), e.getClass().getSimpleName());
+        }
+        return -1;
+    }
+
+    /**
+     * 쿠키를 붙여 보내고, 리다이렉트는 GET으로 따라간다 (서블릿의 POST-redirect-GET).
+     */
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(withCookie(request).build(), HttpResponse.BodyHandlers.ofString());
+        for (int hops = 0; hops < MAX_REDIRECTS && isRedirect(response.statusCode()); hops++) {
+            captureCookie(response);
+            String location = response.headers().firstValue("Location").orElse(null);
+            if (location == null) {
+                break;
+            }
+            URI target = response.uri().resolve(location);
+            response = client.send(withCookie(HttpRequest.newBuilder(target).timeout(timeout).GET()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        }
+        captureCookie(response);
+        return response;
+    }
+
+    private HttpRequest.Builder withCookie(HttpRequest.Builder request) {
+        return sessionCookie == null ? request : request.header("Cookie", sessionCookie);
+    }
+
+    private void captureCookie(HttpResponse<?> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            if (header.startsWith("JSESSIONID=")) {
+                int end = header.indexOf(';');
+                sessionCookie = end < 0 ? header : header.substring(0, end);
+            }
+        }
+    }
+
+    private static boolean isRedirect(int status) {
+        return status == 301 || status == 302 || status == 303 || status == 307;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String... params) {
+        StringBuilder form = new StringBuilder();
+        for (int i = 0; i + 1 < params.length; i += 2) {
+            if (form.length() > 0) {
+                form.append('&');
+            }
+            form.append(encode(params[i])).append('=').append(encode(params[i + 1]));
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout)
+            .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+            .POST(HttpRequest.BodyPublishers.ofString(form.toString()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
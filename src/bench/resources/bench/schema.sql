@@ -0,0 +1,112 @@
+-- 벤치마크/부하 테스트용 스키마 (H2 Oracle 호환 모드에서도 실행되는 Oracle DDL)
+-- 컬럼은 model.entity 클래스와 DAO의 SQL을 따른다. 인덱스는 기본 키와 DAO 조회 조건에 쓰는 컬럼만 둔다.
+CREATE TABLE Student (
+    student_id  NUMBER PRIMARY KEY,
+    name        VARCHAR2(50)  NOT NULL,
+    department  VARCHAR2(50),
+    grade       NUMBER,
+    password    VARCHAR2(100) NOT NULL,
+    max_credits NUMBER,
+    max_point   NUMBER
+);
+
+CREATE TABLE Course (
+    course_id   VARCHAR2(20) PRIMARY KEY,
+    course_name VARCHAR2(100) NOT NULL,
+    department  VARCHAR2(50),
+    credits     NUMBER,
+    capacity    NUMBER,
+    semester    VARCHAR2(10),
+    year        NUMBER
+);
+
+CREATE TABLE Section (
+    section_id     VARCHAR2(20) PRIMARY KEY,
+    section_number NUMBER,
+    professor      VARCHAR2(50),
+    capacity       NUMBER,
+    classroom      VARCHAR2(30),
+    course_id      VARCHAR2(20) NOT NULL REFERENCES Course(course_id)
+);
+
+CREATE TABLE TimeSlot (
+    day        VARCHAR2(3)  NOT NULL,
+    start_time NUMBER       NOT NULL,
+    end_time   NUMBER       NOT NULL,
+    section_id VARCHAR2(20) NOT NULL REFERENCES Section(section_id),
+    PRIMARY KEY (section_id, day, start_time)
+);
+
+CREATE TABLE Auction (
+    auction_id      VARCHAR2(20) PRIMARY KEY,
+    start_time      DATE,
+    end_time        DATE,
+    status          VARCHAR2(20),
+    available_slots NUMBER,
+    created_at      DATE,
+    section_id      VARCHAR2(20) NOT NULL REFERENCES Section(section_id)
+);
+
+CREATE TABLE Bid (
+    bid_sequence  VARCHAR2(20) PRIMARY KEY,
+    bid_amount    NUMBER       NOT NULL,
+    bid_time      DATE,
+    is_successful CHAR(1),
+    auction_id    VARCHAR2(20) NOT NULL REFERENCES Auction(auction_id),
+    student_id    NUMBER       NOT NULL REFERENCES Student(student_id)
+);
+CREATE INDEX idx_bid_auction ON Bid(auction_id);
+CREATE INDEX idx_bid_student ON Bid(student_id);
+
+CREATE TABLE Enrollment (
+    enrollment_id     VARCHAR2(20) PRIMARY KEY,
+    enrollment_source VARCHAR2(20),
+    points_used       NUMBER,
+    enrollment_time   DATE,
+    student_id        NUMBER       NOT NULL REFERENCES Student(student_id),
+    section_id        VARCHAR2(20) NOT NULL REFERENCES Section(section_id)
+);
+CREATE INDEX idx_enrollment_student ON Enrollment(student_id);
+CREATE INDEX idx_enrollment_section ON Enrollment(section_id);
+
+CREATE TABLE Basket (
+    basket_id  VARCHAR2(20) PRIMARY KEY,
+    student_id NUMBER       NOT NULL UNIQUE REFERENCES Student(student_id)
+);
+
+CREATE TABLE BasketItem (
+    registration_time DATE,
+    status            VARCHAR2(20),
+    processed_time    DATE,
+    reason            VARCHAR2(200),
+    basket_id         VARCHAR2(20) NOT NULL REFERENCES Basket(basket_id),
+    section_id        VARCHAR2(20) NOT NULL REFERENCES Section(section_id),
+    PRIMARY KEY (basket_id, section_id)
+);
+CREATE INDEX idx_basketitem_section ON BasketItem(section_id);
+
+CREATE TABLE Log (
+    log_id      VARCHAR2(20) PRIMARY KEY,
+    action_type VARCHAR2(30),
+    timestamp   TIMESTAMP,
+    details     VARCHAR2(500),
+    student_id  NUMBER,
+    auction_id  VARCHAR2(20)
+);
+CREATE INDEX idx_log_student ON Log(student_id);
+
+-- sql/id_counter.sql
+CREATE TABLE IdCounter (
+    counter_name VARCHAR2(30) PRIMARY KEY,
+    next_value   NUMBER(19)   NOT NULL
+);
+
+-- sql/student_ledger.sql
+CREATE TABLE StudentLedger (
+    student_id       NUMBER PRIMARY KEY REFERENCES Student(student_id),
+    spent_points     NUMBER NOT NULL,
+    committed_points NUMBER NOT NULL,
+    enrolled_credits NUMBER NOT NULL,
+    basket_credits   NUMBER NOT NULL,
+    updated_at       DATE   NOT NULL
+);
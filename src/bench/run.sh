@@ -0,0 +1,36 @@
+#!/bin/sh
+# 벤치마크/부하 테스트 빌드 후 실행 (docs/BENCHMARK.md 참고)
+#   필요: JDK 21, lib/ojdbc11.jar, lib/bench/*.jar (JMH, H2), CATALINA_HOME (Tomcat 10.1)
+#   예: src/bench/run.sh BidBenchmarks -p students=20000
+#       src/bench/run.sh load                 (수강신청 부하 테스트, 설정은 BENCH_JAVA_OPTS의 -Dload.*)
+#       src/bench/run.sh datagen              (운영 규모 데이터 적재, 설정은 BENCH_JAVA_OPTS의 -Ddatagen.*)
+set -e
+cd "$(dirname "$0")/../.."
+
+if [ -z "$CATALINA_HOME" ]; then
+    echo "[ERROR] CATALINA_HOME is not set (Tomcat 10.1 directory)" >&2
+    exit 1
+fi
+
+CP="lib/*:lib/bench/*:$CATALINA_HOME/lib/*:$CATALINA_HOME/bin/tomcat-juli.jar"
+OUT=build/bench
+
+rm -rf "$OUT"
+mkdir -p "$OUT/classes"
+javac -encoding UTF-8 -proc:none -d "$OUT/classes" -cp "$CP" $(find src/main/java -name '*.java')
+javac -encoding UTF-8 -d "$OUT/classes" -cp "$OUT/classes:$CP" \
+    -processor org.openjdk.jmh.generators.BenchmarkProcessor $(find src/bench/java -name '*.java')
+cp -R src/bench/resources/. "$OUT/classes/"
+
+MAIN=com.team12.auction.bench.BenchMain
+case "$1" in
+    load)
+        shift
+        MAIN=com.team12.auction.load.RegistrationStorm
+        ;;
+    datagen)
+        shift
+        MAIN=com.team12.auction.bench.DataGenerator
+        ;;
+esac
+exec java -cp "$OUT/classes:$CP" ${BENCH_JAVA_OPTS} "$MAIN" "$@"
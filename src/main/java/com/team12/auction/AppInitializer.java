@@ -1,6 +1,15 @@
 package com.team12.auction;
 
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.cache.SectionSearchIndex;
+import com.team12.auction.cache.TimetableIndex;
+import com.team12.auction.service.AuctionFinalizationEngine;
+import com.team12.auction.service.AuctionFinalizationScheduler;
+import com.team12.auction.service.LogPipeline;
+import com.team12.auction.service.StudentLedgerReconciler;
 import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.IdAllocators;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
@@ -12,8 +21,33 @@ public class AppInitializer implements ServletContextListener {
 		System.out.println("App Initializer Started");
 		try {
 			DBConnection.init();
+			LogPipeline.start();
+			CatalogCache.start();
+			StudentLedgerReconciler.start();
+			SectionSearchIndex.start();
+			TimetableIndex.start();
+			SectionCounters.start();
+			AuctionFinalizationEngine.start();
+			AuctionFinalizationScheduler.start();
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent sce) {
+		System.out.println("App Initializer Stopping");
+		// 백그라운드 작업을 먼저 멈춘 뒤 커넥션 풀을 닫는다
+		AuctionFinalizationScheduler.stop();
+		AuctionFinalizationEngine.stop();
+		SectionCounters.stop();
+		TimetableIndex.stop();
+		SectionSearchIndex.stop();
+		StudentLedgerReconciler.stop();
+		CatalogCache.stop();
+		// 남은 로그를 모두 기록한 뒤 커넥션 풀을 닫는다
+		LogPipeline.stop();
+		IdAllocators.closeAll();
+		DBConnection.shutdown();
+	}
 }
@@ -0,0 +1,375 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.model.dto.BidDetail;
+import com.team12.auction.model.entity.Bid;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 경매 하나의 입찰 순위표 (메모리)
+ * <p>
+ * 입찰을 (금액 내림차순, 입찰 시각 오름차순, 입찰 번호의 숫자 부분 오름차순)으로 정렬해 두고,
+ * 서브트리 크기를 함께 저장하는 트립(treap)으로 순위/커트라인/상위 N개를 O(log n)에 계산한다.
+ * 읽기는 동시에, 쓰기는 한 번에 하나씩 처리한다.
+ */
+public class AuctionOrderBook {
+
+    private final String auctionId;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> bySequence = new HashMap<>();
+    private final Map<Integer, Node> byStudent = new HashMap<>();
+    private Node root;
+
+    private volatile boolean loaded;
+
+    AuctionOrderBook(String auctionId) {
+        this.auctionId = auctionId;
+    }
+
+    public String getAuctionId() {
+        return auctionId;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * DB에서 읽은 입찰 목록으로 초기화 (처음 한 번)
+     */
+    void load(List<Bid> bids) {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            bySequence.clear();
+            byStudent.clear();
+            for (Bid bid : bids) {
+                insertLocked(bid);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입찰 추가 (같은 입찰 번호가 이미 있으면 무시)
+     */
+    public void add(Bid bid) {
+        lock.writeLock().lock();
+        try {
+            insertLocked(bid);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입찰 제거 (롤백된 입찰 정리용)
+     */
+    public void remove(String bidSequence) {
+        lock.writeLock().lock();
+        try {
+            Node node = bySequence.remove(bidSequence);
+            if (node == null) {
+                return;
+            }
+            byStudent.remove(node.studentId, node);
+            root = delete(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입찰 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 학생이 이미 입찰했는지 여부
+     */
+    public boolean hasBidFrom(int studentId) {
+        lock.readLock().lock();
+        try {
+            return byStudent.containsKey(studentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * bidAmount로 새로 입찰했을 때의 예상 순위 (동점이면 기존 입찰이 우선)
+     */
+    public int prospectiveRank(int bidAmount) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                if (node.amount >= bidAmount) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return count + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이미 들어간 입찰의 현재 순위 (없으면 -1)
+     */
+    public int rankOf(String bidSequence) {
+        lock.readLock().lock();
+        try {
+            Node target = bySequence.get(bidSequence);
+            if (target == null) {
+                return -1;
+            }
+            int rank = 1;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(target, node);
+                if (cmp == 0) {
+                    return rank + size(node.left);
+                }
+                if (cmp > 0) {
+                    rank += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * slots번째 입찰의 금액 (입찰이 slots개보다 적으면 0)
+     */
+    public int cutoffAmount(int slots) {
+        if (slots <= 0) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int k = slots;
+            if (size(node) < k) {
+                return 0;
+            }
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (k <= leftSize) {
+                    node = node.left;
+                } else if (k == leftSize + 1) {
+                    return node.amount;
+                } else {
+                    k -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            return 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit개의 입찰 (포인트 높은순, 시간 빠른순)
+     */
+    public List<BidDetail> top(int limit) {
+        List<BidDetail> result = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            collect(root, limit, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Node node, int limit, List<BidDetail> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, out);
+        if (out.size() < limit) {
+            out.add(toDetail(node));
+        }
+        collect(node.right, limit, out);
+    }
+
+    private BidDetail toDetail(Node node) {
+        BidDetail bid = new BidDetail();
+        bid.setBidSequence(node.sequence);
+        bid.setBidAmount(node.amount);
+        bid.setBidTime(new Date(node.time));
+        bid.setAuctionId(auctionId);
+        bid.setStudentId(node.studentId);
+        return bid;
+    }
+
+    private static Node toNode(Bid bid) {
+        long time = bid.getBidTime() == null ? 0L : bid.getBidTime().getTime();
+        return new Node(bid.getBidSequence(), bid.getBidAmount(), time, bid.getStudentId());
+    }
+
+    private void insertLocked(Bid bid) {
+        if (bySequence.containsKey(bid.getBidSequence())) {
+            return;
+        }
+        Node node = toNode(bid);
+        bySequence.put(node.sequence, node);
+        byStudent.put(node.studentId, node);
+        root = insert(root, node);
+    }
+
+    // ---- treap ----
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * a가 b보다 앞 순위이면 음수. 마지막 기준은 SQL의 TO_NUMBER(SUBSTR(bid_sequence, 4))와 같은 숫자 비교다.
+     */
+    private static int compare(Node a, Node b) {
+        if (a.amount != b.amount) {
+            return a.amount > b.amount ? -1 : 1;
+        }
+        if (a.time != b.time) {
+            return a.time < b.time ? -1 : 1;
+        }
+        if (a.sequenceNumber != b.sequenceNumber) {
+            return a.sequenceNumber < b.sequenceNumber ? -1 : 1;
+        }
+        return a.sequence.compareTo(b.sequence);
+    }
+
+    /**
+     * 입찰 번호의 접두어 뒤 숫자 (BID0000012 -> 12, 자릿수가 달라도 숫자로 비교하기 위함)
+     */
+    static long sequenceNumber(String sequence) {
+        int i = 0;
+        while (i < sequence.length() && !Character.isDigit(sequence.charAt(i))) {
+            i++;
+        }
+        try {
+            return Long.parseLong(sequence.substring(i));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+        if (compare(node, root) < 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        update(root);
+        return root;
+    }
+
+    private static Node delete(Node root, Node node) {
+        if (root == null) {
+            return null;
+        }
+        int cmp = compare(node, root);
+        if (cmp < 0) {
+            root.left = delete(root.left, node);
+        } else if (cmp > 0) {
+            root.right = delete(root.right, node);
+        } else {
+            if (root.left == null) {
+                return root.right;
+            }
+            if (root.right == null) {
+                return root.left;
+            }
+            if (root.left.priority > root.right.priority) {
+                root = rotateRight(root);
+                root.right = delete(root.right, node);
+            } else {
+                root = rotateLeft(root);
+                root.left = delete(root.left, node);
+            }
+        }
+        update(root);
+        return root;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static final class Node {
+        private final String sequence;
+        private final long sequenceNumber;
+        private final int amount;
+        private final long time;
+        private final int studentId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(String sequence, int amount, long time, int studentId) {
+            this.sequence = sequence;
+            this.sequenceNumber = sequenceNumber(sequence);
+            this.amount = amount;
+            this.time = time;
+            this.studentId = studentId;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.BidDAO;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중(ACTIVE) 경매의 입찰 순위표 등록소
+ * <p>
+ * 순위표는 처음 조회될 때 Bid 테이블에서 한 번 읽어 오고, 이후에는 BidDAO.insertBid()가 바로 반영한다.
+ * 경매 상태가 바뀌면 AuctionDAO.updateStatus()가 순위표를 버린다.
+ * {@code orderbook.enabled=false}이면 항상 null을 돌려주어 기존 DB 조회로 동작한다.
+ */
+public class AuctionOrderBooks {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("orderbook.enabled", true);
+
+    private static final ConcurrentHashMap<String, AuctionOrderBook> BOOKS = new ConcurrentHashMap<>();
+    private static final BidDAO BID_DAO = new BidDAO();
+
+    private static final LongAdder LOADS = new LongAdder();
+    private static final LongAdder INVALIDATIONS = new LongAdder();
+
+    private AuctionOrderBooks() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 순위표 조회. 아직 없으면 conn으로 Bid 테이블을 읽어 만든다.
+     */
+    public static AuctionOrderBook get(Connection conn, String auctionId) throws SQLException {
+        if (!ENABLED) {
+            return null;
+        }
+        AuctionOrderBook book = BOOKS.computeIfAbsent(auctionId, AuctionOrderBook::new);
+        if (!book.isLoaded()) {
+            synchronized (book) {
+                if (!book.isLoaded()) {
+                    book.load(BID_DAO.selectBidsForOrderBook(conn, auctionId));
+                    LOADS.increment();
+                }
+            }
+        }
+        return book;
+    }
+
+    /**
+     * 이미 읽어 둔 순위표만 조회 (없으면 null, DB 접근 없음)
+     */
+    public static AuctionOrderBook peek(String auctionId) {
+        if (!ENABLED) {
+            return null;
+        }
+        AuctionOrderBook book = BOOKS.get(auctionId);
+        return book != null && book.isLoaded() ? book : null;
+    }
+
+    /**
+     * 순위표 버리기 (다음 조회 때 다시 읽음)
+     */
+    public static void invalidate(String auctionId) {
+        if (BOOKS.remove(auctionId) != null) {
+            INVALIDATIONS.increment();
+        }
+    }
+
+    public static void clear() {
+        BOOKS.clear();
+    }
+
+    public static int getBookCount() {
+        return BOOKS.size();
+    }
+
+    public static long getLoadCount() {
+        return LOADS.sum();
+    }
+
+    public static long getInvalidationCount() {
+        return INVALIDATIONS.sum();
+    }
+
+    public static String describe() {
+        return "orderBooks=" + BOOKS.size() + ", loads=" + LOADS.sum() + ", invalidations=" + INVALIDATIONS.sum();
+    }
+}
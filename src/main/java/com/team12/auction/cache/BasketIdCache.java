@@ -0,0 +1,83 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.TransactionUtil;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 학번 -> basket_id 캐시 (메모리)
+ * <p>
+ * 장바구니는 학생당 하나이고 한 번 만들어지면 바뀌지 않으므로, 처음 조회/생성할 때 담아 두고 이후에는 DB를 거치지 않는다.
+ * basket.idCache.maxEntries개를 넘으면 임의의 항목을 지운다 (지워진 학생은 다음 조회 때 다시 담김).
+ */
+public class BasketIdCache {
+
+    private static final int MAX_ENTRIES = AppConfig.getInt("basket.idCache.maxEntries", 10000);
+
+    private static final ConcurrentHashMap<Integer, String> IDS = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private BasketIdCache() {
+    }
+
+    /**
+     * @return 캐시에 없으면 null
+     */
+    public static String get(int studentId) {
+        String basketId = IDS.get(studentId);
+        if (basketId != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+        }
+        return basketId;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 담는다 (롤백으로 장바구니 행이 사라졌는데 ID만 남지 않도록)
+     */
+    public static void put(int studentId, String basketId) {
+        if (basketId == null || MAX_ENTRIES <= 0) {
+            return;
+        }
+        boolean deferred = TransactionUtil.registerSynchronization(committed -> {
+            if (committed) {
+                store(studentId, basketId);
+            }
+        });
+        if (!deferred) {
+            // 트랜잭션 밖: 호출자가 이미 커밋한 뒤 호출한다
+            store(studentId, basketId);
+        }
+    }
+
+    private static void store(int studentId, String basketId) {
+        if (IDS.put(studentId, basketId) == null && IDS.size() > MAX_ENTRIES) {
+            Iterator<Integer> it = IDS.keySet().iterator();
+            while (IDS.size() > MAX_ENTRIES && it.hasNext()) {
+                Integer victim = it.next();
+                if (victim != studentId) {
+                    it.remove();
+                    EVICTIONS.increment();
+                }
+            }
+        }
+    }
+
+    public static void remove(int studentId) {
+        IDS.remove(studentId);
+    }
+
+    public static String describe() {
+        return "entries=" + IDS.size()
+            + ", hits=" + HITS.sum()
+            + ", misses=" + MISSES.sum()
+            + ", evictions=" + EVICTIONS.sum();
+    }
+}
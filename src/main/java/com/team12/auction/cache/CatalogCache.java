@@ -0,0 +1,335 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.CourseDAO;
+import com.team12.auction.dao.SectionDAO;
+import com.team12.auction.model.dto.AuctionDetail;
+import com.team12.auction.model.entity.Course;
+import com.team12.auction.model.entity.Section;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의(Course) / 분반(Section) 캐시 (메모리)
+ * <p>
+ * 수강신청 기간에는 거의 바뀌지 않는 강의/분반 정보를 시작 시 한 번에 읽어 불변 스냅샷으로 둔다.
+ * 스냅샷에 없는 항목은 DB에서 읽어(read-through) 스냅샷별 보조 영역에 넣는다 (catalog.cache.overflowEntries개 초과 시 오래된 것부터 제거).
+ * 강의/분반이 바뀌면 reload()로 버전 번호를 올린 새 스냅샷을 만들어 한 번에 바꾼다.
+ * 바깥에서 바뀐 경우는 SectionSearchIndex의 변경 감시가 reload()를 호출한다.
+ * <p>
+ * 꺼내는 객체는 복사본이므로 호출자가 고쳐도 캐시에는 영향이 없다.
+ */
+public class CatalogCache {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("catalog.cache.enabled", true);
+    private static final int MAX_ENTRIES = AppConfig.getInt("catalog.cache.maxEntries", 20000);
+    private static final int OVERFLOW_ENTRIES = AppConfig.getInt("catalog.cache.overflowEntries", 1024);
+
+    private static final CourseDAO COURSE_DAO = new CourseDAO();
+    private static final SectionDAO SECTION_DAO = new SectionDAO();
+
+    private static volatile Snapshot snapshot;
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder LOADS = new LongAdder();
+    private static final LongAdder LOAD_NANOS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder RELOADS = new LongAdder();
+
+    private CatalogCache() {
+    }
+
+    /**
+     * 강의/분반 전체를 미리 읽는다 ({@code catalog.cache.enabled=false}이면 아무 것도 하지 않음)
+     */
+    public static synchronized void start() {
+        if (!ENABLED) {
+            System.out.println("[INFO] Catalog cache disabled");
+            return;
+        }
+        try {
+            reload();
+        } catch (SQLException e) {
+            System.err.println("[ERROR] Catalog cache load failed: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void stop() {
+        snapshot = null;
+    }
+
+    public static boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public static long getVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * 강의/분반 목록을 다시 읽어 새 버전의 스냅샷으로 교체 (관리자 수정 후 호출)
+     *
+     * @return 새 버전 번호
+     */
+    public static synchronized long reload() throws SQLException {
+        if (!ENABLED) {
+            return VERSION.get();
+        }
+        long started = System.nanoTime();
+        List<Course> courses = COURSE_DAO.getAllCourses();
+        List<Section> sections = SECTION_DAO.selectAllSections();
+        long loadNanos = System.nanoTime() - started;
+
+        Snapshot built = new Snapshot(VERSION.get() + 1, courses, sections);
+        snapshot = built;
+        VERSION.set(built.version);
+        RELOADS.increment();
+        LOADS.increment();
+        LOAD_NANOS.add(loadNanos);
+        System.out.println("[INFO] Catalog cache v" + built.version + " loaded: " + built.courses.size() + " courses, "
+            + built.sections.size() + " sections" + (built.complete ? "" : " (truncated at " + MAX_ENTRIES + ")")
+            + " (" + loadNanos / 1_000_000 + " ms)");
+        return built.version;
+    }
+
+    /**
+     * 강의 조회 (없으면 DB에서 읽음). 캐시가 없으면 DB에서 바로 읽는다.
+     *
+     * @return 없는 강의면 null
+     */
+    public static Course getCourse(String courseId) throws SQLException {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return COURSE_DAO.loadById(courseId);
+        }
+        Course course = current.courses.get(courseId);
+        if (course == null) {
+            course = (Course) current.overflowGet("C:" + courseId);
+        }
+        if (course != null) {
+            HITS.increment();
+            return copy(course);
+        }
+
+        MISSES.increment();
+        long started = System.nanoTime();
+        course = COURSE_DAO.loadById(courseId);
+        recordLoad(started);
+        if (course != null) {
+            current.overflowPut("C:" + courseId, copy(course));
+        }
+        return course;
+    }
+
+    /**
+     * 분반 조회 (없으면 DB에서 읽음). 캐시가 없으면 DB에서 바로 읽는다.
+     *
+     * @return 없는 분반이면 null
+     */
+    public static Section getSection(String sectionId) throws SQLException {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return SECTION_DAO.loadById(sectionId);
+        }
+        Section section = current.sections.get(sectionId);
+        if (section == null) {
+            section = (Section) current.overflowGet("S:" + sectionId);
+        }
+        if (section != null) {
+            HITS.increment();
+            return copy(section);
+        }
+
+        MISSES.increment();
+        long started = System.nanoTime();
+        section = SECTION_DAO.loadById(sectionId);
+        recordLoad(started);
+        if (section != null) {
+            current.overflowPut("S:" + sectionId, copy(section));
+        }
+        return section;
+    }
+
+    /**
+     * 강의의 분반 목록 (분반 번호 순)
+     *
+     * @return 스냅샷이 없거나 전체를 담지 못한 경우 null (호출자가 DB에서 조회)
+     */
+    public static List<Section> getSectionsByCourse(String courseId) {
+        Snapshot current = snapshot;
+        if (current == null || !current.complete) {
+            return null;
+        }
+        HITS.increment();
+        List<Section> sections = current.sectionsByCourse.getOrDefault(courseId, Collections.emptyList());
+        List<Section> result = new ArrayList<>(sections.size());
+        for (Section section : sections) {
+            result.add(copy(section));
+        }
+        return result;
+    }
+
+    /**
+     * 분반이 속한 강의의 학점
+     *
+     * @return 없는 분반이면 0
+     */
+    public static int getCredits(String sectionId) throws SQLException {
+        Section section = getSection(sectionId);
+        if (section == null) {
+            return 0;
+        }
+        Course course = getCourse(section.getCourseId());
+        return course == null ? 0 : course.getCredits();
+    }
+
+    /**
+     * 경매 정보의 분반/강의 항목 채우기 (section_id 기준)
+     *
+     * @return 분반이나 강의를 찾지 못하면 false
+     */
+    public static boolean fillAuction(AuctionDetail auction) throws SQLException {
+        Section section = getSection(auction.getSectionId());
+        if (section == null) {
+            return false;
+        }
+        Course course = getCourse(section.getCourseId());
+        if (course == null) {
+            return false;
+        }
+        auction.setSectionNumber(section.getSectionNumber());
+        auction.setProfessor(section.getProfessor());
+        auction.setCourseId(course.getCourseId());
+        auction.setCourseName(course.getCourseName());
+        auction.setDepartment(course.getDepartment());
+        auction.setCredits(course.getCredits());
+        return true;
+    }
+
+    private static void recordLoad(long started) {
+        LOADS.increment();
+        LOAD_NANOS.add(System.nanoTime() - started);
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static long getEvictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    public static long getAverageLoadMicros() {
+        long count = LOADS.sum();
+        return count == 0 ? 0 : LOAD_NANOS.sum() / count / 1000;
+    }
+
+    public static String describe() {
+        Snapshot current = snapshot;
+        return "version=" + VERSION.get()
+            + ", courses=" + (current == null ? 0 : current.courses.size())
+            + ", sections=" + (current == null ? 0 : current.sections.size())
+            + ", overflow=" + (current == null ? 0 : current.overflowSize())
+            + ", hits=" + getHitCount()
+            + ", misses=" + getMissCount()
+            + ", evictions=" + getEvictionCount()
+            + ", loads=" + LOADS.sum()
+            + ", avgLoadUs=" + getAverageLoadMicros()
+            + ", reloads=" + RELOADS.sum();
+    }
+
+    private static Course copy(Course source) {
+        return new Course(source.getCourseId(), source.getCourseName(), source.getDepartment(), source.getCredits(),
+            source.getCapacity(), source.getSemester(), source.getYear());
+    }
+
+    private static Section copy(Section source) {
+        return new Section(source.getSectionId(), source.getSectionNumber(), source.getProfessor(), source.getCapacity(),
+            source.getClassroom(), source.getCourseId());
+    }
+
+    /**
+     * 버전별 불변 스냅샷 (+ read-through 보조 영역)
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final Map<String, Course> courses;
+        private final Map<String, Section> sections;
+        private final Map<String, List<Section>> sectionsByCourse;
+        // 전체를 담았는지 (MAX_ENTRIES를 넘으면 일부만 담고 나머지는 read-through)
+        private final boolean complete;
+        private final LinkedHashMap<String, Object> overflow;
+
+        private Snapshot(long version, List<Course> courseList, List<Section> sectionList) {
+            this.version = version;
+
+            Map<String, Course> courseMap = new HashMap<>(courseList.size() * 2);
+            Map<String, Section> sectionMap = new HashMap<>(sectionList.size() * 2);
+            Map<String, List<Section>> byCourse = new HashMap<>();
+            int budget = MAX_ENTRIES;
+            for (Course course : courseList) {
+                if (budget-- <= 0) {
+                    break;
+                }
+                courseMap.put(course.getCourseId(), course);
+            }
+            for (Section section : sectionList) {
+                if (budget-- <= 0) {
+                    break;
+                }
+                sectionMap.put(section.getSectionId(), section);
+                byCourse.computeIfAbsent(section.getCourseId(), k -> new ArrayList<>()).add(section);
+            }
+            for (Map.Entry<String, List<Section>> entry : byCourse.entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+
+            this.courses = Collections.unmodifiableMap(courseMap);
+            this.sections = Collections.unmodifiableMap(sectionMap);
+            this.sectionsByCourse = Collections.unmodifiableMap(byCourse);
+            this.complete = courseMap.size() == courseList.size() && sectionMap.size() == sectionList.size();
+            this.overflow = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                    if (size() > OVERFLOW_ENTRIES) {
+                        EVICTIONS.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private Object overflowGet(String key) {
+            synchronized (overflow) {
+                return overflow.get(key);
+            }
+        }
+
+        private void overflowPut(String key, Object value) {
+            synchronized (overflow) {
+                overflow.put(key, value);
+            }
+        }
+
+        private int overflowSize() {
+            synchronized (overflow) {
+                return overflow.size();
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.LogDAO;
+import com.team12.auction.model.entity.Log;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 학생별 최근 활동 캐시 (메모리)
+ * <p>
+ * 학생마다 최근 activity.cache.perStudent개의 로그를 고정 크기 링에 둔다.
+ * 처음 조회할 때 DB에서 채우고, 이후에는 LogPipeline이 INSERT에 성공한 로그를 캐시에 있는 학생의 링에만 덧붙인다.
+ * 전체 항목 수가 activity.cache.maxEntries를 넘으면 가장 오래 조회/기록이 없었던 학생부터 지운다.
+ */
+public class RecentActivityCache {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("activity.cache.enabled", true);
+    private static final int PER_STUDENT = Math.max(1, AppConfig.getInt("activity.cache.perStudent", 10));
+    private static final int MAX_ENTRIES = AppConfig.getInt("activity.cache.maxEntries", 50000);
+
+    private static final LogDAO LOG_DAO = new LogDAO();
+
+    // 조회 순서(LRU) 유지, STUDENTS 자체로 동기화
+    private static final LinkedHashMap<Integer, Ring> STUDENTS = new LinkedHashMap<>(256, 0.75f, true);
+    private static final AtomicInteger TOTAL_ENTRIES = new AtomicInteger();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder APPENDS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private RecentActivityCache() {
+    }
+
+    /**
+     * 학생의 최근 로그 (최신순)
+     * <p>
+     * limit이 activity.cache.perStudent보다 크거나 캐시를 끈 경우에는 DB에서 읽는다.
+     */
+    public static List<Log> getRecent(int studentId, int limit) throws SQLException {
+        if (!ENABLED || limit > PER_STUDENT) {
+            return LOG_DAO.getRecentLogsByStudent(studentId, limit);
+        }
+
+        Ring ring;
+        synchronized (STUDENTS) {
+            ring = STUDENTS.get(studentId);
+            if (ring == null) {
+                // 먼저 빈 링을 넣어 두어 DB를 읽는 동안 기록된 로그도 받는다
+                ring = new Ring();
+                STUDENTS.put(studentId, ring);
+            }
+        }
+        if (ring.loaded) {
+            HITS.increment();
+            return ring.snapshot(limit);
+        }
+
+        MISSES.increment();
+        List<Log> fromDb;
+        try {
+            fromDb = LOG_DAO.getRecentLogsByStudent(studentId, PER_STUDENT);
+        } catch (SQLException e) {
+            synchronized (STUDENTS) {
+                if (STUDENTS.get(studentId) == ring) {
+                    STUDENTS.remove(studentId);
+                    TOTAL_ENTRIES.addAndGet(-ring.evict());
+                }
+            }
+            throw e;
+        }
+        ring.hydrate(fromDb);
+        evictIfNeeded();
+        return ring.snapshot(limit);
+    }
+
+    /**
+     * 기록된 로그 반영 (LogPipeline에서 INSERT 성공 후 호출). 캐시에 없는 학생은 다음 조회 때 DB에서 읽는다.
+     */
+    public static void appendAll(Collection<Log> logs) {
+        if (!ENABLED || logs.isEmpty()) {
+            return;
+        }
+        for (Log log : logs) {
+            Ring ring;
+            synchronized (STUDENTS) {
+                // 활동이 있는 학생도 최근 사용으로 본다
+                ring = STUDENTS.get(log.getStudentId());
+            }
+            if (ring != null) {
+                ring.add(copy(log));
+                APPENDS.increment();
+            }
+        }
+        evictIfNeeded();
+    }
+
+    public static void clear() {
+        synchronized (STUDENTS) {
+            for (Ring ring : STUDENTS.values()) {
+                TOTAL_ENTRIES.addAndGet(-ring.evict());
+            }
+            STUDENTS.clear();
+        }
+    }
+
+    private static void evictIfNeeded() {
+        if (MAX_ENTRIES <= 0 || TOTAL_ENTRIES.get() <= MAX_ENTRIES) {
+            return;
+        }
+        synchronized (STUDENTS) {
+            Iterator<Ring> it = STUDENTS.values().iterator();
+            while (TOTAL_ENTRIES.get() > MAX_ENTRIES && STUDENTS.size() > 1 && it.hasNext()) {
+                Ring victim = it.next();
+                it.remove();
+                TOTAL_ENTRIES.addAndGet(-victim.evict());
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    private static Log copy(Log source) {
+        return new Log(source.getLogId(), source.getActionType(), source.getTimestamp(), source.getDetails(),
+            source.getStudentId(), source.getAuctionId());
+    }
+
+    public static String describe() {
+        int students;
+        synchronized (STUDENTS) {
+            students = STUDENTS.size();
+        }
+        return "students=" + students
+            + ", entries=" + TOTAL_ENTRIES.get()
+            + ", hits=" + HITS.sum()
+            + ", misses=" + MISSES.sum()
+            + ", appends=" + APPENDS.sum()
+            + ", evictions=" + EVICTIONS.sum();
+    }
+
+    /**
+     * 학생 한 명의 최근 로그 링 (가장 오래된 칸을 덮어씀)
+     */
+    private static final class Ring {
+        private final Log[] items = new Log[PER_STUDENT];
+        private int next;
+        private int size;
+        private volatile boolean loaded;
+        // 캐시에서 빠진 링은 전체 항목 수에 더하지 않는다
+        private boolean evicted;
+
+        private synchronized void add(Log log) {
+            items[next] = log;
+            next = (next + 1) % items.length;
+            if (size < items.length) {
+                size++;
+                if (!evicted) {
+                    TOTAL_ENTRIES.incrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * DB에서 읽은 로그와 그 사이 덧붙은 로그를 합쳐 최신 PER_STUDENT개만 남긴다 (log_id로 중복 제거)
+         */
+        private synchronized void hydrate(List<Log> fromDb) {
+            List<Log> merged = new ArrayList<>(fromDb.size() + size);
+            Set<String> seen = new HashSet<>();
+            for (Log log : snapshotLocked(size)) {
+                if (log.getLogId() == null || seen.add(log.getLogId())) {
+                    merged.add(log);
+                }
+            }
+            for (Log log : fromDb) {
+                if (log.getLogId() == null || seen.add(log.getLogId())) {
+                    merged.add(log);
+                }
+            }
+            merged.sort(Comparator.comparing(Log::getTimestamp, Comparator.nullsLast(Comparator.reverseOrder())));
+
+            int before = size;
+            int keep = Math.min(merged.size(), items.length);
+            Arrays.fill(items, null);
+            // 오래된 것부터 채워 next가 가장 오래된 칸을 가리키게 한다
+            for (int i = 0; i < keep; i++) {
+                items[i] = merged.get(keep - 1 - i);
+            }
+            size = keep;
+            next = keep % items.length;
+            if (!evicted) {
+                TOTAL_ENTRIES.addAndGet(size - before);
+            }
+            loaded = true;
+        }
+
+        private synchronized List<Log> snapshot(int limit) {
+            List<Log> result = new ArrayList<>();
+            for (Log log : snapshotLocked(limit)) {
+                result.add(copy(log));
+            }
+            return result;
+        }
+
+        // 최신순
+        private List<Log> snapshotLocked(int limit) {
+            int count = Math.min(limit, size);
+            List<Log> result = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                result.add(items[(next - i + items.length) % items.length]);
+            }
+            return result;
+        }
+
+        /**
+         * @return 빠지기 전 항목 수
+         */
+        private synchronized int evict() {
+            evicted = true;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.SectionDAO;
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.TransactionUtil;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분반별 수강 인원 / 장바구니 인원 카운터 (메모리)
+ * <p>
+ * 시작 시 Enrollment, BasketItem 테이블에서 한 번 세어 두고, 이후에는 DAO가 INSERT/DELETE할 때
+ * basketChanged()/enrollmentChanged()로 증감한다. 트랜잭션 안이면 커밋된 뒤에만 반영한다.
+ * counters.reconcileIntervalMs마다 테이블과 다시 비교해 차이(drift)를 로그로 남기고 바로잡는다.
+ * 아직 세지 않았거나 {@code counters.enabled=false}이면 isReady()가 false이고, DAO는 기존 COUNT 쿼리를 사용한다.
+ */
+public class SectionCounters {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("counters.enabled", true);
+
+    private static final ConcurrentHashMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final SectionDAO SECTION_DAO = new SectionDAO();
+
+    private static volatile boolean ready;
+    private static volatile boolean running;
+    private static Thread reconciler;
+
+    private static final LongAdder RECONCILES = new LongAdder();
+    private static final LongAdder DRIFTED_SECTIONS = new LongAdder();
+    private static final LongAdder DRIFT_TOTAL = new LongAdder();
+    private static volatile int lastDriftedSections;
+
+    private SectionCounters() {
+    }
+
+    /**
+     * 카운터를 세고 주기적 재검증 스레드 시작
+     */
+    public static synchronized void start() {
+        if (!ENABLED) {
+            System.out.println("[INFO] Section counters disabled");
+            return;
+        }
+        try {
+            seed();
+        } catch (SQLException e) {
+            System.err.println("[ERROR] Section counters seed failed: " + e.getMessage());
+        }
+
+        long interval = AppConfig.getLong("counters.reconcileIntervalMs", 600000);
+        if (interval <= 0 || reconciler != null) {
+            return;
+        }
+        running = true;
+        reconciler = new Thread(() -> {
+            while (running) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    if (ready) {
+                        reconcile();
+                    } else {
+                        seed();
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    System.err.println("[ERROR] Section counters reconcile failed: " + e.getMessage());
+                }
+            }
+        }, "section-counters-reconcile");
+        reconciler.setDaemon(true);
+        reconciler.start();
+    }
+
+    public static synchronized void stop() {
+        running = false;
+        if (reconciler != null) {
+            reconciler.interrupt();
+            reconciler = null;
+        }
+    }
+
+    /**
+     * 카운터를 사용할 수 있는지 여부
+     */
+    public static boolean isReady() {
+        return ready;
+    }
+
+    public static int getEnrolledCount(String sectionId) {
+        Counter counter = COUNTERS.get(sectionId);
+        return counter == null ? 0 : (int) counter.enrolled.sum();
+    }
+
+    public static int getBasketCount(String sectionId) {
+        Counter counter = COUNTERS.get(sectionId);
+        return counter == null ? 0 : (int) counter.basket.sum();
+    }
+
+    /**
+     * 장바구니 인원 증감 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public static void basketChanged(String sectionId, int delta) {
+        apply(sectionId, delta, false);
+    }
+
+    /**
+     * 수강 인원 증감 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public static void enrollmentChanged(String sectionId, int delta) {
+        apply(sectionId, delta, true);
+    }
+
+    private static void apply(String sectionId, int delta, boolean enrolled) {
+        if (!ENABLED || delta == 0 || sectionId == null) {
+            return;
+        }
+        boolean deferred = TransactionUtil.registerSynchronization(committed -> {
+            if (committed) {
+                add(sectionId, delta, enrolled);
+            }
+        });
+        if (!deferred) {
+            // 트랜잭션 밖: 호출자가 이미 커밋한 뒤 호출한다
+            add(sectionId, delta, enrolled);
+        }
+    }
+
+    private static void add(String sectionId, int delta, boolean enrolled) {
+        Counter counter = COUNTERS.computeIfAbsent(sectionId, k -> new Counter());
+        (enrolled ? counter.enrolled : counter.basket).add(delta);
+    }
+
+    /**
+     * 테이블에서 전부 다시 세어 카운터를 채운다.
+     */
+    public static synchronized void seed() throws SQLException {
+        long started = System.nanoTime();
+        Map<String, int[]> counts = SECTION_DAO.selectAllSectionCounts();
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            Counter counter = COUNTERS.computeIfAbsent(entry.getKey(), k -> new Counter());
+            set(counter.enrolled, entry.getValue()[0]);
+            set(counter.basket, entry.getValue()[1]);
+        }
+        ready = true;
+        System.out.println("[INFO] Section counters seeded: " + counts.size() + " sections ("
+            + (System.nanoTime() - started) / 1_000_000 + " ms)");
+    }
+
+    /**
+     * 테이블과 비교해 차이를 바로잡는다.
+     * <p>
+     * 조회하는 동안 값이 바뀐 분반은 그 변경이 조회 결과에 들어갔는지 알 수 없으므로 이번에는 건너뛴다.
+     *
+     * @return 차이가 있던 분반 수
+     */
+    public static synchronized int reconcile() throws SQLException {
+        Map<String, long[]> before = snapshot();
+        Map<String, int[]> counts = SECTION_DAO.selectAllSectionCounts();
+        Map<String, long[]> after = snapshot();
+
+        int drifted = 0;
+        long driftTotal = 0;
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            String sectionId = entry.getKey();
+            long[] b = before.get(sectionId);
+            long[] a = after.get(sectionId);
+            long[] memory = a == null ? new long[2] : a;
+            if (b != null && a != null && (b[0] != a[0] || b[1] != a[1])) {
+                continue;
+            }
+            if (b == null && a != null) {
+                continue;
+            }
+
+            long enrolledDiff = entry.getValue()[0] - memory[0];
+            long basketDiff = entry.getValue()[1] - memory[1];
+            if (enrolledDiff != 0 || basketDiff != 0) {
+                drifted++;
+                driftTotal += Math.abs(enrolledDiff) + Math.abs(basketDiff);
+                Counter counter = COUNTERS.computeIfAbsent(sectionId, k -> new Counter());
+                counter.enrolled.add(enrolledDiff);
+                counter.basket.add(basketDiff);
+            }
+        }
+
+        RECONCILES.increment();
+        lastDriftedSections = drifted;
+        if (drifted > 0) {
+            DRIFTED_SECTIONS.add(drifted);
+            DRIFT_TOTAL.add(driftTotal);
+            System.err.println("[WARN] Section counters drift corrected: " + drifted + " sections, total " + driftTotal);
+        }
+        return drifted;
+    }
+
+    private static Map<String, long[]> snapshot() {
+        Map<String, long[]> values = new HashMap<>(COUNTERS.size() * 2);
+        for (Map.Entry<String, Counter> entry : COUNTERS.entrySet()) {
+            values.put(entry.getKey(), new long[]{entry.getValue().enrolled.sum(), entry.getValue().basket.sum()});
+        }
+        return values;
+    }
+
+    private static void set(LongAdder adder, long value) {
+        adder.add(value - adder.sum());
+    }
+
+    public static long getReconcileCount() {
+        return RECONCILES.sum();
+    }
+
+    public static int getLastDriftedSections() {
+        return lastDriftedSections;
+    }
+
+    public static String describe() {
+        return "sections=" + COUNTERS.size() + ", ready=" + ready
+            + ", reconciles=" + RECONCILES.sum()
+            + ", lastDriftedSections=" + lastDriftedSections
+            + ", driftedSections=" + DRIFTED_SECTIONS.sum()
+            + ", driftTotal=" + DRIFT_TOTAL.sum();
+    }
+
+    private static final class Counter {
+        private final LongAdder enrolled = new LongAdder();
+        private final LongAdder basket = new LongAdder();
+    }
+}
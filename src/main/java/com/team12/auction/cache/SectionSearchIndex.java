@@ -0,0 +1,303 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.SectionDAO;
+import com.team12.auction.model.dto.SectionSearchResult;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의/분반 검색 색인 (메모리)
+ * <p>
+ * 과목명, 교수명, 과목 코드를 소문자로 바꿔 2글자 단위(n-gram)로 쪼개고, 글자 조각마다 해당 분반 번호 목록을 둔다.
+ * 검색어의 글자 조각 목록을 교집합한 뒤 실제로 부분 문자열이 포함되는지 다시 확인하므로 결과는 LIKE '%검색어%'와 같다.
+ * 한글도 글자 단위로 쪼개므로 과목명/교수명 일부만 입력해도 찾을 수 있다.
+ * <p>
+ * 색인은 불변 스냅샷이며, 새로 읽을 때는 새 스냅샷을 만들어 한 번에 바꾼다.
+ * 시작 시 한 번 읽고, catalog.refreshIntervalMs마다 강의/분반 테이블의 요약값을 비교해 바뀌었을 때만 다시 읽는다.
+ * 바뀌었으면 강의 캐시(CatalogCache)도 새 버전으로 다시 읽는다.
+ * 수강/장바구니 인원은 색인에 넣지 않는다 (검색 결과에만 따로 채움).
+ */
+public class SectionSearchIndex {
+
+    private static final int GRAM = 2;
+
+    private static volatile Snapshot snapshot;
+    private static volatile String fingerprint;
+    private static Thread refresher;
+    private static volatile boolean running;
+
+    private static final SectionDAO SECTION_DAO = new SectionDAO();
+    private static final LongAdder SEARCHES = new LongAdder();
+    private static final LongAdder SEARCH_NANOS = new LongAdder();
+    private static final LongAdder RELOADS = new LongAdder();
+
+    private SectionSearchIndex() {
+    }
+
+    /**
+     * 색인을 읽고 변경 감시 스레드 시작
+     */
+    public static synchronized void start() {
+        try {
+            reload();
+        } catch (SQLException e) {
+            System.err.println("[ERROR] Section search index load failed: " + e.getMessage());
+        }
+
+        long interval = AppConfig.getLong("catalog.refreshIntervalMs", 300000);
+        if (interval <= 0 || refresher != null) {
+            return;
+        }
+        running = true;
+        refresher = new Thread(() -> {
+            while (running) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    refreshIfChanged();
+                } catch (SQLException | RuntimeException e) {
+                    System.err.println("[ERROR] Section search index refresh failed: " + e.getMessage());
+                }
+            }
+        }, "section-index-refresh");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
+
+    public static synchronized void stop() {
+        running = false;
+        if (refresher != null) {
+            refresher.interrupt();
+            refresher = null;
+        }
+    }
+
+    public static boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * 강의/분반 테이블이 바뀌었으면 다시 읽는다 (강의 캐시 포함).
+     *
+     * @return 다시 읽었으면 true
+     */
+    public static boolean refreshIfChanged() throws SQLException {
+        String current = SECTION_DAO.selectCatalogFingerprint();
+        if (current.equals(fingerprint) && snapshot != null) {
+            return false;
+        }
+        boolean changed = fingerprint != null;
+        reload();
+        if (changed && CatalogCache.isLoaded()) {
+            CatalogCache.reload();
+        }
+        return true;
+    }
+
+    /**
+     * 강의/분반 목록을 다시 읽어 새 색인으로 교체
+     */
+    public static synchronized void reload() throws SQLException {
+        long started = System.nanoTime();
+        String newFingerprint = SECTION_DAO.selectCatalogFingerprint();
+        Snapshot built = new Snapshot(SECTION_DAO.selectCatalog());
+        snapshot = built;
+        fingerprint = newFingerprint;
+        RELOADS.increment();
+        System.out.println("[INFO] Section search index loaded: " + built.entries.length + " sections, "
+            + built.postings.size() + " grams (" + (System.nanoTime() - started) / 1_000_000 + " ms)");
+    }
+
+    /**
+     * 키워드(과목명/교수명/과목 코드 부분 일치) + 학과(부분 일치) 검색
+     *
+     * @return 과목 코드, 분반 번호 순 결과 (인원 수는 비어 있음). 색인이 없으면 null
+     */
+    public static List<SectionSearchResult> search(String keyword, String department) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        long started = System.nanoTime();
+        try {
+            return current.search(normalize(keyword), normalize(department));
+        } finally {
+            SEARCHES.increment();
+            SEARCH_NANOS.add(System.nanoTime() - started);
+        }
+    }
+
+    public static int getSectionCount() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.entries.length;
+    }
+
+    public static long getSearchCount() {
+        return SEARCHES.sum();
+    }
+
+    public static long getAverageSearchMicros() {
+        long count = SEARCHES.sum();
+        return count == 0 ? 0 : SEARCH_NANOS.sum() / count / 1000;
+    }
+
+    public static String describe() {
+        Snapshot current = snapshot;
+        return "sections=" + (current == null ? 0 : current.entries.length)
+            + ", grams=" + (current == null ? 0 : current.postings.size())
+            + ", searches=" + getSearchCount()
+            + ", avgSearchUs=" + getAverageSearchMicros()
+            + ", reloads=" + RELOADS.sum();
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 불변 색인 스냅샷
+     */
+    private static final class Snapshot {
+        private static final int[] EMPTY = new int[0];
+
+        private final SectionSearchResult[] entries;
+        // 검색 대상 문자열 (과목명, 교수명, 과목 코드를 구분자로 이어 붙임)
+        private final String[] texts;
+        private final String[] departments;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(List<SectionSearchResult> catalog) {
+            int size = catalog.size();
+            this.entries = catalog.toArray(new SectionSearchResult[0]);
+            this.texts = new String[size];
+            this.departments = new String[size];
+
+            Map<String, List<Integer>> building = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                SectionSearchResult item = entries[i];
+                texts[i] = normalize(item.getCourseName()) + '\u0000' + normalize(item.getProfessor())
+                    + '\u0000' + normalize(item.getCourseId());
+                departments[i] = normalize(item.getDepartment());
+
+                String text = texts[i];
+                for (int len = 1; len <= GRAM; len++) {
+                    for (int p = 0; p + len <= text.length(); p++) {
+                        String gram = text.substring(p, p + len);
+                        if (gram.indexOf('\u0000') >= 0) {
+                            continue;
+                        }
+                        List<Integer> list = building.computeIfAbsent(gram, k -> new ArrayList<>());
+                        // 한 분반에서 같은 조각이 여러 번 나와도 한 번만 기록 (i는 증가 순)
+                        if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                            list.add(i);
+                        }
+                    }
+                }
+            }
+
+            Map<String, int[]> frozen = new HashMap<>(building.size() * 2);
+            for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+                List<Integer> list = entry.getValue();
+                int[] ids = new int[list.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = list.get(i);
+                }
+                frozen.put(entry.getKey(), ids);
+            }
+            this.postings = Collections.unmodifiableMap(frozen);
+        }
+
+        private List<SectionSearchResult> search(String keyword, String department) {
+            int[] candidates = keyword.isEmpty() ? null : candidates(keyword);
+
+            List<SectionSearchResult> result = new ArrayList<>();
+            int count = candidates == null ? entries.length : candidates.length;
+            for (int k = 0; k < count; k++) {
+                int i = candidates == null ? k : candidates[k];
+                if (!keyword.isEmpty() && !texts[i].contains(keyword)) {
+                    continue;
+                }
+                if (!department.isEmpty() && !departments[i].contains(department)) {
+                    continue;
+                }
+                result.add(copy(entries[i]));
+            }
+            return result;
+        }
+
+        /**
+         * 검색어의 모든 글자 조각을 포함하는 분반 번호 (오름차순)
+         */
+        private int[] candidates(String keyword) {
+            if (keyword.length() < GRAM) {
+                int[] ids = postings.get(keyword);
+                return ids == null ? EMPTY : ids;
+            }
+
+            List<int[]> lists = new ArrayList<>();
+            for (int p = 0; p + GRAM <= keyword.length(); p++) {
+                int[] ids = postings.get(keyword.substring(p, p + GRAM));
+                if (ids == null) {
+                    return EMPTY;
+                }
+                lists.add(ids);
+            }
+            // 짧은 목록부터 교집합
+            lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+            int[] result = lists.get(0);
+            for (int j = 1; j < lists.size() && result.length > 0; j++) {
+                result = intersect(result, lists.get(j));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+
+        private static SectionSearchResult copy(SectionSearchResult source) {
+            SectionSearchResult item = new SectionSearchResult();
+            item.setCourseId(source.getCourseId());
+            item.setCourseName(source.getCourseName());
+            item.setDepartment(source.getDepartment());
+            item.setCredits(source.getCredits());
+            item.setSectionId(source.getSectionId());
+            item.setSectionNumber(source.getSectionNumber());
+            item.setProfessor(source.getProfessor());
+            item.setCapacity(source.getCapacity());
+            item.setClassroom(source.getClassroom());
+            return item;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.model.dto.StudentPrincipal;
+import com.team12.auction.model.entity.Student;
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.TransactionUtil;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 학번 -> 학생 정보(StudentPrincipal) 캐시 (메모리)
+ * <p>
+ * AuthFilter가 요청마다 읽는다. 항목은 profile.cache.ttlMs가 지나면 다시 읽고,
+ * StudentDAO.updateStudent/changePassword가 바로 지운다 (요청 트랜잭션 안이면 커밋/롤백 뒤에 한 번 더 지움).
+ * profile.cache.maxEntries를 넘으면 만료된 항목부터, 그래도 넘으면 임의의 항목을 지운다.
+ */
+public class StudentProfileCache {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("profile.cache.enabled", true);
+    private static final long TTL_NANOS = AppConfig.getLong("profile.cache.ttlMs", 300000) * 1_000_000L;
+    private static final int MAX_ENTRIES = AppConfig.getInt("profile.cache.maxEntries", 10000);
+
+    private static final StudentDAO STUDENT_DAO = new StudentDAO();
+
+    private static final ConcurrentHashMap<Integer, Entry> PROFILES = new ConcurrentHashMap<>();
+    // 지울 때마다 증가, 읽는 도중 지워졌으면 읽은 값을 담지 않는다
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder INVALIDATIONS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private StudentProfileCache() {
+    }
+
+    /**
+     * @return 학생이 없으면 null
+     */
+    public static StudentPrincipal get(int studentId) throws SQLException {
+        if (!ENABLED) {
+            return load(studentId);
+        }
+        Entry entry = PROFILES.get(studentId);
+        if (entry != null && System.nanoTime() - entry.loadedAt < TTL_NANOS) {
+            HITS.increment();
+            return entry.principal;
+        }
+
+        MISSES.increment();
+        long version = VERSION.get();
+        StudentPrincipal principal = load(studentId);
+        if (principal == null) {
+            PROFILES.remove(studentId);
+        } else if (VERSION.get() == version) {
+            store(principal);
+        }
+        return principal;
+    }
+
+    /**
+     * 방금 DB에서 읽은 학생 정보 담기 (로그인 직후 등)
+     */
+    public static void put(StudentPrincipal principal) {
+        if (ENABLED && principal != null) {
+            store(principal);
+        }
+    }
+
+    /**
+     * 학생 정보가 바뀌었을 때 호출
+     */
+    public static void invalidate(int studentId) {
+        remove(studentId);
+        // 커밋 전에 다른 요청이 예전 값을 다시 담았을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 지운다
+        TransactionUtil.registerSynchronization(committed -> remove(studentId));
+    }
+
+    public static void clear() {
+        VERSION.incrementAndGet();
+        PROFILES.clear();
+    }
+
+    private static void remove(int studentId) {
+        VERSION.incrementAndGet();
+        if (PROFILES.remove(studentId) != null) {
+            INVALIDATIONS.increment();
+        }
+    }
+
+    private static StudentPrincipal load(int studentId) throws SQLException {
+        Student student = STUDENT_DAO.selectById(studentId);
+        return student == null ? null : StudentPrincipal.of(student);
+    }
+
+    private static void store(StudentPrincipal principal) {
+        if (MAX_ENTRIES <= 0) {
+            return;
+        }
+        int studentId = principal.getStudentId();
+        if (PROFILES.put(studentId, new Entry(principal)) == null && PROFILES.size() > MAX_ENTRIES) {
+            long now = System.nanoTime();
+            PROFILES.values().removeIf(e -> now - e.loadedAt >= TTL_NANOS);
+            Iterator<Map.Entry<Integer, Entry>> it = PROFILES.entrySet().iterator();
+            while (PROFILES.size() > MAX_ENTRIES && it.hasNext()) {
+                if (it.next().getKey() != studentId) {
+                    it.remove();
+                    EVICTIONS.increment();
+                }
+            }
+        }
+    }
+
+    public static String describe() {
+        return "entries=" + PROFILES.size()
+            + ", hits=" + HITS.sum()
+            + ", misses=" + MISSES.sum()
+            + ", invalidations=" + INVALIDATIONS.sum()
+            + ", evictions=" + EVICTIONS.sum();
+    }
+
+    private static final class Entry {
+        private final StudentPrincipal principal;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(StudentPrincipal principal) {
+            this.principal = principal;
+        }
+    }
+}
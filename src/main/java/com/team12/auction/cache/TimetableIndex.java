@@ -0,0 +1,221 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.dao.TimeSlotDAO;
+import com.team12.auction.model.dto.SectionSearchResult;
+import com.team12.auction.model.entity.TimeSlot;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분반별 주간 시간표 색인 (메모리)
+ * <p>
+ * TimeSlot 테이블을 분반별 WeekMask로 바꿔 불변 스냅샷으로 둔다. 학생 시간표(수강 + 수강꾸러미)는 분반 마스크들의 OR이고,
+ * 시간 충돌 확인은 마스크 AND 몇 번으로 끝난다.
+ * 시작 시 한 번 읽고, catalog.refreshIntervalMs마다 TimeSlot 테이블의 요약값을 비교해 바뀌었을 때만 다시 읽는다.
+ * 색인이 없으면 분반마다 DB에서 시간 칸을 읽어 계산한다.
+ */
+public class TimetableIndex {
+
+    private static volatile Map<String, WeekMask> masks;
+    private static volatile String fingerprint;
+    private static Thread refresher;
+    private static volatile boolean running;
+
+    private static final TimeSlotDAO TIME_SLOT_DAO = new TimeSlotDAO();
+    private static final LongAdder CHECKS = new LongAdder();
+    private static final LongAdder FILTERS = new LongAdder();
+    private static final LongAdder FILTER_NANOS = new LongAdder();
+    private static final LongAdder RELOADS = new LongAdder();
+
+    private TimetableIndex() {
+    }
+
+    /**
+     * 색인을 읽고 변경 감시 스레드 시작
+     */
+    public static synchronized void start() {
+        try {
+            reload();
+        } catch (SQLException e) {
+            System.err.println("[ERROR] Timetable index load failed: " + e.getMessage());
+        }
+
+        long interval = AppConfig.getLong("catalog.refreshIntervalMs", 300000);
+        if (interval <= 0 || refresher != null) {
+            return;
+        }
+        running = true;
+        refresher = new Thread(() -> {
+            while (running) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    refreshIfChanged();
+                } catch (SQLException | RuntimeException e) {
+                    System.err.println("[ERROR] Timetable index refresh failed: " + e.getMessage());
+                }
+            }
+        }, "timetable-index-refresh");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
+
+    public static synchronized void stop() {
+        running = false;
+        if (refresher != null) {
+            refresher.interrupt();
+            refresher = null;
+        }
+    }
+
+    public static boolean isLoaded() {
+        return masks != null;
+    }
+
+    /**
+     * TimeSlot 테이블이 바뀌었으면 다시 읽는다.
+     *
+     * @return 다시 읽었으면 true
+     */
+    public static boolean refreshIfChanged() throws SQLException {
+        String current = TIME_SLOT_DAO.selectFingerprint();
+        if (current.equals(fingerprint) && masks != null) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    /**
+     * 전체 시간 칸을 다시 읽어 새 색인으로 교체
+     */
+    public static synchronized void reload() throws SQLException {
+        long started = System.nanoTime();
+        String newFingerprint = TIME_SLOT_DAO.selectFingerprint();
+
+        Map<String, List<TimeSlot>> bySection = new HashMap<>();
+        for (TimeSlot slot : TIME_SLOT_DAO.selectAll()) {
+            bySection.computeIfAbsent(slot.getSectionId(), k -> new ArrayList<>()).add(slot);
+        }
+        Map<String, WeekMask> built = new HashMap<>(bySection.size() * 2);
+        for (Map.Entry<String, List<TimeSlot>> entry : bySection.entrySet()) {
+            built.put(entry.getKey(), WeekMask.of(entry.getValue()));
+        }
+
+        masks = Collections.unmodifiableMap(built);
+        fingerprint = newFingerprint;
+        RELOADS.increment();
+        System.out.println("[INFO] Timetable index loaded: " + built.size() + " sections ("
+            + (System.nanoTime() - started) / 1_000_000 + " ms)");
+    }
+
+    /**
+     * 분반의 주간 마스크 (시간 칸이 없으면 EMPTY)
+     */
+    public static WeekMask maskOf(String sectionId) throws SQLException {
+        Map<String, WeekMask> current = masks;
+        if (current != null) {
+            return current.getOrDefault(sectionId, WeekMask.EMPTY);
+        }
+        return WeekMask.of(TIME_SLOT_DAO.selectBySectionId(sectionId));
+    }
+
+    /**
+     * 여러 분반을 합친 시간표
+     */
+    public static WeekMask union(Collection<String> sectionIds) throws SQLException {
+        WeekMask schedule = WeekMask.EMPTY;
+        for (String sectionId : sectionIds) {
+            schedule = schedule.or(maskOf(sectionId));
+        }
+        return schedule;
+    }
+
+    /**
+     * 학생 시간표(수강 중 + includeBasket이면 수강꾸러미)와 분반이 겹치는지 확인
+     * <p>
+     * 분반에 시간 칸이 없으면 학생 시간표를 읽지 않는다.
+     */
+    public static boolean conflictsWithSchedule(int studentId, String sectionId, boolean includeBasket) throws SQLException {
+        WeekMask mask = maskOf(sectionId);
+        CHECKS.increment();
+        if (mask.isEmpty()) {
+            return false;
+        }
+        Set<String> scheduled = TIME_SLOT_DAO.selectScheduledSectionIds(studentId, includeBasket);
+        scheduled.remove(sectionId);
+        return union(scheduled).intersects(mask);
+    }
+
+    /**
+     * 이미 읽어 둔 학생 시간표(분반 번호 목록)와 분반이 겹치는지 확인 (여러 학생을 한꺼번에 확인할 때)
+     */
+    public static boolean conflictsWithSchedule(Collection<String> scheduledSectionIds, String sectionId) throws SQLException {
+        WeekMask mask = maskOf(sectionId);
+        CHECKS.increment();
+        if (mask.isEmpty()) {
+            return false;
+        }
+        WeekMask schedule = WeekMask.EMPTY;
+        for (String scheduled : scheduledSectionIds) {
+            if (!scheduled.equals(sectionId)) {
+                schedule = schedule.or(maskOf(scheduled));
+            }
+        }
+        return schedule.intersects(mask);
+    }
+
+    /**
+     * 학생 시간표와 겹치는 분반을 뺀 목록 (학생 시간표에 이미 들어 있는 분반은 남김)
+     * <p>
+     * 색인이 없으면 분반마다 DB를 읽어야 하므로 거르지 않고 그대로 돌려준다.
+     */
+    public static List<SectionSearchResult> withoutConflicts(List<SectionSearchResult> sections, int studentId)
+        throws SQLException {
+        if (masks == null) {
+            return sections;
+        }
+        Set<String> scheduled = TIME_SLOT_DAO.selectScheduledSectionIds(studentId, true);
+        WeekMask schedule = union(scheduled);
+        if (schedule.isEmpty()) {
+            return sections;
+        }
+
+        long started = System.nanoTime();
+        List<SectionSearchResult> result = new ArrayList<>(sections.size());
+        for (SectionSearchResult item : sections) {
+            if (scheduled.contains(item.getSectionId()) || !maskOf(item.getSectionId()).intersects(schedule)) {
+                result.add(item);
+            }
+        }
+        FILTERS.increment();
+        FILTER_NANOS.add(System.nanoTime() - started);
+        return result;
+    }
+
+    public static long getAverageFilterMicros() {
+        long count = FILTERS.sum();
+        return count == 0 ? 0 : FILTER_NANOS.sum() / count / 1000;
+    }
+
+    public static String describe() {
+        Map<String, WeekMask> current = masks;
+        return "sections=" + (current == null ? 0 : current.size())
+            + ", checks=" + CHECKS.sum()
+            + ", filters=" + FILTERS.sum()
+            + ", avgFilterUs=" + getAverageFilterMicros()
+            + ", reloads=" + RELOADS.sum();
+    }
+}
@@ -0,0 +1,132 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.model.entity.TimeSlot;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 주간 시간표 비트맵 (불변)
+ * <p>
+ * 일주일을 요일 7개 x 15분 단위 96칸 = 672칸으로 나누고, 수업이 있는 칸을 long 11개의 비트로 표시한다.
+ * 두 시간표가 겹치는지는 long 11개의 AND로 확인한다.
+ * 시간은 HHMM 정수(예: 1030 = 10시 30분), 구간은 [시작, 종료)로 본다 (10:15에 끝나는 수업과 10:15에 시작하는 수업은 겹치지 않음).
+ */
+public final class WeekMask {
+
+    public static final int BUCKET_MINUTES = 15;
+    public static final int BUCKETS_PER_DAY = 24 * 60 / BUCKET_MINUTES;
+    public static final int DAYS = 7;
+    private static final int WORDS = (DAYS * BUCKETS_PER_DAY + 63) / 64;
+
+    public static final WeekMask EMPTY = new WeekMask(new long[WORDS]);
+
+    private static final String[] ENGLISH_DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    private static final String KOREAN_DAYS = "월화수목금토일";
+
+    private final long[] bits;
+
+    private WeekMask(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 시간 칸들로 비트맵 만들기 (요일/시간을 알 수 없는 칸은 건너뜀)
+     */
+    public static WeekMask of(Iterable<TimeSlot> slots) {
+        long[] bits = new long[WORDS];
+        boolean any = false;
+        for (TimeSlot slot : slots) {
+            int day = dayIndex(slot.getDay());
+            int from = toMinutes(slot.getStartTime());
+            int to = toMinutes(slot.getEndTime());
+            if (day < 0 || from < 0 || to <= from) {
+                continue;
+            }
+            int first = day * BUCKETS_PER_DAY + from / BUCKET_MINUTES;
+            int last = day * BUCKETS_PER_DAY + Math.min(BUCKETS_PER_DAY, (to + BUCKET_MINUTES - 1) / BUCKET_MINUTES) - 1;
+            for (int bucket = first; bucket <= last; bucket++) {
+                bits[bucket >>> 6] |= 1L << (bucket & 63);
+            }
+            any = true;
+        }
+        return any ? new WeekMask(bits) : EMPTY;
+    }
+
+    public boolean intersects(WeekMask other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((bits[i] & other.bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public WeekMask or(WeekMask other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        long[] merged = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            merged[i] = bits[i] | other.bits[i];
+        }
+        return new WeekMask(merged);
+    }
+
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 요일 문자열 -> 0(월) ~ 6(일). "MON", "Monday", "월", "월요일" 등 (모르면 -1)
+     */
+    static int dayIndex(String day) {
+        if (day == null || day.isBlank()) {
+            return -1;
+        }
+        String value = day.trim();
+        int korean = KOREAN_DAYS.indexOf(value.charAt(0));
+        if (korean >= 0) {
+            return korean;
+        }
+        if (value.length() >= 3) {
+            String prefix = value.substring(0, 3).toUpperCase(Locale.ROOT);
+            for (int i = 0; i < ENGLISH_DAYS.length; i++) {
+                if (ENGLISH_DAYS[i].equals(prefix)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * HHMM -> 0시부터의 분 (범위를 벗어나면 -1)
+     */
+    static int toMinutes(int hhmm) {
+        int hours = hhmm / 100;
+        int minutes = hhmm % 100;
+        if (hhmm < 0 || hours > 24 || minutes >= 60) {
+            return -1;
+        }
+        return Math.min(24 * 60, hours * 60 + minutes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeekMask && Arrays.equals(bits, ((WeekMask) o).bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+}
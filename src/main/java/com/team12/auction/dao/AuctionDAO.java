@@ -1,19 +1,40 @@
 package com.team12.auction.dao;
 
+import com.team12.auction.cache.AuctionOrderBooks;
+import com.team12.auction.cache.CatalogCache;
 import com.team12.auction.model.dto.AuctionDetail;
 import com.team12.auction.model.entity.Bid;
 import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.TransactionUtil;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class AuctionDAO {
+	/**
+	 * 경매 조회의 분반/강의 컬럼 6개 (section_number, professor, course_id, course_name, department, credits).
+	 * 강의 캐시가 있으면 자리만 채우고 값은 CatalogCache.fillAuction()으로 채운다.
+	 */
+	static String catalogColumns(boolean cached) {
+		return cached ? "NULL, NULL, NULL, NULL, NULL, NULL "
+				: "s.section_number, s.professor, c.course_id, c.course_name, c.department, c.credits ";
+	}
+
+	/**
+	 * 경매(별칭 a)에 분반/강의를 붙이는 조인 (강의 캐시가 있으면 생략)
+	 */
+	static String catalogJoins(boolean cached) {
+		return cached ? "" : "JOIN SECTION s ON a.section_id = s.section_id JOIN COURSE c ON s.course_id = c.course_id ";
+	}
+
 	/**
 	 * 학과별 경매 조회 (ACTIVE 또는 COMPLETED 상태)
 	 */
@@ -68,11 +89,11 @@ public class AuctionDAO {
 	 * 나의 경매 조회 (참여 가능한 모든 경매 + 내 입찰 정보) 입찰했으면 입찰 금액 표시, 안 했으면 0 표시
 	 */
         public Map<AuctionDetail, Bid> selectMyAuctions(int studentId) throws SQLException {
+                boolean cached = CatalogCache.isLoaded();
                 String sql = "SELECT a.auction_id, a.start_time, a.end_time, a.status, a.available_slots, "
-                                + "       a.created_at, a.section_id, " + "       s.section_number, s.professor, "
-                                + "       c.course_id, c.course_name, c.department, c.credits, "
+                                + "       a.created_at, a.section_id, " + catalogColumns(cached) + ", "
                                 + "       b.bid_amount, b.is_successful " + "FROM AUCTION a "
-                                + "JOIN SECTION s ON a.section_id = s.section_id " + "JOIN COURSE c ON s.course_id = c.course_id "
+                                + catalogJoins(cached)
                                 + "JOIN BasketItem bi ON bi.section_id = a.section_id "
                                 + "JOIN Basket ba ON ba.basket_id = bi.basket_id "
                                 + "LEFT JOIN BID b ON b.auction_id = a.auction_id AND b.student_id = ? "
@@ -108,6 +129,9 @@ public class AuctionDAO {
 				auction.setCourseName(rs.getString(11));
 				auction.setDepartment(rs.getString(12));
 				auction.setCredits(rs.getInt(13));
+				if (cached) {
+					CatalogCache.fillAuction(auction);
+				}
 
 				// Bid 객체 생성 (입찰 안 했으면 null 처리)
 				Bid myBid = new Bid();
@@ -134,11 +158,10 @@ public class AuctionDAO {
 	 * 경매 ID로 조회
 	 */
 	public AuctionDetail selectById(String auctionId) throws SQLException {
+		boolean cached = CatalogCache.isLoaded();
 		String sql = "SELECT a.auction_id, a.start_time, a.end_time, a.status, a.available_slots, "
-				+ "       a.created_at, a.section_id, " + "       s.section_number, s.professor, s.capacity, "
-				+ "       c.course_id, c.course_name, c.department, c.credits " + "FROM AUCTION a "
-				+ "JOIN SECTION s ON a.section_id = s.section_id " + "JOIN COURSE c ON s.course_id = c.course_id "
-				+ "WHERE a.auction_id = ?";
+				+ "       a.created_at, a.section_id, " + catalogColumns(cached) + "FROM AUCTION a "
+				+ catalogJoins(cached) + "WHERE a.auction_id = ?";
 
 		Connection conn = null;
 		PreparedStatement pstmt = null;
@@ -161,10 +184,13 @@ public class AuctionDAO {
 				auction.setSectionId(rs.getString(7));
 				auction.setSectionNumber(rs.getInt(8));
 				auction.setProfessor(rs.getString(9));
-				auction.setCourseId(rs.getString(11));
-				auction.setCourseName(rs.getString(12));
-				auction.setDepartment(rs.getString(13));
-				auction.setCredits(rs.getInt(14));
+				auction.setCourseId(rs.getString(10));
+				auction.setCourseName(rs.getString(11));
+				auction.setDepartment(rs.getString(12));
+				auction.setCredits(rs.getInt(13));
+				if (cached) {
+					CatalogCache.fillAuction(auction);
+				}
 				return auction;
 			}
 			rs.close();
@@ -209,11 +235,11 @@ public class AuctionDAO {
          * 종료 시간이 지나고 여전히 ACTIVE 상태인 경매 조회
          */
         public List<AuctionDetail> selectExpiredActiveAuctions() throws SQLException {
+                boolean cached = CatalogCache.isLoaded();
                 String sql = "SELECT a.auction_id, a.start_time, a.end_time, a.status, a.available_slots, a.created_at, a.section_id, "
-                                + "s.section_number, s.professor, c.course_id, c.course_name, c.department, c.credits "
+                                + catalogColumns(cached)
                                 + "FROM AUCTION a "
-                                + "JOIN SECTION s ON a.section_id = s.section_id "
-                                + "JOIN COURSE c ON s.course_id = c.course_id "
+                                + catalogJoins(cached)
                                 + "WHERE a.status = 'ACTIVE' AND a.end_time < SYSDATE";
 
                 List<AuctionDetail> expiredAuctions = new ArrayList<>();
@@ -242,6 +268,9 @@ public class AuctionDAO {
                                 auction.setCourseName(rs.getString(11));
                                 auction.setDepartment(rs.getString(12));
                                 auction.setCredits(rs.getInt(13));
+                                if (cached) {
+                                        CatalogCache.fillAuction(auction);
+                                }
                                 expiredAuctions.add(auction);
                         }
                 } catch (SQLException e) {
@@ -253,8 +282,73 @@ public class AuctionDAO {
                 return expiredAuctions;
         }
 
+        /**
+         * ACTIVE 경매별 종료까지 남은 시간(ms, DB 시각 기준 / 이미 지났으면 음수)
+         */
+        public Map<String, Long> selectActiveAuctionDeadlines() throws SQLException {
+                String sql = "SELECT auction_id, ROUND((end_time - SYSDATE) * 86400000) AS remaining_ms "
+                                + "FROM AUCTION WHERE status = 'ACTIVE' ORDER BY end_time";
+
+                Map<String, Long> deadlines = new LinkedHashMap<>();
+
+                Connection conn = null;
+                PreparedStatement pstmt = null;
+                ResultSet rs = null;
+
+                try {
+                        conn = DBConnection.getConnection();
+                        pstmt = conn.prepareStatement(sql);
+                        rs = pstmt.executeQuery();
+
+                        while (rs.next()) {
+                                deadlines.put(rs.getString(1), rs.getLong(2));
+                        }
+                } finally {
+                        DBConnection.close(rs, pstmt, conn);
+                }
+
+                return deadlines;
+        }
+
+        /**
+         * 마감 처리할 경매 행을 잠그고 조회 (외부 트랜잭션을 사용)
+         * <p>
+         * 잠근 뒤 상태와 종료 시간을 다시 확인하므로, 이미 다른 곳에서 마감했거나 아직 종료 전이면 null을 반환한다.
+         */
+        public AuctionDetail lockExpiredActiveAuction(Connection conn, String auctionId) throws SQLException {
+                String sql = "SELECT auction_id, end_time, status, available_slots, section_id "
+                                + "FROM AUCTION WHERE auction_id = ? AND status = 'ACTIVE' AND end_time < SYSDATE "
+                                + "FOR UPDATE";
+
+                PreparedStatement pstmt = null;
+                ResultSet rs = null;
+
+                try {
+                        pstmt = conn.prepareStatement(sql);
+                        pstmt.setString(1, auctionId);
+                        rs = pstmt.executeQuery();
+
+                        if (!rs.next()) {
+                                return null;
+                        }
+
+                        AuctionDetail auction = new AuctionDetail();
+                        auction.setAuctionId(rs.getString(1));
+                        Timestamp endTime = rs.getTimestamp(2);
+                        auction.setEndTime(endTime == null ? null : new java.sql.Date(endTime.getTime()));
+                        auction.setStatus(rs.getString(3));
+                        auction.setAvailableSlots(rs.getInt(4));
+                        auction.setSectionId(rs.getString(5));
+                        return auction;
+                } finally {
+                        DBConnection.close(rs, pstmt, null);
+                }
+        }
+
         /**
          * 경매 상태 업데이트 (외부 트랜잭션을 사용)
+         * <p>
+         * ACTIVE가 아닌 경매는 순위표가 필요 없으므로 지금, 그리고 트랜잭션이 끝난 뒤 한 번 더 버린다.
          */
         public void updateStatus(Connection conn, String auctionId, String status) throws SQLException {
                 PreparedStatement pstmt = null;
@@ -270,5 +364,8 @@ public class AuctionDAO {
                                 pstmt.close();
                         }
                 }
+
+                AuctionOrderBooks.invalidate(auctionId);
+                TransactionUtil.registerSynchronization(committed -> AuctionOrderBooks.invalidate(auctionId));
         }
 }
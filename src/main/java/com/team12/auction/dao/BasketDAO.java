@@ -7,46 +7,65 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.team12.auction.cache.BasketIdCache;
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.model.dto.BasketAddResult;
 import com.team12.auction.model.dto.BasketItemDetail;
 import com.team12.auction.util.DBConnection;
 
 public class BasketDAO {
+
+	private final StudentDAO studentDAO = new StudentDAO();
+
 	/**
 	 * 학생의 장바구니가 없으면 생성 (basket_id = 'B' + studentId)
 	 */
 	public void ensureBasketExists(int studentId) throws SQLException {
+		ensureBasket(studentId);
+	}
+
+	/**
+	 * 학생의 장바구니 ID 조회, 없으면 생성 (한 번 확인한 학생은 BasketIdCache에서 바로 반환)
+	 */
+	public String ensureBasket(int studentId) throws SQLException {
+		String cached = BasketIdCache.get(studentId);
+		if (cached != null) {
+			return cached;
+		}
+
 		Connection conn = null;
 		PreparedStatement pstmt = null;
 		ResultSet rs = null;
+		String basketId = null;
 
 		try {
 			conn = DBConnection.getConnection();
 
-			// 1. 이 학생의 장바구니가 이미 있는지 확인
-			String selectSql = "SELECT basket_id FROM Basket WHERE student_id = ?";
-			pstmt = conn.prepareStatement(selectSql);
+			// 1. 없을 때만 생성 (조회 + INSERT를 MERGE 한 번으로)
+			String mergeSql = "MERGE INTO Basket b USING (SELECT ? AS student_id FROM dual) s "
+					+ "ON (b.student_id = s.student_id) "
+					+ "WHEN NOT MATCHED THEN INSERT (basket_id, student_id) VALUES (?, s.student_id)";
+			pstmt = conn.prepareStatement(mergeSql);
 			pstmt.setInt(1, studentId);
-			rs = pstmt.executeQuery();
-
-			if (rs.next()) {
-				// 이미 장바구니가 있으면, 기존 basket_id 는 그대로 두고 바로 종료
-				return;
+			pstmt.setString(2, newBasketId(studentId));
+			try {
+				pstmt.executeUpdate();
+			} catch (SQLException e) {
+				// 같은 학생의 장바구니를 다른 요청이 먼저 만든 경우 (ORA-00001) 그대로 조회한다
+				if (e.getErrorCode() != 1) {
+					throw e;
+				}
 			}
-			rs.close();
 			pstmt.close();
 
-			// 2. 장바구니가 없다면 새로 생성
-			String studentIdStr = String.valueOf(studentId); // 예: 2025111482
-			if (studentIdStr.length() > 9) {
-				studentIdStr = studentIdStr.substring(0, 9); // 앞 9자리만 사용 -> 202511148
+			// 2. 기존/새 장바구니 ID 조회
+			pstmt = conn.prepareStatement("SELECT basket_id FROM Basket WHERE student_id = ?");
+			pstmt.setInt(1, studentId);
+			rs = pstmt.executeQuery();
+			if (rs.next()) {
+				basketId = rs.getString(1);
 			}
-			String newBasketId = "B" + studentIdStr; // -> B202511148
-
-			String insertSql = "INSERT INTO Basket (basket_id, student_id) VALUES (?, ?)";
-			pstmt = conn.prepareStatement(insertSql);
-			pstmt.setString(1, newBasketId);
-			pstmt.setInt(2, studentId);
-			pstmt.executeUpdate();
 
 			DBConnection.commit(conn);
 
@@ -56,17 +75,28 @@ public class BasketDAO {
 		} finally {
 			DBConnection.close(rs, pstmt, conn);
 		}
+
+		BasketIdCache.put(studentId, basketId);
+		return basketId;
+	}
+
+	/**
+	 * 새 장바구니 ID: 'B' + 학번 앞 9자리 (예: 2025111482 -> B202511148)
+	 */
+	private static String newBasketId(int studentId) {
+		String studentIdStr = String.valueOf(studentId);
+		if (studentIdStr.length() > 9) {
+			studentIdStr = studentIdStr.substring(0, 9);
+		}
+		return "B" + studentIdStr;
 	}
 
 	/**
 	 * 해당 분반이 이미 장바구니에 있는지 확인
 	 */
 	public boolean isSectionInBasket(int studentId, String sectionId) throws SQLException {
-		String basketId = getBasketId(studentId);
-		if (basketId == null) {
-			return false;
-		}
-		String sql = "SELECT COUNT(*) " + "FROM BasketItem " + "WHERE basket_id = ? AND section_id = ?";
+		String sql = "SELECT COUNT(*) " + "FROM BasketItem bi " + "JOIN Basket b ON b.basket_id = bi.basket_id "
+				+ "WHERE b.student_id = ? AND bi.section_id = ?";
 
 		Connection conn = null;
 		PreparedStatement pstmt = null;
@@ -76,7 +106,7 @@ public class BasketDAO {
 		try {
 			conn = DBConnection.getConnection();
 			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, basketId);
+			pstmt.setInt(1, studentId);
 			pstmt.setString(2, sectionId);
 
 			rs = pstmt.executeQuery();
@@ -98,16 +128,16 @@ public class BasketDAO {
 	 * 현재 장바구니에 담긴 과목들의 총 학점 계산
 	 */
 	public int getTotalCreditsInBasket(int studentId) throws SQLException {
-		String basketId = getBasketId(studentId);
-		if (basketId == null) {
-			return 0;
+		if (CatalogCache.isLoaded()) {
+			return sumCreditsFromCatalog(studentId);
 		}
 
 		String sql = "SELECT NVL(SUM(c.credits), 0) AS total_credits " +
 				"FROM BasketItem bi " +
+				"JOIN Basket b ON b.basket_id = bi.basket_id " +
 				"JOIN Section s ON bi.section_id = s.section_id " +
 				"JOIN Course c ON s.course_id = c.course_id " +
-				"WHERE bi.basket_id = ?";
+				"WHERE b.student_id = ?";
 
 		Connection conn = null;
 		PreparedStatement pstmt = null;
@@ -117,7 +147,7 @@ public class BasketDAO {
 		try {
 			conn = DBConnection.getConnection();
 			pstmt = conn.prepareStatement(sql);
-			pstmt.setString(1, basketId);
+			pstmt.setInt(1, studentId);
 
 			rs = pstmt.executeQuery();
 
@@ -134,21 +164,126 @@ public class BasketDAO {
 		return totalCredits;
 	}
 
+	/**
+	 * 담긴 분반 ID만 읽고 학점은 강의 캐시에서 더한다.
+	 */
+	private int sumCreditsFromCatalog(int studentId) throws SQLException {
+		String sql = "SELECT bi.section_id FROM BasketItem bi JOIN Basket b ON b.basket_id = bi.basket_id "
+				+ "WHERE b.student_id = ?";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		List<String> sectionIds = new ArrayList<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setInt(1, studentId);
+
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				sectionIds.add(rs.getString(1));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		int totalCredits = 0;
+		for (String sectionId : sectionIds) {
+			totalCredits += CatalogCache.getCredits(sectionId);
+		}
+		return totalCredits;
+	}
+
 	/**
 	 * 장바구니에 분반 추가 (정원 제한 없음)
 	 */
 	public void addSectionToBasket(int studentId, String sectionId) throws SQLException {
-		String basketId = getBasketId(studentId);
-		if (basketId == null) {
-			throw new SQLException("장바구니 ID를 찾을 수 없습니다.");
+		Connection conn = null;
+
+		try {
+			conn = DBConnection.getConnection();
+
+			String basketId = BasketIdCache.get(studentId);
+			int inserted = basketId != null
+					? insertBasketItem(conn, basketId, sectionId)
+					: insertBasketItemByStudent(conn, studentId, sectionId);
+			if (inserted == 0) {
+				throw new SQLException("장바구니 ID를 찾을 수 없습니다.");
+			}
+			studentDAO.applyLedgerDelta(conn, studentId, 0, 0, 0, CatalogCache.getCredits(sectionId));
+
+			DBConnection.commit(conn);
+			SectionCounters.basketChanged(sectionId, 1);
+
+		} catch (SQLException e) {
+			DBConnection.rollback(conn);
+			throw e;
+		} finally {
+			DBConnection.close(conn);
 		}
+	}
+
+	/**
+	 * 수강꾸러미 담기 확인에 필요한 정보를 한 번에 조회 (트랜잭션은 호출자가 관리)
+	 * <p>
+	 * 학생의 최대 학점, 장바구니 ID, 이미 담았는지 여부, 담은 분반들의 학점 합을 채운다.
+	 * lockStudent면 학생 행을 FOR UPDATE로 잠가 같은 학생의 담기를 한 줄로 세운다 (다른 학생은 영향 없음).
+	 *
+	 * @return 학생이 없으면 null
+	 */
+	public BasketAddResult selectAddContext(Connection conn, int studentId, String sectionId, boolean lockStudent)
+			throws SQLException {
+		// 담은 학점 합은 StudentLedger에서 읽고, 장부 행이 없거나 꺼져 있으면 BasketItem에서 계산
+		String basketCreditsSql = StudentDAO.isLedgerEnabled()
+				? "COALESCE(l.basket_credits, " + StudentDAO.BASKET_CREDITS_SQL + ") "
+				: StudentDAO.BASKET_CREDITS_SQL + " ";
+		String sql = "SELECT st.max_credits, b.basket_id, "
+				+ "(SELECT COUNT(*) FROM BasketItem bi WHERE bi.basket_id = b.basket_id AND bi.section_id = ?), "
+				+ basketCreditsSql
+				+ "FROM Student st LEFT JOIN Basket b ON b.student_id = st.student_id "
+				+ (StudentDAO.isLedgerEnabled() ? "LEFT JOIN StudentLedger l ON l.student_id = st.student_id " : "")
+				+ "WHERE st.student_id = ?"
+				+ (lockStudent ? " FOR UPDATE OF st.max_credits" : "");
 
-		Connection conn = null;
 		PreparedStatement pstmt = null;
+		ResultSet rs = null;
 
 		try {
-			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setString(1, sectionId);
+			pstmt.setInt(2, studentId);
+			rs = pstmt.executeQuery();
+
+			if (!rs.next()) {
+				return null;
+			}
+
+			BasketAddResult context = new BasketAddResult();
+			context.setStudentFound(true);
+			context.setMaxCredits(rs.getInt(1));
+			context.setBasketId(rs.getString(2));
+			context.setInBasket(rs.getInt(3) > 0);
+			context.setCurrentCredits(rs.getInt(4));
+			if (context.getBasketId() != null) {
+				BasketIdCache.put(studentId, context.getBasketId());
+			}
+			return context;
+		} finally {
+			DBConnection.close(rs, pstmt, null);
+		}
+	}
 
+	/**
+	 * BasketItem INSERT (트랜잭션은 호출자가 관리, 카운터 반영은 호출자가 함)
+	 *
+	 * @return 추가된 행 수
+	 */
+	public int insertBasketItem(Connection conn, String basketId, String sectionId) throws SQLException {
+		PreparedStatement pstmt = null;
+		try {
 			// BasketItem에 INSERT (정원 체크 없이 담기)
 			String sql = "INSERT INTO BasketItem "
 					+ "(registration_time, status, processed_time, reason, basket_id, section_id) "
@@ -157,15 +292,28 @@ public class BasketDAO {
 			pstmt = conn.prepareStatement(sql);
 			pstmt.setString(1, basketId);
 			pstmt.setString(2, sectionId);
-			pstmt.executeUpdate();
+			return pstmt.executeUpdate();
+		} finally {
+			DBConnection.close(pstmt, null);
+		}
+	}
 
-			DBConnection.commit(conn);
+	/**
+	 * 학번으로 장바구니를 찾아 BasketItem INSERT (장바구니가 없으면 0)
+	 */
+	private int insertBasketItemByStudent(Connection conn, int studentId, String sectionId) throws SQLException {
+		PreparedStatement pstmt = null;
+		try {
+			String sql = "INSERT INTO BasketItem "
+					+ "(registration_time, status, processed_time, reason, basket_id, section_id) "
+					+ "SELECT SYSDATE, 'PENDING', NULL, NULL, basket_id, ? FROM Basket WHERE student_id = ?";
 
-		} catch (SQLException e) {
-			DBConnection.rollback(conn);
-			throw e;
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setString(1, sectionId);
+			pstmt.setInt(2, studentId);
+			return pstmt.executeUpdate();
 		} finally {
-			DBConnection.close(pstmt, conn);
+			DBConnection.close(pstmt, null);
 		}
 	}
 
@@ -173,14 +321,19 @@ public class BasketDAO {
 	 * 로그인한 학생의 수강꾸러미 조회
 	 */
 	public List<BasketItemDetail> getMyBasket(int studentId) throws SQLException {
+		// 카운터가 준비되어 있으면 담은 인원은 메모리에서 채우고 GROUP BY 조인은 생략한다
+		boolean useCounters = SectionCounters.isReady();
 		String sql = "SELECT s.section_id, s.section_number, s.professor, "
 				+ "s.capacity, s.classroom, s.course_id, c.course_name, c.credits, "
 				+ "bi.status, bi.reason, bi.registration_time, bi.processed_time, "
-				+ "NVL(basket.basket_count, 0) AS basket_count " + "FROM Basket b "
+				+ (useCounters ? "0 AS basket_count " : "NVL(basket.basket_count, 0) AS basket_count ")
+				+ "FROM Basket b "
 				+ "JOIN BasketItem bi ON b.basket_id = bi.basket_id "
 				+ "JOIN Section s ON bi.section_id = s.section_id " + "JOIN Course c ON s.course_id = c.course_id "
-				+ "LEFT JOIN (SELECT section_id, COUNT(*) AS basket_count FROM BasketItem GROUP BY section_id) basket "
-				+ "ON basket.section_id = s.section_id " + "WHERE b.student_id = ? "
+				+ (useCounters ? ""
+						: "LEFT JOIN (SELECT section_id, COUNT(*) AS basket_count FROM BasketItem GROUP BY section_id) basket "
+								+ "ON basket.section_id = s.section_id ")
+				+ "WHERE b.student_id = ? "
 				+ "ORDER BY bi.registration_time DESC";
 
 		Connection conn = null;
@@ -209,7 +362,7 @@ public class BasketDAO {
 				item.setReason(rs.getString(10));
 				item.setRegistrationTime(rs.getTimestamp(11));
 				item.setProcessedTime(rs.getTimestamp(12));
-				item.setBasketCount(rs.getInt(13));
+				item.setBasketCount(useCounters ? SectionCounters.getBasketCount(item.getSectionId()) : rs.getInt(13));
 				list.add(item);
 			}
 
@@ -226,6 +379,11 @@ public class BasketDAO {
 	 * 학생의 basket_id 조회
 	 */
 	public String getBasketId(int studentId) throws SQLException {
+		String cached = BasketIdCache.get(studentId);
+		if (cached != null) {
+			return cached;
+		}
+
 		String sql = "SELECT basket_id FROM Basket WHERE student_id = ?";
 
 		Connection conn = null;
@@ -250,6 +408,7 @@ public class BasketDAO {
 			DBConnection.close(rs, pstmt, conn);
 		}
 
+		BasketIdCache.put(studentId, basketId);
 		return basketId;
 	}
 
@@ -257,10 +416,6 @@ public class BasketDAO {
 	 * 장바구니에서 분반 삭제 (Enrollment까지 함께 제거)
 	 */
 	public int deleteSectionFromBasket(int studentId, String sectionId) throws SQLException {
-		String basketId = getBasketId(studentId);
-		if (basketId == null)
-			return 0;
-
 		Connection conn = null;
 		PreparedStatement pstmt = null;
 		int deletedItems = 0;
@@ -268,12 +423,16 @@ public class BasketDAO {
 		try {
 			conn = DBConnection.getConnection();
 
-			String deleteItemSql = "DELETE FROM BasketItem WHERE basket_id = ? AND section_id = ?";
+			String deleteItemSql = "DELETE FROM BasketItem WHERE section_id = ? "
+					+ "AND basket_id IN (SELECT basket_id FROM Basket WHERE student_id = ?)";
 			pstmt = conn.prepareStatement(deleteItemSql);
-			pstmt.setString(1, basketId);
-			pstmt.setString(2, sectionId);
+			pstmt.setString(1, sectionId);
+			pstmt.setInt(2, studentId);
 			deletedItems = pstmt.executeUpdate();
 			pstmt.close();
+			if (deletedItems > 0) {
+				studentDAO.applyLedgerDelta(conn, studentId, 0, 0, 0, -deletedItems * CatalogCache.getCredits(sectionId));
+			}
 
 //            String deleteEnrollmentSql = "DELETE FROM Enrollment WHERE student_id = ? AND section_id = ?";
 //            pstmt = conn.prepareStatement(deleteEnrollmentSql);
@@ -283,6 +442,7 @@ public class BasketDAO {
 //            pstmt.close();
 
 			DBConnection.commit(conn);
+			SectionCounters.basketChanged(sectionId, -deletedItems);
 
 		} catch (SQLException e) {
 			DBConnection.rollback(conn);
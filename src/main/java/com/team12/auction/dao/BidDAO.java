@@ -1,17 +1,42 @@
 package com.team12.auction.dao;
 
+import com.team12.auction.cache.AuctionOrderBook;
+import com.team12.auction.cache.AuctionOrderBooks;
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.cache.TimetableIndex;
+import com.team12.auction.model.dto.AuctionDetail;
 import com.team12.auction.model.dto.BidDetail;
+import com.team12.auction.model.dto.BidPlacementResult;
 import com.team12.auction.model.entity.Bid;
+import com.team12.auction.util.AppConfig;
 import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.IdAllocator;
+import com.team12.auction.util.IdAllocators;
+import com.team12.auction.util.TransactionUtil;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class BidDAO {
+
+    private static final String CLEARING_MODE = AppConfig.getString("auction.clearing.mode", "set").toLowerCase();
+
+    // 낙찰 순서: 금액 높은순, 입찰 시각 빠른순, 입찰 번호 작은순 (모든 마감 방식이 같은 순서를 사용)
+    private static final String CLEARING_ORDER = "bid_amount DESC, bid_time ASC, TO_NUMBER(SUBSTR(bid_sequence, 4)) ASC";
+
+    private final StudentDAO studentDAO = new StudentDAO();
+
     /**
      * 특정 경매의 입찰 목록 조회 (포인트 높은순, 시간 빠른순)
      */
@@ -68,41 +93,31 @@ public class BidDAO {
         try {
             conn = DBConnection.getConnection();
 
-            // 0. BID_SEQUENCE 생성 (락 적용됨)
-            String bidSequence = generateBidSequence(conn);
-            bid.setBidSequence(bidSequence);
+            // 1. 입찰 INSERT (BID_SEQUENCE는 insertBid 내부에서 생성)
+            insertBid(conn, bid);
 
-            // 1. 입찰 INSERT
-            String insertBidSql = "INSERT INTO Bid (bid_sequence, bid_amount, bid_time, auction_id, student_id) "
-                + "VALUES (?, ?, SYSDATE, ?, ?)";
+            // 2. 내 순위 계산 (순위표가 있으면 메모리에서)
+            AuctionOrderBook book = AuctionOrderBooks.peek(bid.getAuctionId());
+            int myRank = book == null ? -1 : book.rankOf(bid.getBidSequence());
+            if (myRank < 0) {
+                String rankSql = "SELECT COUNT(*) + 1 AS my_rank " + "FROM Bid " + "WHERE auction_id = ? "
+                    + "AND (bid_amount > ? OR (bid_amount = ? AND bid_time < "
+                    + "(SELECT bid_time FROM Bid WHERE bid_sequence = ?)))";
 
-            pstmt = conn.prepareStatement(insertBidSql);
-            pstmt.setString(1, bid.getBidSequence());
-            pstmt.setInt(2, bid.getBidAmount());
-            pstmt.setString(3, bid.getAuctionId());
-            pstmt.setInt(4, bid.getStudentId());
-            pstmt.executeUpdate();
-            pstmt.close();
-
-            // 2. 내 순위 계산
-            String rankSql = "SELECT COUNT(*) + 1 AS my_rank " + "FROM Bid " + "WHERE auction_id = ? "
-                + "AND (bid_amount > ? OR (bid_amount = ? AND bid_time < "
-                + "(SELECT bid_time FROM Bid WHERE bid_sequence = ?)))";
+                pstmt = conn.prepareStatement(rankSql);
+                pstmt.setString(1, bid.getAuctionId());
+                pstmt.setInt(2, bid.getBidAmount());
+                pstmt.setInt(3, bid.getBidAmount());
+                pstmt.setString(4, bid.getBidSequence());
 
-            pstmt = conn.prepareStatement(rankSql);
-            pstmt.setString(1, bid.getAuctionId());
-            pstmt.setInt(2, bid.getBidAmount());
-            pstmt.setInt(3, bid.getBidAmount());
-            pstmt.setString(4, bid.getBidSequence());
+                rs = pstmt.executeQuery();
 
-            rs = pstmt.executeQuery();
-
-            int myRank = 0;
-            if (rs.next()) {
-                myRank = rs.getInt(1);
+                if (rs.next()) {
+                    myRank = rs.getInt(1);
+                }
+                rs.close();
+                pstmt.close();
             }
-            rs.close();
-            pstmt.close();
 
             // 3. 낙찰 여부 판단
             isWinner = myRank <= availableSlots;
@@ -115,8 +130,8 @@ public class BidDAO {
                 pstmt.executeUpdate();
                 pstmt.close();
 
-                // 4-2. Enrollment 테이블에 INSERT (락 적용됨)
-                String enrollmentId = generateEnrollmentId(conn);
+                // 4-2. Enrollment 테이블에 INSERT
+                String enrollmentId = generateEnrollmentId();
                 String insertEnrollmentSql = "INSERT INTO Enrollment (enrollment_id, enrollment_source, points_used, enrollment_time, student_id, section_id) "
                     + "VALUES (?, 'FROM_AUCTION', ?, SYSDATE, ?, ?)";
 
@@ -127,9 +142,16 @@ public class BidDAO {
                 pstmt.setString(4, sectionId);
                 pstmt.executeUpdate();
                 pstmt.close();
+
+                // 건 포인트를 쓴 포인트로 옮기고 학점 추가
+                studentDAO.applyLedgerDelta(conn, bid.getStudentId(), bid.getBidAmount(), -bid.getBidAmount(),
+                    CatalogCache.getCredits(sectionId), 0);
             }
 
             DBConnection.commit(conn);
+            if (isWinner) {
+                SectionCounters.enrollmentChanged(sectionId, 1);
+            }
 
         } catch (SQLException e) {
             DBConnection.rollback(conn);
@@ -145,6 +167,11 @@ public class BidDAO {
      * 새 입찰을 추가하기 전에 예상 순위를 계산한다 (동점일 경우 기존 입찰이 우선이므로 동점 건수를 모두 앞에 둔다).
      */
     public int calculateProspectiveRank(String auctionId, int bidAmount) throws SQLException {
+        AuctionOrderBook book = AuctionOrderBooks.peek(auctionId);
+        if (book != null) {
+            return book.prospectiveRank(bidAmount);
+        }
+
         String sql = "SELECT COUNT(*) + 1 AS my_rank " + "FROM Bid " + "WHERE auction_id = ? "
             + "AND (bid_amount > ? OR bid_amount = ?)";
 
@@ -180,32 +207,212 @@ public class BidDAO {
      */
     public void insertBid(Bid bid) throws SQLException {
         Connection conn = null;
-        PreparedStatement pstmt = null;
 
         try {
             conn = DBConnection.getConnection();
+            insertBid(conn, bid);
+            DBConnection.commit(conn);
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            DBConnection.close(conn);
+        }
+    }
+
+    /**
+     * 입찰 기록 (트랜잭션은 호출자가 관리)
+     * <p>
+     * 트랜잭션 안이면 경매 행 잠금을 쥔 채로 경매 순위표에 바로 넣고, 롤백되면 다시 뺀다.
+     * (커밋 뒤에 넣으면 잠금이 풀린 사이에 다음 입찰이 이 입찰이 빠진 순위표로 중복/순위를 검사하게 된다)
+     * 순위표와 테이블의 동점 순서가 같도록 bid_time은 애플리케이션 시각(초 단위)으로 기록한다.
+     */
+    public void insertBid(Connection conn, Bid bid) throws SQLException {
+        // bid_sequence 생성
+        String bidSequence = generateBidSequence();
+        bid.setBidSequence(bidSequence);
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        bid.setBidTime(new java.sql.Date(now));
 
-            // bid_sequence 생성 (락 적용됨)
-            String bidSequence = generateBidSequence(conn);
-            bid.setBidSequence(bidSequence);
+        AuctionOrderBook book = TransactionUtil.isActive() ? AuctionOrderBooks.get(conn, bid.getAuctionId()) : null;
 
-            String insertBidSql = "INSERT INTO Bid (bid_sequence, bid_amount, bid_time, is_successful, auction_id, student_id) "
-                + "VALUES (?, ?, SYSDATE, NULL, ?, ?)";
+        String insertBidSql = "INSERT INTO Bid (bid_sequence, bid_amount, bid_time, is_successful, auction_id, student_id) "
+            + "VALUES (?, ?, ?, NULL, ?, ?)";
 
+        PreparedStatement pstmt = null;
+        try {
             pstmt = conn.prepareStatement(insertBidSql);
             pstmt.setString(1, bidSequence);
             pstmt.setInt(2, bid.getBidAmount());
-            pstmt.setString(3, bid.getAuctionId());
-            pstmt.setInt(4, bid.getStudentId());
+            pstmt.setTimestamp(3, new Timestamp(now));
+            pstmt.setString(4, bid.getAuctionId());
+            pstmt.setInt(5, bid.getStudentId());
             pstmt.executeUpdate();
+        } finally {
+            DBConnection.close(pstmt, null);
+        }
+        // 마감 전까지 건 포인트로 잡아 둔다
+        studentDAO.applyLedgerDelta(conn, bid.getStudentId(), 0, bid.getBidAmount(), 0, 0);
+
+        if (book != null) {
+            book.add(bid);
+            TransactionUtil.registerSynchronization(committed -> {
+                if (!committed) {
+                    book.remove(bid.getBidSequence());
+                }
+            });
+        } else {
+            // 트랜잭션 밖에서는 결과를 알 수 없으므로 순위표를 버리고 다음 조회 때 다시 읽는다
+            AuctionOrderBooks.invalidate(bid.getAuctionId());
+        }
+    }
 
-            DBConnection.commit(conn);
-        } catch (SQLException e) {
-            DBConnection.rollback(conn);
-            throw e;
+    /**
+     * 경매 순위표 초기화용 입찰 목록 (트랜잭션은 호출자가 관리)
+     */
+    public List<Bid> selectBidsForOrderBook(Connection conn, String auctionId) throws SQLException {
+        String sql = "SELECT bid_sequence, bid_amount, bid_time, student_id FROM Bid WHERE auction_id = ?";
+
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<Bid> bids = new ArrayList<>();
+
+        try {
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, auctionId);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                Bid bid = new Bid();
+                bid.setBidSequence(rs.getString(1));
+                bid.setBidAmount(rs.getInt(2));
+                Timestamp bidTime = rs.getTimestamp(3);
+                bid.setBidTime(bidTime == null ? null : new java.sql.Date(bidTime.getTime()));
+                bid.setAuctionId(auctionId);
+                bid.setStudentId(rs.getInt(4));
+                bids.add(bid);
+            }
+        } finally {
+            DBConnection.close(rs, pstmt, null);
+        }
+
+        return bids;
+    }
+
+    /**
+     * 입찰 화면/입찰 검증에 필요한 정보를 한 번에 조회 (트랜잭션은 호출자가 관리)
+     * <p>
+     * 경매 정보와 함께 수강꾸러미 포함 여부, 기존 입찰 여부, 전체 입찰 수, bidAmount 기준 예상 순위를 채운다.
+     * lockAuction이면 경매 행을 FOR UPDATE로 잠가 같은 경매의 입찰을 한 줄로 세운다 (다른 경매는 영향 없음).
+     * withBidStats가 false면 입찰 관련 집계(Bid 테이블 조회)를 생략한다 (경매 순위표를 쓰는 경우).
+     *
+     * @return 경매가 없으면 null
+     */
+    public BidPlacementResult selectBidContext(Connection conn, String auctionId, int studentId, int bidAmount,
+                                               boolean lockAuction, boolean withBidStats) throws SQLException {
+        String bidStats = withBidStats
+            ? "(SELECT COUNT(*) FROM Bid b WHERE b.auction_id = a.auction_id AND b.student_id = ?) AS my_bids, "
+                + "(SELECT COUNT(*) FROM Bid b WHERE b.auction_id = a.auction_id) AS total_bids, "
+                + "(SELECT COUNT(*) FROM Bid b WHERE b.auction_id = a.auction_id AND b.bid_amount >= ?) + 1 AS my_rank "
+            : "0 AS my_bids, 0 AS total_bids, 0 AS my_rank ";
+        // 강의 캐시가 있으면 분반/강의 조인 없이 경매 행만 읽는다
+        boolean cached = CatalogCache.isLoaded();
+        String sql = "SELECT a.auction_id, a.start_time, a.end_time, a.status, a.available_slots, "
+            + "a.created_at, a.section_id, " + AuctionDAO.catalogColumns(cached) + ", "
+            + "(SELECT COUNT(*) FROM BasketItem bi JOIN Basket ba ON ba.basket_id = bi.basket_id "
+            + " WHERE ba.student_id = ? AND bi.section_id = a.section_id) AS in_basket, "
+            + bidStats
+            + "FROM Auction a "
+            + AuctionDAO.catalogJoins(cached)
+            + "WHERE a.auction_id = ?"
+            + (lockAuction ? " FOR UPDATE OF a.status" : "");
+
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            pstmt = conn.prepareStatement(sql);
+            int idx = 1;
+            pstmt.setInt(idx++, studentId);
+            if (withBidStats) {
+                pstmt.setInt(idx++, studentId);
+                pstmt.setInt(idx++, bidAmount);
+            }
+            pstmt.setString(idx, auctionId);
+
+            rs = pstmt.executeQuery();
+
+            if (!rs.next()) {
+                return null;
+            }
+
+            AuctionDetail auction = new AuctionDetail();
+            auction.setAuctionId(rs.getString(1));
+            auction.setStartTime(rs.getDate(2));
+            auction.setEndTime(rs.getDate(3));
+            auction.setStatus(rs.getString(4));
+            auction.setAvailableSlots(rs.getInt(5));
+            auction.setCreatedAt(rs.getDate(6));
+            auction.setSectionId(rs.getString(7));
+            auction.setSectionNumber(rs.getInt(8));
+            auction.setProfessor(rs.getString(9));
+            auction.setCourseId(rs.getString(10));
+            auction.setCourseName(rs.getString(11));
+            auction.setDepartment(rs.getString(12));
+            auction.setCredits(rs.getInt(13));
+            if (cached) {
+                CatalogCache.fillAuction(auction);
+            }
+
+            BidPlacementResult context = new BidPlacementResult();
+            context.setAuction(auction);
+            context.setInBasket(rs.getInt(14) > 0);
+            context.setAlreadyBid(rs.getInt(15) > 0);
+            context.setTotalBidCount(rs.getInt(16));
+            context.setProspectiveRank(rs.getInt(17));
+            return context;
+        } finally {
+            DBConnection.close(rs, pstmt, null);
+        }
+    }
+
+    /**
+     * 상위 limit개의 입찰 조회 (포인트 높은순, 시간 빠른순 / 트랜잭션은 호출자가 관리)
+     */
+    public List<BidDetail> selectTopBids(Connection conn, String auctionId, int limit) throws SQLException {
+        String sql = "SELECT b.bid_sequence, b.bid_amount, b.bid_time, b.is_successful, "
+            + "b.auction_id, b.student_id, s.name " + "FROM Bid b "
+            + "JOIN Student s ON b.student_id = s.student_id " + "WHERE b.auction_id = ? "
+            + "ORDER BY b.bid_amount DESC, b.bid_time ASC "
+            + "FETCH FIRST ? ROWS ONLY";
+
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<BidDetail> bids = new ArrayList<>();
+
+        try {
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, auctionId);
+            pstmt.setInt(2, limit);
+
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                BidDetail bid = new BidDetail();
+                bid.setBidSequence(rs.getString(1));
+                bid.setBidAmount(rs.getInt(2));
+                bid.setBidTime(rs.getDate(3));
+                bid.setIsSuccessful(rs.getString(4));
+                bid.setAuctionId(rs.getString(5));
+                bid.setStudentId(rs.getInt(6));
+                bid.setStudentName(rs.getString(7));
+                bids.add(bid);
+            }
         } finally {
-            DBConnection.close(pstmt, conn);
+            DBConnection.close(rs, pstmt, null);
         }
+
+        return bids;
     }
 
     /**
@@ -304,38 +511,12 @@ public class BidDAO {
     }
 
     /**
-     * BID_SEQUENCE 생성 (BID001, BID002, ...)
+     * BID_SEQUENCE 생성 (BID0000001, BID0000002, ...)
+     * <p>
+     * IdAllocator가 미리 예약해 둔 번호에서 발급하므로 Bid 테이블을 잠그지 않는다.
      */
-    public String generateBidSequence(Connection conn) throws SQLException {
-        String sql = "SELECT 'BID' || LPAD(NVL(MAX(TO_NUMBER(SUBSTR(bid_sequence, 4))), 0) + 1, 3, '0') FROM Bid";
-
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        String sequence = "BID001";
-
-        try {
-            // FOR UPDATE로 락 걸기
-            String lockSql = "SELECT 1 FROM Bid WHERE ROWNUM = 1 FOR UPDATE";
-            pstmt = conn.prepareStatement(lockSql);
-            pstmt.executeQuery();
-            pstmt.close();
-
-            // 시퀀스 생성
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                sequence = rs.getString(1);
-            }
-
-            pstmt.close();
-            rs.close();
-        } catch (SQLException e) {
-            DBConnection.rollback(conn);
-            throw e;
-        }
-
-        return sequence;
+    public String generateBidSequence() throws SQLException {
+        return IdAllocators.bid().nextId();
     }
 
     /**
@@ -370,50 +551,108 @@ public class BidDAO {
     }
 
     /**
-     * ENROLLMENT_ID 생성 (E0001, E0002, ...) private 메서드이므로 Connection을 파라미터로 받음
+     * ENROLLMENT_ID 생성 (E0000001, E0000002, ...)
+     */
+    private String generateEnrollmentId() throws SQLException {
+        return IdAllocators.enrollment().nextId();
+    }
+
+    /**
+     * 경매 종료 시점에 낙찰자 확정 및 수강신청 삽입 (트랜잭션은 호출자가 관리)
+     * <p>
+     * auction.clearing.mode 설정에 따라 처리 방식을 고른다.
+     * <ul>
+     *     <li>set (기본): MERGE 한 번으로 낙찰/탈락 표시, INSERT...SELECT 한 번으로 수강신청 등록</li>
+     *     <li>loop: 입찰을 읽어 한 건씩 표시/등록 (기존 방식)</li>
+     *     <li>verify: set 방식으로 처리한 뒤 loop 방식의 기대 결과와 비교, 다르면 되돌리고 loop 방식으로 처리</li>
+     * </ul>
+     * 어느 방식이든 먼저 수강 중인 분반과 시간이 겹치는 학생의 입찰을 탈락시키고, 나머지로 순위를 매긴다.
+     * 입찰한 학생들의 StudentLedger는 어느 방식이든 마지막에 한 번 반영하고,
+     * 등록한 인원은 커밋 후 분반 카운터(SectionCounters)에 반영된다.
+     */
+    public void finalizeAuctionBids(Connection conn, String auctionId, int availableSlots, String sectionId) throws SQLException {
+        Set<String> rejected = rejectConflictingBids(conn, auctionId, sectionId);
+        int enrolled;
+        switch (CLEARING_MODE) {
+            case "loop":
+                enrolled = finalizeAuctionBidsLoop(conn, auctionId, availableSlots, sectionId, rejected);
+                break;
+            case "verify":
+                enrolled = finalizeAuctionBidsVerified(conn, auctionId, availableSlots, sectionId, rejected);
+                break;
+            default:
+                enrolled = finalizeAuctionBidsSet(conn, auctionId, availableSlots, sectionId, null);
+                break;
+        }
+        studentDAO.applyAuctionClearing(conn, auctionId, CatalogCache.getCredits(sectionId));
+        SectionCounters.enrollmentChanged(sectionId, enrolled);
+    }
+
+    /**
+     * 수강 중인 분반과 시간이 겹치는 학생의 입찰을 탈락('N') 처리한다.
+     * <p>
+     * 낙찰되면 바로 수강 등록되므로, 입찰 뒤에 겹치는 분반을 수강하게 된 학생(다른 경매 낙찰 등)은 건너뛰고
+     * 다음 순위 입찰자가 낙찰받는다. 입찰자들의 수강 분반은 한 번에 읽고 충돌은 TimetableIndex로 계산한다.
+     *
+     * @return 탈락 처리한 입찰 번호
      */
-    private String generateEnrollmentId(Connection conn) throws SQLException {
-        String sql = "SELECT 'E' || LPAD(NVL(MAX(TO_NUMBER(SUBSTR(enrollment_id, 2))), 0) + 1, 4, '0') FROM Enrollment";
+    private Set<String> rejectConflictingBids(Connection conn, String auctionId, String sectionId) throws SQLException {
+        Set<String> rejected = new HashSet<>();
+        if (TimetableIndex.maskOf(sectionId).isEmpty()) {
+            return rejected;
+        }
 
         PreparedStatement pstmt = null;
         ResultSet rs = null;
-        String enrollmentId = "E0001";
-
         try {
-            // FOR UPDATE로 락 걸기
-            String lockSql = "SELECT 1 FROM Enrollment WHERE ROWNUM = 1 FOR UPDATE";
-            pstmt = conn.prepareStatement(lockSql);
-            pstmt.executeQuery();
-            pstmt.close();
-
-            // 시퀀스 생성
-            pstmt = conn.prepareStatement(sql);
+            String selectSql = "SELECT b.bid_sequence, e.section_id FROM Bid b "
+                + "JOIN Enrollment e ON e.student_id = b.student_id "
+                + "WHERE b.auction_id = ? AND e.section_id <> ?";
+            pstmt = conn.prepareStatement(selectSql);
+            pstmt.setString(1, auctionId);
+            pstmt.setString(2, sectionId);
             rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                enrollmentId = rs.getString(1);
+            Map<String, List<String>> schedules = new HashMap<>();
+            while (rs.next()) {
+                schedules.computeIfAbsent(rs.getString(1), k -> new ArrayList<>()).add(rs.getString(2));
+            }
+            for (Map.Entry<String, List<String>> entry : schedules.entrySet()) {
+                if (TimetableIndex.conflictsWithSchedule(entry.getValue(), sectionId)) {
+                    rejected.add(entry.getKey());
+                }
             }
-
-            pstmt.close();
             rs.close();
-        } catch (SQLException e) {
-            DBConnection.rollback(conn);
-            throw e;
+            pstmt.close();
+            rs = null;
+            pstmt = null;
+
+            if (!rejected.isEmpty()) {
+                pstmt = conn.prepareStatement("UPDATE Bid SET is_successful = 'N' WHERE bid_sequence = ?");
+                for (String bidSequence : rejected) {
+                    pstmt.setString(1, bidSequence);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                System.out.println("[INFO] Auction " + auctionId + ": skipped " + rejected.size()
+                    + " bid(s) conflicting with the bidder's timetable");
+            }
+            return rejected;
+        } finally {
+            DBConnection.close(rs, pstmt, null);
         }
-
-        return enrollmentId;
     }
 
     /**
-     * 경매 종료 시점에 낙찰자 확정 및 수강신청 삽입 (트랜잭션은 호출자가 관리)
+     * 낙찰 순서대로 입찰 조회
      */
-    public void finalizeAuctionBids(Connection conn, String auctionId, int availableSlots, String sectionId) throws SQLException {
+    private List<Bid> selectBidsInClearingOrder(Connection conn, String auctionId) throws SQLException {
         PreparedStatement pstmt = null;
         ResultSet rs = null;
 
         try {
             String selectSql = "SELECT bid_sequence, bid_amount, bid_time, student_id FROM Bid WHERE auction_id = ? "
-                + "ORDER BY bid_amount DESC, bid_time ASC";
+                + "ORDER BY " + CLEARING_ORDER;
 
             pstmt = conn.prepareStatement(selectSql);
             pstmt.setString(1, auctionId);
@@ -428,28 +667,193 @@ public class BidDAO {
                 bid.setStudentId(rs.getInt(4));
                 bids.add(bid);
             }
-            rs.close();
-            pstmt.close();
+            return bids;
+        } finally {
+            DBConnection.close(rs, pstmt, null);
+        }
+    }
+
+    /**
+     * 입찰을 한 건씩 처리하는 마감 (입찰 수만큼 UPDATE, 낙찰자 수만큼 INSERT)
+     *
+     * @return 등록한 수강신청 수
+     */
+    private int finalizeAuctionBidsLoop(Connection conn, String auctionId, int availableSlots, String sectionId,
+                                        Set<String> rejected) throws SQLException {
+        List<Bid> bids = selectBidsInClearingOrder(conn, auctionId);
 
+        PreparedStatement pstmt = null;
+        try {
             String updateSql = "UPDATE Bid SET is_successful = ? WHERE bid_sequence = ?";
             pstmt = conn.prepareStatement(updateSql);
 
+            int enrolled = 0;
             int rank = 1;
             for (Bid bid : bids) {
+                if (rejected.contains(bid.getBidSequence())) {
+                    continue;
+                }
                 String successFlag = rank <= availableSlots ? "Y" : "N";
                 pstmt.setString(1, successFlag);
                 pstmt.setString(2, bid.getBidSequence());
                 pstmt.addBatch();
 
                 if ("Y".equals(successFlag)) {
-                    String enrollmentId = generateEnrollmentId(conn);
+                    String enrollmentId = generateEnrollmentId();
                     insertEnrollment(conn, enrollmentId, bid.getBidAmount(), bid.getStudentId(), sectionId);
+                    enrolled++;
                 }
 
                 rank++;
             }
 
             pstmt.executeBatch();
+            return enrolled;
+        } finally {
+            DBConnection.close(pstmt, null);
+        }
+    }
+
+    /**
+     * 집합 단위 마감 (MERGE 1회 + INSERT...SELECT 1회). 이미 탈락 처리된 입찰은 순위에서 빠진다.
+     *
+     * @param firstReserved null이 아니면 [0]에 예약한 수강신청 번호 범위의 첫 번호를 담는다 (낙찰자가 없으면 -1)
+     * @return 등록한 수강신청 수
+     */
+    private int finalizeAuctionBidsSet(Connection conn, String auctionId, int availableSlots, String sectionId,
+                                       long[] firstReserved) throws SQLException {
+        String mergeSql = "MERGE INTO Bid b "
+            + "USING (SELECT bid_sequence, ROW_NUMBER() OVER (ORDER BY " + CLEARING_ORDER + ") AS rn "
+            + "       FROM Bid WHERE auction_id = ? AND is_successful IS NULL) r "
+            + "ON (b.bid_sequence = r.bid_sequence) "
+            + "WHEN MATCHED THEN UPDATE SET b.is_successful = CASE WHEN r.rn <= ? THEN 'Y' ELSE 'N' END";
+
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = conn.prepareStatement(mergeSql);
+            pstmt.setString(1, auctionId);
+            pstmt.setInt(2, availableSlots);
+            int bidCount = pstmt.executeUpdate();
+            pstmt.close();
+
+            int winners = Math.min(bidCount, Math.max(0, availableSlots));
+            if (firstReserved != null) {
+                firstReserved[0] = -1;
+            }
+            if (winners == 0) {
+                return 0;
+            }
+
+            // 낙찰자 수만큼 수강신청 번호를 미리 예약하고 SQL 안에서 ID를 만든다
+            IdAllocator allocator = IdAllocators.enrollment();
+            long first = allocator.reserveRange(winners);
+
+            String insertSql = "INSERT INTO Enrollment (enrollment_id, enrollment_source, points_used, enrollment_time, student_id, section_id) "
+                + "SELECT ? || LPAD(TO_CHAR(n), GREATEST(?, LENGTH(TO_CHAR(n))), '0'), 'FROM_AUCTION', bid_amount, SYSDATE, student_id, ? "
+                + "FROM (SELECT bid_amount, student_id, ? + ROW_NUMBER() OVER (ORDER BY " + CLEARING_ORDER + ") - 1 AS n "
+                + "      FROM Bid WHERE auction_id = ? AND is_successful = 'Y')";
+
+            pstmt = conn.prepareStatement(insertSql);
+            pstmt.setString(1, allocator.getPrefix());
+            pstmt.setInt(2, allocator.getWidth());
+            pstmt.setString(3, sectionId);
+            pstmt.setLong(4, first);
+            pstmt.setString(5, auctionId);
+            int inserted = pstmt.executeUpdate();
+            if (inserted != winners) {
+                throw new SQLException("Auction " + auctionId + " clearing inserted " + inserted + " enrollments, expected " + winners);
+            }
+            if (firstReserved != null) {
+                firstReserved[0] = first;
+            }
+            return inserted;
+        } finally {
+            DBConnection.close(pstmt, null);
+        }
+    }
+
+    /**
+     * 집합 단위로 마감한 뒤 한 건씩 처리했을 때의 결과와 비교한다. 다르면 되돌리고 한 건씩 처리한다.
+     */
+    private int finalizeAuctionBidsVerified(Connection conn, String auctionId, int availableSlots, String sectionId,
+                                            Set<String> rejected) throws SQLException {
+        List<Bid> expected = selectBidsInClearingOrder(conn, auctionId);
+
+        Savepoint savepoint = conn.setSavepoint();
+        long[] first = new long[1];
+        int enrolled = finalizeAuctionBidsSet(conn, auctionId, availableSlots, sectionId, first);
+
+        String mismatch = compareClearing(conn, auctionId, sectionId, expected, rejected, availableSlots, first[0]);
+        if (mismatch == null) {
+            System.out.println("[INFO] Auction " + auctionId + " set-based clearing verified (" + expected.size() + " bids)");
+            return enrolled;
+        }
+
+        System.err.println("[WARN] Auction " + auctionId + " set-based clearing mismatch: " + mismatch + " - falling back to loop");
+        conn.rollback(savepoint);
+        return finalizeAuctionBidsLoop(conn, auctionId, availableSlots, sectionId, rejected);
+    }
+
+    /**
+     * @return 차이 설명 (같으면 null)
+     */
+    private String compareClearing(Connection conn, String auctionId, String sectionId, List<Bid> expected,
+                                   Set<String> rejected, int availableSlots, long firstEnrollment) throws SQLException {
+        Map<String, String> expectedFlags = new HashMap<>();
+        Map<Integer, Integer> expectedWinners = new HashMap<>();
+        int rank = 1;
+        for (Bid bid : expected) {
+            if (rejected.contains(bid.getBidSequence())) {
+                expectedFlags.put(bid.getBidSequence(), "N");
+                continue;
+            }
+            boolean winner = rank <= availableSlots;
+            expectedFlags.put(bid.getBidSequence(), winner ? "Y" : "N");
+            if (winner) {
+                expectedWinners.put(bid.getStudentId(), bid.getBidAmount());
+            }
+            rank++;
+        }
+
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            pstmt = conn.prepareStatement("SELECT bid_sequence, is_successful FROM Bid WHERE auction_id = ?");
+            pstmt.setString(1, auctionId);
+            rs = pstmt.executeQuery();
+            int seen = 0;
+            while (rs.next()) {
+                String sequence = rs.getString(1);
+                String flag = rs.getString(2);
+                String expectedFlag = expectedFlags.get(sequence);
+                if (expectedFlag == null || !expectedFlag.equals(flag)) {
+                    return "bid " + sequence + " is_successful=" + flag + ", expected " + expectedFlag;
+                }
+                seen++;
+            }
+            if (seen != expectedFlags.size()) {
+                return "bid count " + seen + ", expected " + expectedFlags.size();
+            }
+            rs.close();
+            pstmt.close();
+
+            Map<Integer, Integer> actualWinners = new HashMap<>();
+            if (firstEnrollment >= 0) {
+                IdAllocator allocator = IdAllocators.enrollment();
+                pstmt = conn.prepareStatement("SELECT student_id, points_used FROM Enrollment "
+                    + "WHERE section_id = ? AND enrollment_id BETWEEN ? AND ?");
+                pstmt.setString(1, sectionId);
+                pstmt.setString(2, allocator.format(firstEnrollment));
+                pstmt.setString(3, allocator.format(firstEnrollment + expectedWinners.size() - 1));
+                rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    actualWinners.put(rs.getInt(1), rs.getInt(2));
+                }
+            }
+            if (!actualWinners.equals(expectedWinners)) {
+                return "enrollments " + actualWinners + ", expected " + expectedWinners;
+            }
+            return null;
         } finally {
             DBConnection.close(rs, pstmt, null);
         }
@@ -7,14 +7,22 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.team12.auction.cache.CatalogCache;
 import com.team12.auction.model.entity.Course;
 import com.team12.auction.util.DBConnection;
 
 public class CourseDAO {
 	/**
-	 * 강의 ID로 강의 조회
+	 * 강의 ID로 강의 조회 (강의 캐시 사용)
 	 */
 	public Course selectById(String courseId) throws SQLException {
+		return CatalogCache.getCourse(courseId);
+	}
+
+	/**
+	 * 강의 ID로 강의 조회 (DB 직접 조회, 캐시 적재용)
+	 */
+	public Course loadById(String courseId) throws SQLException {
 		String sql = "SELECT course_id, course_name, department, credits, capacity, semester, year "
 				+ "FROM Course WHERE course_id = ?";
 
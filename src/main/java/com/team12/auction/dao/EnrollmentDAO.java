@@ -7,10 +7,15 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
 import com.team12.auction.model.dto.EnrollmentDetail;
 import com.team12.auction.util.DBConnection;
 
 public class EnrollmentDAO {
+
+	private final StudentDAO studentDAO = new StudentDAO();
+
 	/**
 	 * 나의 등록 조회: 내가 수강 신청한 분반의 모든 속성과 강의 이름 반환
 	 */
@@ -100,30 +105,50 @@ public class EnrollmentDAO {
         }
 
 	/**
-	 * 수강 신청 삭제
+	 * 수강 신청 삭제 (돌려받는 포인트와 학점은 StudentLedger에 함께 반영)
 	 */
 	public int deleteEnrollment(int studentId, String sectionId) throws SQLException {
+		String selectSql = "SELECT points_used FROM Enrollment WHERE student_id = ? AND section_id = ? FOR UPDATE";
 		String sql = "DELETE FROM Enrollment WHERE student_id = ? AND section_id = ?";
 
 		Connection conn = null;
 		PreparedStatement pstmt = null;
+		ResultSet rs = null;
 		int result = 0;
 
 		try {
 			conn = DBConnection.getConnection();
+
+			// 지울 행을 잠그고 돌려받을 포인트 확인
+			int refundedPoints = 0;
+			pstmt = conn.prepareStatement(selectSql);
+			pstmt.setInt(1, studentId);
+			pstmt.setString(2, sectionId);
+			rs = pstmt.executeQuery();
+			while (rs.next()) {
+				refundedPoints += rs.getInt(1);
+			}
+			rs.close();
+			pstmt.close();
+
 			pstmt = conn.prepareStatement(sql);
 			pstmt.setInt(1, studentId);
 			pstmt.setString(2, sectionId);
 
 			result = pstmt.executeUpdate();
+			if (result > 0) {
+				studentDAO.applyLedgerDelta(conn, studentId, -refundedPoints, 0,
+						-result * CatalogCache.getCredits(sectionId), 0);
+			}
 
 			DBConnection.commit(conn);
+			SectionCounters.enrollmentChanged(sectionId, -result);
 
 		} catch (SQLException e) {
 			DBConnection.rollback(conn);
 			throw e;
 		} finally {
-			DBConnection.close(pstmt, conn);
+			DBConnection.close(rs, pstmt, conn);
 		}
 
 		return result;
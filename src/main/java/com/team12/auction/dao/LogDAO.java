@@ -2,6 +2,7 @@ package com.team12.auction.dao;
 
 import com.team12.auction.model.entity.Log;
 import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.IdAllocators;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -158,7 +159,7 @@ public class LogDAO {
 
         try {
             conn = DBConnection.getConnection();
-            String logId = generateLogSequence(conn);
+            String logId = generateLogSequence();
             pstmt = conn.prepareStatement(sql);
 
             pstmt.setString(1, logId);
@@ -187,66 +188,88 @@ public class LogDAO {
     }
 
     /**
+     * 로그 여러 건을 한 번에 삽입 (executeBatch, 커밋 1회)
+     * <p>
+     * log_id가 비어 있는 로그는 새로 만들어 채웁니다.
      *
+     * @return 삽입된 건수
      */
-    public int getLogCountByStudent(String studentId) throws SQLException {
-        String sql = "SELECT COUNT(*) as log_count FROM Log WHERE student_id = ?";
+    public int insertLogs(List<Log> logs) throws SQLException {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO Log (log_id, action_type, timestamp, details, " +
+            "student_id, auction_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
 
         Connection conn = null;
         PreparedStatement pstmt = null;
-        ResultSet rs = null;
 
         try {
             conn = DBConnection.getConnection();
             pstmt = conn.prepareStatement(sql);
 
-            pstmt.setString(1, studentId);
-            rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                return rs.getInt(1);
+            for (Log log : logs) {
+                if (log.getLogId() == null) {
+                    log.setLogId(generateLogSequence());
+                }
+                pstmt.setString(1, log.getLogId());
+                pstmt.setString(2, log.getActionType());
+                pstmt.setTimestamp(3, log.getTimestamp());
+                pstmt.setString(4, log.getDetails());
+                pstmt.setInt(5, log.getStudentId());
+
+                if (log.getAuctionId() != null) {
+                    pstmt.setString(6, log.getAuctionId());
+                } else {
+                    pstmt.setNull(6, Types.VARCHAR);
+                }
+                pstmt.addBatch();
             }
-            return 0;
+
+            pstmt.executeBatch();
+            conn.commit();
+            return logs.size();
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
         } finally {
-            DBConnection.close(rs, pstmt, conn);
+            DBConnection.close(pstmt, conn);
         }
     }
 
     /**
-     * LOG_ID 생성 (L0001, L0002, ...)
      *
-     * @return Generated log ID (e.g., "L0001")
      */
-    public String generateLogSequence(Connection conn) throws SQLException {
-        String sql = "SELECT 'L' || LPAD(NVL(MAX(TO_NUMBER(SUBSTR(log_id, 2))), 0) + 1, 4, '0') FROM Log";
+    public int getLogCountByStudent(String studentId) throws SQLException {
+        String sql = "SELECT COUNT(*) as log_count FROM Log WHERE student_id = ?";
 
+        Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
-        String sequence = "L0001";
 
         try {
-            // FOR UPDATE로 락 걸기 (더미 테이블 사용)
-            String lockSql = "SELECT 1 FROM Log WHERE ROWNUM = 1 FOR UPDATE";
-            pstmt = conn.prepareStatement(lockSql);
-            pstmt.executeQuery();
-            pstmt.close();
-
-            // 시퀀스 생성
+            conn = DBConnection.getConnection();
             pstmt = conn.prepareStatement(sql);
+
+            pstmt.setString(1, studentId);
             rs = pstmt.executeQuery();
 
             if (rs.next()) {
-                sequence = rs.getString(1);
+                return rs.getInt(1);
             }
-
-            pstmt.close();
-            rs.close();
-
-        } catch (SQLException e) {
-            DBConnection.rollback(conn);
-            throw e;
+            return 0;
+        } finally {
+            DBConnection.close(rs, pstmt, conn);
         }
+    }
 
-        return sequence;
+    /**
+     * LOG_ID 생성 (L0000001, L0000002, ...)
+     *
+     * @return Generated log ID (e.g., "L0000001")
+     */
+    public String generateLogSequence() throws SQLException {
+        return IdAllocators.log().nextId();
     }
 }
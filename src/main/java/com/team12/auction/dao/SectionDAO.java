@@ -9,16 +9,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
 import com.team12.auction.model.dto.SectionSearchResult;
 import com.team12.auction.model.entity.Course;
 import com.team12.auction.model.entity.Section;
 import com.team12.auction.util.DBConnection;
 
 public class SectionDAO {
+
+	private static final int COUNT_CHUNK_SIZE = 512;
+
 	/**
 	 * 강의 코드로 분반 조회
 	 */
 	public List<Section> selectByCourseId(String courseId) throws SQLException {
+		List<Section> cached = CatalogCache.getSectionsByCourse(courseId);
+		if (cached != null) {
+			return cached;
+		}
+
 		String sql = "SELECT s.section_id, s.section_number, s.professor, s.capacity, s.classroom " + "FROM Section s "
 				+ "JOIN Course c ON s.course_id = c.course_id " + "WHERE s.course_id = ? "
 				+ "ORDER BY s.section_number";
@@ -111,6 +121,10 @@ public class SectionDAO {
 	 * 분반의 현재 등록 인원 조회
 	 */
 	public int getCurrentEnrollment(String sectionId) throws SQLException {
+		if (SectionCounters.isReady()) {
+			return SectionCounters.getEnrolledCount(sectionId);
+		}
+
 		String sql = "SELECT COUNT(*) AS cnt " + "FROM Enrollment " + "WHERE section_id = ?";
 
 		Connection conn = null;
@@ -142,19 +156,26 @@ public class SectionDAO {
 	 * 강의/분반 검색 (키워드, 학과 필터)
 	 */
 	public List<SectionSearchResult> searchSections(String keyword, String department) throws SQLException {
+		// 카운터가 준비되어 있으면 인원 수는 메모리에서 채우고 GROUP BY 조인은 생략한다
+		boolean useCounters = SectionCounters.isReady();
 		StringBuilder sql = new StringBuilder();
 		sql.append("SELECT c.course_id, c.course_name, c.department, c.credits, ");
-		sql.append("s.section_id, s.section_number, s.professor, s.capacity, s.classroom, ");
-		sql.append("NVL(enrolled.enrolled_count, 0) AS enrolled_count, ");
-		sql.append("NVL(basket.basket_count, 0) AS basket_count ");
-		sql.append("FROM Section s ");
-		sql.append("JOIN Course c ON s.course_id = c.course_id ");
-		sql.append(
-				"LEFT JOIN (SELECT section_id, COUNT(*) AS enrolled_count FROM Enrollment GROUP BY section_id) enrolled ");
-		sql.append("ON enrolled.section_id = s.section_id ");
-		sql.append(
-				"LEFT JOIN (SELECT section_id, COUNT(*) AS basket_count FROM BasketItem GROUP BY section_id) basket ");
-		sql.append("ON basket.section_id = s.section_id WHERE 1=1 ");
+		sql.append("s.section_id, s.section_number, s.professor, s.capacity, s.classroom");
+		if (useCounters) {
+			sql.append(" FROM Section s ");
+			sql.append("JOIN Course c ON s.course_id = c.course_id WHERE 1=1 ");
+		} else {
+			sql.append(", NVL(enrolled.enrolled_count, 0) AS enrolled_count, ");
+			sql.append("NVL(basket.basket_count, 0) AS basket_count ");
+			sql.append("FROM Section s ");
+			sql.append("JOIN Course c ON s.course_id = c.course_id ");
+			sql.append(
+					"LEFT JOIN (SELECT section_id, COUNT(*) AS enrolled_count FROM Enrollment GROUP BY section_id) enrolled ");
+			sql.append("ON enrolled.section_id = s.section_id ");
+			sql.append(
+					"LEFT JOIN (SELECT section_id, COUNT(*) AS basket_count FROM BasketItem GROUP BY section_id) basket ");
+			sql.append("ON basket.section_id = s.section_id WHERE 1=1 ");
+		}
 
 		List<Object> params = new ArrayList<>();
 
@@ -199,8 +220,13 @@ public class SectionDAO {
 				item.setProfessor(rs.getString(7));
 				item.setCapacity(rs.getInt(8));
 				item.setClassroom(rs.getString(9));
-				item.setEnrolledCount(rs.getInt(10));
-				item.setBasketCount(rs.getInt(11));
+				if (useCounters) {
+					item.setEnrolledCount(SectionCounters.getEnrolledCount(item.getSectionId()));
+					item.setBasketCount(SectionCounters.getBasketCount(item.getSectionId()));
+				} else {
+					item.setEnrolledCount(rs.getInt(10));
+					item.setBasketCount(rs.getInt(11));
+				}
 				result.add(item);
 			}
 
@@ -213,10 +239,234 @@ public class SectionDAO {
 		return result;
 	}
 
+	/**
+	 * 검색 색인용 전체 강의/분반 목록 (인원 수 제외)
+	 */
+	public List<SectionSearchResult> selectCatalog() throws SQLException {
+		String sql = "SELECT c.course_id, c.course_name, c.department, c.credits, "
+				+ "s.section_id, s.section_number, s.professor, s.capacity, s.classroom "
+				+ "FROM Section s JOIN Course c ON s.course_id = c.course_id "
+				+ "ORDER BY c.course_id, s.section_number";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		List<SectionSearchResult> result = new ArrayList<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				SectionSearchResult item = new SectionSearchResult();
+				item.setCourseId(rs.getString(1));
+				item.setCourseName(rs.getString(2));
+				item.setDepartment(rs.getString(3));
+				item.setCredits(rs.getInt(4));
+				item.setSectionId(rs.getString(5));
+				item.setSectionNumber(rs.getInt(6));
+				item.setProfessor(rs.getString(7));
+				item.setCapacity(rs.getInt(8));
+				item.setClassroom(rs.getString(9));
+				result.add(item);
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 강의/분반 목록의 변경 감지용 요약값 (행 수 + 내용 해시 합)
+	 */
+	public String selectCatalogFingerprint() throws SQLException {
+		String sql = "SELECT COUNT(*), NVL(SUM(ORA_HASH(s.section_id || '|' || s.section_number || '|' || s.professor "
+				+ "|| '|' || s.capacity || '|' || s.classroom || '|' || c.course_id || '|' || c.course_name "
+				+ "|| '|' || c.department || '|' || c.credits)), 0) "
+				+ "FROM Section s JOIN Course c ON s.course_id = c.course_id";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			rs = pstmt.executeQuery();
+
+			if (rs.next()) {
+				return rs.getLong(1) + ":" + rs.getLong(2);
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return "";
+	}
+
+	/**
+	 * 주어진 분반들의 수강 인원 / 장바구니 인원 채우기
+	 * (카운터가 준비되어 있으면 메모리에서, 아니면 분반 ID 기준 색인 조회, 전체 GROUP BY 없음)
+	 */
+	public void fillSectionCounts(List<SectionSearchResult> sections) throws SQLException {
+		if (sections.isEmpty()) {
+			return;
+		}
+		if (SectionCounters.isReady()) {
+			for (SectionSearchResult item : sections) {
+				item.setEnrolledCount(SectionCounters.getEnrolledCount(item.getSectionId()));
+				item.setBasketCount(SectionCounters.getBasketCount(item.getSectionId()));
+			}
+			return;
+		}
+
+		Map<String, SectionSearchResult> byId = new HashMap<>();
+		for (SectionSearchResult item : sections) {
+			byId.put(item.getSectionId(), item);
+		}
+		List<String> ids = new ArrayList<>(byId.keySet());
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+
+		try {
+			conn = DBConnection.getConnection();
+
+			// Oracle IN 목록 제한(1000개) 아래로 나누어 조회
+			for (int from = 0; from < ids.size(); from += COUNT_CHUNK_SIZE) {
+				List<String> chunk = ids.subList(from, Math.min(ids.size(), from + COUNT_CHUNK_SIZE));
+				// 자리 수를 2의 거듭제곱으로 맞춰 SQL 문자열 종류를 줄인다 (남는 자리는 NULL)
+				int slots = Math.max(8, Integer.highestOneBit(chunk.size() - 1) << 1);
+
+				StringBuilder sql = new StringBuilder();
+				sql.append("SELECT s.section_id, ");
+				sql.append("(SELECT COUNT(*) FROM Enrollment e WHERE e.section_id = s.section_id), ");
+				sql.append("(SELECT COUNT(*) FROM BasketItem bi WHERE bi.section_id = s.section_id) ");
+				sql.append("FROM Section s WHERE s.section_id IN (");
+				for (int i = 0; i < slots; i++) {
+					sql.append(i == 0 ? "?" : ", ?");
+				}
+				sql.append(")");
+
+				pstmt = conn.prepareStatement(sql.toString());
+				for (int i = 0; i < slots; i++) {
+					pstmt.setString(i + 1, i < chunk.size() ? chunk.get(i) : null);
+				}
+				rs = pstmt.executeQuery();
+
+				while (rs.next()) {
+					SectionSearchResult item = byId.get(rs.getString(1));
+					item.setEnrolledCount(rs.getInt(2));
+					item.setBasketCount(rs.getInt(3));
+				}
+				rs.close();
+				pstmt.close();
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+	}
+
+	/**
+	 * 전체 분반의 수강 인원 / 장바구니 인원 (카운터 초기화/재검증용)
+	 *
+	 * @return section_id -> {수강 인원, 장바구니 인원}
+	 */
+	public Map<String, int[]> selectAllSectionCounts() throws SQLException {
+		String sql = "SELECT s.section_id, "
+				+ "(SELECT COUNT(*) FROM Enrollment e WHERE e.section_id = s.section_id), "
+				+ "(SELECT COUNT(*) FROM BasketItem bi WHERE bi.section_id = s.section_id) "
+				+ "FROM Section s";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		Map<String, int[]> counts = new HashMap<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setFetchSize(500);
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				counts.put(rs.getString(1), new int[] { rs.getInt(2), rs.getInt(3) });
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return counts;
+	}
+
+	/**
+	 * 강의 캐시용 전체 분반 목록 (강의 코드, 분반 번호 순)
+	 */
+	public List<Section> selectAllSections() throws SQLException {
+		String sql = "SELECT section_id, section_number, professor, capacity, classroom, course_id "
+				+ "FROM Section ORDER BY course_id, section_number";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		List<Section> sections = new ArrayList<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setFetchSize(500);
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				sections.add(new Section(rs.getString(1), rs.getInt(2), rs.getString(3), rs.getInt(4),
+						rs.getString(5), rs.getString(6)));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return sections;
+	}
+
+	/**
+	 * 분반 ID로 분반 조회 (DB 직접 조회, 캐시 적재용)
+	 */
+	public Section loadById(String sectionId) throws SQLException {
+		String sql = "SELECT section_id, section_number, professor, capacity, classroom, course_id "
+				+ "FROM Section WHERE section_id = ?";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setString(1, sectionId);
+			rs = pstmt.executeQuery();
+
+			if (rs.next()) {
+				return new Section(rs.getString(1), rs.getInt(2), rs.getString(3), rs.getInt(4), rs.getString(5),
+						rs.getString(6));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return null;
+	}
+
 	/**
 	 * 분반 ID로 해당 과목의 학점 조회
 	 */
 	public int getCourseCredits(String sectionId) throws SQLException {
+		if (CatalogCache.isLoaded()) {
+			return CatalogCache.getCredits(sectionId);
+		}
+
 		String sql = "SELECT c.credits " +
 				"FROM Section s " +
 				"JOIN Course c ON s.course_id = c.course_id " +
@@ -1,6 +1,9 @@
 package com.team12.auction.dao;
 
+import com.team12.auction.cache.StudentProfileCache;
+import com.team12.auction.model.dto.StudentBalance;
 import com.team12.auction.model.entity.Student;
+import com.team12.auction.util.AppConfig;
 import com.team12.auction.util.DBConnection;
 
 import java.sql.Connection;
@@ -9,6 +12,26 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class StudentDAO {
+
+    private static final boolean LEDGER_ENABLED = AppConfig.getBoolean("ledger.enabled", true);
+
+    // StudentLedger 각 항목을 원본 테이블에서 계산하는 식 (st = Student)
+    static final String SPENT_POINTS_SQL =
+        "(SELECT NVL(SUM(e.points_used), 0) FROM Enrollment e WHERE e.student_id = st.student_id)";
+    static final String COMMITTED_POINTS_SQL =
+        "(SELECT NVL(SUM(b.bid_amount), 0) FROM Bid b WHERE b.student_id = st.student_id AND b.is_successful IS NULL)";
+    static final String ENROLLED_CREDITS_SQL =
+        "(SELECT NVL(SUM(c.credits), 0) FROM Enrollment e "
+            + "JOIN Section s ON e.section_id = s.section_id JOIN Course c ON s.course_id = c.course_id "
+            + "WHERE e.student_id = st.student_id)";
+    static final String BASKET_CREDITS_SQL =
+        "(SELECT NVL(SUM(c.credits), 0) FROM Basket ba JOIN BasketItem bi ON ba.basket_id = bi.basket_id "
+            + "JOIN Section s ON bi.section_id = s.section_id JOIN Course c ON s.course_id = c.course_id "
+            + "WHERE ba.student_id = st.student_id)";
+
+    public static boolean isLedgerEnabled() {
+        return LEDGER_ENABLED;
+    }
     /**
      * 학번과 비밀번호로 학생 인증
      */
@@ -101,6 +124,7 @@ public class StudentDAO {
             pstmt.setInt(7, s.getMaxPoint());
 
             result = pstmt.executeUpdate();
+            applyLedgerDelta(conn, s.getStudentId(), 0, 0, 0, 0);
 
             DBConnection.commit(conn);
 
@@ -153,66 +177,232 @@ public class StudentDAO {
     }
 
     /**
-     * 현재 학점 조회
+     * 현재 학점 조회 (StudentLedger)
      */
     public int getCurrentCredits(int studentId) throws SQLException {
-        String sql = "SELECT NVL(SUM(c.credits), 0) as total_credits " +
-            "FROM Enrollment e " +
-            "JOIN Section s ON e.section_id = s.section_id " +
-            "JOIN Course c ON s.course_id = c.course_id " +
-            "WHERE e.student_id = ?";
+        StudentBalance balance = getBalance(studentId);
+        return balance == null ? 0 : balance.getEnrolledCredits();
+    }
+
+    /**
+     * 현재 포인트 조회 (StudentLedger)
+     */
+    public int getCurrentPoints(int studentId) throws SQLException {
+        StudentBalance balance = getBalance(studentId);
+        return balance == null ? 0 : balance.getRemainingPoints();
+    }
 
+    /**
+     * 학생의 포인트/학점 잔액 조회
+     *
+     * @return 학생이 없으면 null
+     */
+    public StudentBalance getBalance(int studentId) throws SQLException {
         Connection conn = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            return selectBalance(conn, studentId, false);
+        } finally {
+            DBConnection.close(conn);
+        }
+    }
+
+    /**
+     * 학생의 포인트/학점 잔액 조회 (트랜잭션은 호출자가 관리)
+     * <p>
+     * StudentLedger 행을 기본 키로 읽는다. 행이 없거나 ledger.enabled=false이면 원본 테이블에서 계산한다.
+     * lockStudent면 학생 행을 FOR UPDATE로 잠가 같은 학생의 입찰/담기를 한 줄로 세운다.
+     *
+     * @return 학생이 없으면 null
+     */
+    public StudentBalance selectBalance(Connection conn, int studentId, boolean lockStudent) throws SQLException {
+        String sql = "SELECT st.max_point, st.max_credits, "
+            + (LEDGER_ENABLED
+                ? "l.student_id, COALESCE(l.spent_points, " + SPENT_POINTS_SQL + "), "
+                    + "COALESCE(l.committed_points, " + COMMITTED_POINTS_SQL + "), "
+                    + "COALESCE(l.enrolled_credits, " + ENROLLED_CREDITS_SQL + "), "
+                    + "COALESCE(l.basket_credits, " + BASKET_CREDITS_SQL + ") "
+                    + "FROM Student st LEFT JOIN StudentLedger l ON l.student_id = st.student_id "
+                : "NULL, " + SPENT_POINTS_SQL + ", " + COMMITTED_POINTS_SQL + ", "
+                    + ENROLLED_CREDITS_SQL + ", " + BASKET_CREDITS_SQL + " "
+                    + "FROM Student st ")
+            + "WHERE st.student_id = ?"
+            + (lockStudent ? " FOR UPDATE OF st.max_point" : "");
+
         PreparedStatement pstmt = null;
         ResultSet rs = null;
-        int credits = 0;
 
         try {
-            conn = DBConnection.getConnection();
             pstmt = conn.prepareStatement(sql);
-
             pstmt.setInt(1, studentId);
             rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                credits = rs.getInt(1);
+            if (!rs.next()) {
+                return null;
             }
+            StudentBalance balance = new StudentBalance();
+            balance.setStudentId(studentId);
+            balance.setMaxPoint(rs.getInt(1));
+            balance.setMaxCredits(rs.getInt(2));
+            rs.getInt(3);
+            balance.setFromLedger(!rs.wasNull());
+            balance.setSpentPoints(rs.getInt(4));
+            balance.setCommittedPoints(rs.getInt(5));
+            balance.setEnrolledCredits(rs.getInt(6));
+            balance.setBasketCredits(rs.getInt(7));
+            return balance;
         } finally {
-            DBConnection.close(rs, pstmt, conn);
+            DBConnection.close(rs, pstmt, null);
         }
-
-        return credits;
     }
 
     /**
-     * 현재 포인트 조회
+     * StudentLedger 증감 (트랜잭션은 호출자가 관리, 원본 테이블을 바꾼 뒤에 호출)
+     * <p>
+     * 학생 행이 아직 없으면 원본 테이블에서 계산해 만든다 (같은 트랜잭션의 변경이 이미 포함되므로 증감은 더하지 않음).
      */
-    public int getCurrentPoints(int studentId) throws SQLException {
-        String sql = "SELECT s.max_point - NVL(SUM(e.points_used), 0) as current_points " +
-            "FROM Student s " +
-            "LEFT JOIN Enrollment e ON s.student_id = e.student_id " +
-            "WHERE s.student_id = ? " +
-            "GROUP BY s.student_id, s.max_point";
+    public void applyLedgerDelta(Connection conn, int studentId, int spentPoints, int committedPoints,
+                                 int enrolledCredits, int basketCredits) throws SQLException {
+        if (!LEDGER_ENABLED) {
+            return;
+        }
+        String updateSql = "UPDATE StudentLedger SET spent_points = spent_points + ?, "
+            + "committed_points = committed_points + ?, enrolled_credits = enrolled_credits + ?, "
+            + "basket_credits = basket_credits + ?, updated_at = SYSDATE WHERE student_id = ?";
 
-        Connection conn = null;
         PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        int points = 0;
+        try {
+            pstmt = conn.prepareStatement(updateSql);
+            pstmt.setInt(1, spentPoints);
+            pstmt.setInt(2, committedPoints);
+            pstmt.setInt(3, enrolledCredits);
+            pstmt.setInt(4, basketCredits);
+            pstmt.setInt(5, studentId);
+            if (pstmt.executeUpdate() > 0) {
+                return;
+            }
+
+            try {
+                insertLedgerRow(conn, studentId);
+            } catch (SQLException e) {
+                // 다른 트랜잭션이 먼저 만든 경우 (ORA-00001) 증감만 반영한다
+                if (e.getErrorCode() != 1) {
+                    throw e;
+                }
+                pstmt.executeUpdate();
+            }
+        } finally {
+            DBConnection.close(pstmt, null);
+        }
+    }
 
+    private void insertLedgerRow(Connection conn, int studentId) throws SQLException {
+        String sql = "INSERT INTO StudentLedger "
+            + "(student_id, spent_points, committed_points, enrolled_credits, basket_credits, updated_at) "
+            + "SELECT st.student_id, " + SPENT_POINTS_SQL + ", " + COMMITTED_POINTS_SQL + ", "
+            + ENROLLED_CREDITS_SQL + ", " + BASKET_CREDITS_SQL + ", SYSDATE "
+            + "FROM Student st WHERE st.student_id = ?";
+
+        PreparedStatement pstmt = null;
         try {
-            conn = DBConnection.getConnection();
             pstmt = conn.prepareStatement(sql);
-
             pstmt.setInt(1, studentId);
-            rs = pstmt.executeQuery();
+            pstmt.executeUpdate();
+        } finally {
+            DBConnection.close(pstmt, null);
+        }
+    }
 
-            if (rs.next()) {
-                points = rs.getInt(1);
+    /**
+     * 경매 마감 결과를 StudentLedger에 반영 (트랜잭션은 호출자가 관리, 낙찰/탈락 표시 후 호출)
+     * <p>
+     * 입찰한 학생마다 건 포인트를 풀고, 낙찰된 포인트와 학점을 더한다.
+     * 여러 경매를 동시에 마감해도 교착이 생기지 않도록 학번 순서로 갱신한다 (행이 없는 학생은 재검증에서 만든다).
+     *
+     * @return 갱신한 학생 수
+     */
+    public int applyAuctionClearing(Connection conn, String auctionId, int credits) throws SQLException {
+        if (!LEDGER_ENABLED) {
+            return 0;
+        }
+        String selectSql = "SELECT student_id, SUM(bid_amount), "
+            + "SUM(CASE WHEN is_successful = 'Y' THEN bid_amount ELSE 0 END), "
+            + "SUM(CASE WHEN is_successful = 'Y' THEN 1 ELSE 0 END) "
+            + "FROM Bid WHERE auction_id = ? GROUP BY student_id ORDER BY student_id";
+        String updateSql = "UPDATE StudentLedger SET spent_points = spent_points + ?, "
+            + "committed_points = committed_points - ?, enrolled_credits = enrolled_credits + ?, "
+            + "updated_at = SYSDATE WHERE student_id = ?";
+
+        PreparedStatement select = null;
+        PreparedStatement update = null;
+        ResultSet rs = null;
+        try {
+            select = conn.prepareStatement(selectSql);
+            select.setString(1, auctionId);
+            rs = select.executeQuery();
+
+            update = conn.prepareStatement(updateSql);
+            int students = 0;
+            while (rs.next()) {
+                update.setInt(1, rs.getInt(3));
+                update.setInt(2, rs.getInt(2));
+                update.setInt(3, rs.getInt(4) * credits);
+                update.setInt(4, rs.getInt(1));
+                update.addBatch();
+                students++;
+            }
+            if (students > 0) {
+                update.executeBatch();
             }
+            return students;
         } finally {
-            DBConnection.close(rs, pstmt, conn);
+            DBConnection.close(rs, select, null);
+            DBConnection.close(update, null);
+        }
+    }
+
+    /**
+     * StudentLedger를 원본 테이블과 비교해 다른 행을 바로잡고 없는 행을 만든다 (MERGE 1회)
+     * <p>
+     * 비교와 수정이 한 문장이므로 그 사이 커밋된 증감을 덮어쓰지 않는다.
+     *
+     * @return 바로잡거나 만든 행 수
+     */
+    public int reconcileLedger() throws SQLException {
+        if (!LEDGER_ENABLED) {
+            return 0;
+        }
+        String sql = "MERGE INTO StudentLedger l "
+            + "USING (SELECT st.student_id, " + SPENT_POINTS_SQL + " AS spent_points, "
+            + "       " + COMMITTED_POINTS_SQL + " AS committed_points, "
+            + "       " + ENROLLED_CREDITS_SQL + " AS enrolled_credits, "
+            + "       " + BASKET_CREDITS_SQL + " AS basket_credits "
+            + "       FROM Student st) e "
+            + "ON (l.student_id = e.student_id) "
+            + "WHEN MATCHED THEN UPDATE SET l.spent_points = e.spent_points, l.committed_points = e.committed_points, "
+            + "  l.enrolled_credits = e.enrolled_credits, l.basket_credits = e.basket_credits, l.updated_at = SYSDATE "
+            + "  WHERE l.spent_points <> e.spent_points OR l.committed_points <> e.committed_points "
+            + "     OR l.enrolled_credits <> e.enrolled_credits OR l.basket_credits <> e.basket_credits "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "  (student_id, spent_points, committed_points, enrolled_credits, basket_credits, updated_at) "
+            + "  VALUES (e.student_id, e.spent_points, e.committed_points, e.enrolled_credits, e.basket_credits, SYSDATE)";
+
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            pstmt = conn.prepareStatement(sql);
+            int fixed = pstmt.executeUpdate();
+            DBConnection.commit(conn);
+            return fixed;
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            DBConnection.close(pstmt, conn);
         }
-        return points;
     }
 
     public boolean updateStudent(Student student) throws SQLException {
@@ -235,9 +425,41 @@ public class StudentDAO {
             pstmt.setInt(6, student.getStudentId());
 
             int rowsAffected = pstmt.executeUpdate();
+            DBConnection.commit(conn);
+            StudentProfileCache.invalidate(student.getStudentId());
+            return rowsAffected > 0;
+        } catch (SQLException e) {
+            DBConnection.rollback(conn);
+            throw e;
+        } finally {
+            DBConnection.close(pstmt, conn);
+        }
+    }
+
+    /**
+     * 프로필 수정 (이름, 학과, 학년만 바꾸고 max_credits/max_point 등 다른 컬럼은 건드리지 않는다)
+     */
+    public boolean updateProfile(int studentId, String name, String department, int grade) throws SQLException {
+        String sql = "UPDATE Student SET name = ?, department = ?, grade = ? WHERE student_id = ?";
+
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            pstmt = conn.prepareStatement(sql);
+
+            pstmt.setString(1, name);
+            pstmt.setString(2, department);
+            pstmt.setInt(3, grade);
+            pstmt.setInt(4, studentId);
+
+            int rowsAffected = pstmt.executeUpdate();
+            DBConnection.commit(conn);
+            StudentProfileCache.invalidate(studentId);
             return rowsAffected > 0;
         } catch (SQLException e) {
-            conn.rollback();
+            DBConnection.rollback(conn);
             throw e;
         } finally {
             DBConnection.close(pstmt, conn);
@@ -272,6 +494,8 @@ public class StudentDAO {
             pstmt.setInt(2, studentId);
 
             int rowsAffected = pstmt.executeUpdate();
+            DBConnection.commit(conn);
+            StudentProfileCache.invalidate(studentId);
             return rowsAffected > 0;
         }
     }
@@ -1,5 +1,127 @@
 package com.team12.auction.dao;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.team12.auction.model.entity.TimeSlot;
+import com.team12.auction.util.DBConnection;
+
 public class TimeSlotDAO {
+	/**
+	 * 전체 시간 칸 조회 (시간표 색인 적재용)
+	 */
+	public List<TimeSlot> selectAll() throws SQLException {
+		String sql = "SELECT day, start_time, end_time, section_id FROM TimeSlot ORDER BY section_id";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		List<TimeSlot> slots = new ArrayList<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setFetchSize(500);
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				slots.add(new TimeSlot(rs.getString(1), rs.getInt(2), rs.getInt(3), rs.getString(4)));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return slots;
+	}
+
+	/**
+	 * 분반의 시간 칸 조회
+	 */
+	public List<TimeSlot> selectBySectionId(String sectionId) throws SQLException {
+		String sql = "SELECT day, start_time, end_time, section_id FROM TimeSlot WHERE section_id = ?";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		List<TimeSlot> slots = new ArrayList<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setString(1, sectionId);
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				slots.add(new TimeSlot(rs.getString(1), rs.getInt(2), rs.getInt(3), rs.getString(4)));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return slots;
+	}
+
+	/**
+	 * 시간 칸 테이블의 변경 감지용 요약값 (행 수 + 내용 해시 합)
+	 */
+	public String selectFingerprint() throws SQLException {
+		String sql = "SELECT COUNT(*), NVL(SUM(ORA_HASH(section_id || '|' || day || '|' || start_time || '|' || end_time)), 0) "
+				+ "FROM TimeSlot";
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			rs = pstmt.executeQuery();
+
+			if (rs.next()) {
+				return rs.getLong(1) + ":" + rs.getLong(2);
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
+
+		return "";
+	}
+
+	/**
+	 * 학생 시간표에 들어가는 분반 ID (수강 중인 분반 + includeBasket이면 수강꾸러미 분반)
+	 */
+	public Set<String> selectScheduledSectionIds(int studentId, boolean includeBasket) throws SQLException {
+		String sql = "SELECT section_id FROM Enrollment WHERE student_id = ?"
+				+ (includeBasket ? " UNION SELECT bi.section_id FROM BasketItem bi "
+						+ "JOIN Basket b ON b.basket_id = bi.basket_id WHERE b.student_id = ?" : "");
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		Set<String> sectionIds = new LinkedHashSet<>();
+
+		try {
+			conn = DBConnection.getConnection();
+			pstmt = conn.prepareStatement(sql);
+			pstmt.setInt(1, studentId);
+			if (includeBasket) {
+				pstmt.setInt(2, studentId);
+			}
+			rs = pstmt.executeQuery();
+
+			while (rs.next()) {
+				sectionIds.add(rs.getString(1));
+			}
+		} finally {
+			DBConnection.close(rs, pstmt, conn);
+		}
 
+		return sectionIds;
+	}
 }
@@ -1,5 +1,66 @@
 package com.team12.auction.filter;
 
-public class AuthFilter {
+import com.team12.auction.cache.StudentProfileCache;
+import com.team12.auction.model.dto.StudentPrincipal;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * 로그인이 필요한 URL을 한곳에서 막는다.
+ * <p>
+ * 세션에 학번이 없으면 로그인 화면으로 보내고, 있으면 학생 정보를 StudentProfileCache에서 읽어
+ * 요청 속성({@link StudentPrincipal#ATTRIBUTE})으로 붙인다. 서블릿은 {@link #getPrincipal}로 꺼내 쓴다.
+ * 학생이 삭제되었으면 세션을 끝내고 로그인 화면으로 보낸다.
+ * 적용 URL은 web.xml의 filter-mapping에 선언되어 있다.
+ */
+public class AuthFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+        throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        HttpSession session = request.getSession(false);
+        Integer studentId = session == null ? null : (Integer) session.getAttribute("studentId");
+        if (studentId == null) {
+            response.sendRedirect(request.getContextPath() + "/auth/login");
+            return;
+        }
+
+        StudentPrincipal principal;
+        try {
+            principal = StudentProfileCache.get(studentId);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            request.setAttribute("errorMessage", "정보를 불러오는 중 오류가 발생했습니다.");
+            request.getRequestDispatcher("/error.jsp").forward(request, response);
+            return;
+        }
+        if (principal == null) {
+            session.invalidate();
+            response.sendRedirect(request.getContextPath() + "/auth/login");
+            return;
+        }
+
+        request.setAttribute(StudentPrincipal.ATTRIBUTE, principal);
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * AuthFilter가 붙인 로그인 학생 정보 (보호된 URL의 서블릿에서는 항상 있음)
+     */
+    public static StudentPrincipal getPrincipal(HttpServletRequest request) {
+        return (StudentPrincipal) request.getAttribute(StudentPrincipal.ATTRIBUTE);
+    }
 }
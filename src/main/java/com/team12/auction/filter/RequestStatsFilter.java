@@ -0,0 +1,116 @@
+package com.team12.auction.filter;
+
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.RequestStats;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청마다 DB 사용량(RequestStats)을 기록한다.
+ * <p>
+ * 응답 본문을 쓰기 시작하거나 리다이렉트할 때 {@code X-DB-Stats} 헤더에 그때까지의 사용량을 넣고,
+ * 요청이 끝나면 DB를 사용한 요청만 {@code [DBSTATS]} 로그 한 줄을 남긴다.
+ * 예산(db.requestStats.*)을 넘거나 같은 문장을 반복 실행하면 RequestStats가 경고를 남긴다.
+ */
+public class RequestStatsFilter implements Filter {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("db.requestStats.enabled", true);
+    // all: DB를 사용한 요청마다, flagged: 예산 초과/반복 문장이 있을 때만, off
+    private static final String LOG_MODE = AppConfig.getString("db.requestStats.log", "all");
+
+    public static final String HEADER = "X-DB-Stats";
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+        throws IOException, ServletException {
+
+        if (!ENABLED || RequestStats.current() != null) {
+            // include/forward 등으로 다시 들어온 경우는 바깥 기록에 합친다
+            chain.doFilter(req, res);
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        String endpoint = request.getMethod() + " " + request.getServletPath()
+            + (request.getPathInfo() != null ? request.getPathInfo() : "");
+
+        RequestStats stats = RequestStats.open(endpoint);
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            chain.doFilter(request, wrapped);
+        } finally {
+            wrapped.addStatsHeader();
+            boolean flagged = stats.close();
+            if (stats.isUsed() && ("all".equalsIgnoreCase(LOG_MODE) || (flagged && "flagged".equalsIgnoreCase(LOG_MODE)))) {
+                System.out.println("[DBSTATS] " + endpoint + " status=" + response.getStatus() + " " + stats.summary());
+            }
+        }
+    }
+
+    /**
+     * 응답이 나가기 직전에 사용량 헤더를 붙이는 래퍼
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final RequestStats stats;
+        private boolean headerAdded;
+
+        private StatsHeaderResponse(HttpServletResponse response, RequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void addStatsHeader() {
+            if (!headerAdded && !isCommitted()) {
+                headerAdded = true;
+                setHeader(HEADER, stats.summary());
+            }
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addStatsHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addStatsHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addStatsHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addStatsHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addStatsHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addStatsHeader();
+            super.flushBuffer();
+        }
+    }
+}
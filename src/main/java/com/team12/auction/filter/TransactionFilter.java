@@ -0,0 +1,193 @@
+package com.team12.auction.filter;
+
+import com.team12.auction.util.TransactionUtil;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.SQLException;
+
+/**
+ * HTTP 요청 하나를 하나의 트랜잭션으로 묶는다.
+ * <p>
+ * 커넥션은 요청 중 처음 DB를 사용할 때 빌리고, 응답이 나가기 직전(리다이렉트, forward/include,
+ * 본문 쓰기 시작, 에러 응답)에 한 번만 커밋(롤백 전용이면 롤백)한 뒤 반납한다.
+ * 그래서 클라이언트가 결과를 받았을 때는 이미 커밋되어 있고, JSP를 그리는 동안 락을 잡고 있지 않는다.
+ * 그 뒤의 DB 사용은 자동 커밋으로 처리된다. 예외로 끝난 요청은 롤백한다.
+ * 커밋에 실패하면 응답을 보내지 않고 error.jsp로 보낸다.
+ * DB를 사용하지 않는 요청(정적 파일 등)은 커넥션을 빌리지 않는다.
+ * 필터 순서는 web.xml에 선언되어 있다 (RequestStatsFilter → TransactionFilter → AuthFilter).
+ */
+public class TransactionFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+        throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        RequestTransaction tx = new RequestTransaction();
+        TransactionUtil.begin();
+        try {
+            chain.doFilter(new TransactionalRequest(request, tx), new TransactionalResponse(response, tx));
+            if (tx.failure != null) {
+                // 서블릿이 IOException을 삼켰더라도 커밋 실패는 그대로 처리한다
+                throw tx.failure;
+            }
+            tx.commit();
+        } catch (CommitFailedException e) {
+            System.err.println("[ERROR] Failed to commit request transaction: " + e.getCause().getMessage());
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                request.setAttribute("errorMessage", "요청을 처리하는 중 오류가 발생했습니다. 다시 시도해주세요.");
+                request.getRequestDispatcher("/error.jsp").forward(request, response);
+            }
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    /**
+     * 요청 트랜잭션을 한 번만 끝내도록 관리한다.
+     */
+    private static final class RequestTransaction {
+        private boolean ended;
+        private CommitFailedException failure;
+
+        /**
+         * 가장 바깥 트랜잭션이면 커밋 (이미 끝났거나 TransactionUtil.execute 안이면 무시)
+         */
+        private void commit() throws CommitFailedException {
+            if (ended || !TransactionUtil.isOutermost()) {
+                return;
+            }
+            ended = true;
+            try {
+                TransactionUtil.end(true);
+            } catch (SQLException e) {
+                failure = new CommitFailedException(e);
+                throw failure;
+            }
+        }
+
+        /**
+         * 아직 끝나지 않았으면 롤백 (예외로 빠져나온 경우)
+         */
+        private void rollback() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            try {
+                TransactionUtil.end(false);
+            } catch (SQLException e) {
+                System.err.println("[ERROR] Failed to roll back request transaction: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 커밋 실패. 응답을 보내려던 호출(sendRedirect, forward 등)을 중단시키고 필터에서 처리한다.
+     */
+    private static final class CommitFailedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private CommitFailedException(SQLException cause) {
+            super("트랜잭션 커밋에 실패했습니다.", cause);
+        }
+    }
+
+    /**
+     * forward/include 전에 커밋하는 요청 래퍼
+     */
+    private static final class TransactionalRequest extends HttpServletRequestWrapper {
+        private final RequestTransaction tx;
+
+        private TransactionalRequest(HttpServletRequest request, RequestTransaction tx) {
+            super(request);
+            this.tx = tx;
+        }
+
+        @Override
+        public RequestDispatcher getRequestDispatcher(String path) {
+            RequestDispatcher dispatcher = super.getRequestDispatcher(path);
+            if (dispatcher == null) {
+                return null;
+            }
+            return new RequestDispatcher() {
+                @Override
+                public void forward(ServletRequest request, ServletResponse response)
+                    throws ServletException, IOException {
+                    tx.commit();
+                    dispatcher.forward(request, response);
+                }
+
+                @Override
+                public void include(ServletRequest request, ServletResponse response)
+                    throws ServletException, IOException {
+                    tx.commit();
+                    dispatcher.include(request, response);
+                }
+            };
+        }
+    }
+
+    /**
+     * 응답이 나가기 전에 커밋하는 응답 래퍼
+     */
+    private static final class TransactionalResponse extends HttpServletResponseWrapper {
+        private final RequestTransaction tx;
+
+        private TransactionalResponse(HttpServletResponse response, RequestTransaction tx) {
+            super(response);
+            this.tx = tx;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            tx.commit();
+            return super.getWriter();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            tx.commit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            tx.commit();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            tx.commit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            tx.commit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            tx.commit();
+            super.flushBuffer();
+        }
+    }
+}
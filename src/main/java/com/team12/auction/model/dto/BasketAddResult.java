@@ -0,0 +1,118 @@
+package com.team12.auction.model.dto;
+
+/**
+ * 수강꾸러미 담기에 필요한 정보 + 처리 결과
+ */
+public class BasketAddResult {
+	/**
+	 * 담기 결과
+	 */
+	public enum Reason {
+		ADDED,
+		// 이미 담은 분반
+		ALREADY_IN_BASKET,
+		// 담으면 최대 학점을 넘음
+		CREDIT_LIMIT_EXCEEDED,
+		// 수강 중이거나 이미 담은 분반과 시간이 겹침
+		TIME_CONFLICT,
+		STUDENT_NOT_FOUND,
+		SECTION_NOT_FOUND
+	}
+
+	private Reason reason;
+	// 학생의 장바구니 ID (아직 없으면 null)
+	private String basketId;
+	private boolean studentFound;
+	private boolean inBasket;
+	private int maxCredits;
+	// 이미 담은 분반들의 학점 합
+	private int currentCredits;
+	// 담으려는 분반의 학점
+	private int newCredits;
+	private boolean added;
+	private String errorMessage;
+	private String successMessage;
+
+	public BasketAddResult() {
+	}
+
+	public Reason getReason() {
+		return reason;
+	}
+
+	public void setReason(Reason reason) {
+		this.reason = reason;
+	}
+
+	public String getBasketId() {
+		return basketId;
+	}
+
+	public void setBasketId(String basketId) {
+		this.basketId = basketId;
+	}
+
+	public boolean isStudentFound() {
+		return studentFound;
+	}
+
+	public void setStudentFound(boolean studentFound) {
+		this.studentFound = studentFound;
+	}
+
+	public boolean isInBasket() {
+		return inBasket;
+	}
+
+	public void setInBasket(boolean inBasket) {
+		this.inBasket = inBasket;
+	}
+
+	public int getMaxCredits() {
+		return maxCredits;
+	}
+
+	public void setMaxCredits(int maxCredits) {
+		this.maxCredits = maxCredits;
+	}
+
+	public int getCurrentCredits() {
+		return currentCredits;
+	}
+
+	public void setCurrentCredits(int currentCredits) {
+		this.currentCredits = currentCredits;
+	}
+
+	public int getNewCredits() {
+		return newCredits;
+	}
+
+	public void setNewCredits(int newCredits) {
+		this.newCredits = newCredits;
+	}
+
+	public boolean isAdded() {
+		return added;
+	}
+
+	public void setAdded(boolean added) {
+		this.added = added;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	public String getSuccessMessage() {
+		return successMessage;
+	}
+
+	public void setSuccessMessage(String successMessage) {
+		this.successMessage = successMessage;
+	}
+}
@@ -0,0 +1,123 @@
+package com.team12.auction.model.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입찰 화면에 필요한 정보 + 입찰 처리 결과
+ */
+public class BidPlacementResult {
+	private AuctionDetail auction;
+	private List<BidDetail> topBids = new ArrayList<>();
+	private int totalBidCount;
+	private boolean inBasket;
+	private boolean alreadyBid;
+	private boolean biddingWindowOpen;
+	private boolean canBid;
+	// 입찰 금액 기준 예상 순위 (입찰 요청이 아닐 때는 0)
+	private int prospectiveRank;
+	// 정원이 찼을 때 마지막 순위의 입찰 금액 (정원 미달이면 0)
+	private int cutoffAmount;
+	private boolean placed;
+	private String errorMessage;
+	private String successMessage;
+
+	public BidPlacementResult() {
+	}
+
+	public AuctionDetail getAuction() {
+		return auction;
+	}
+
+	public void setAuction(AuctionDetail auction) {
+		this.auction = auction;
+	}
+
+	public List<BidDetail> getTopBids() {
+		return topBids;
+	}
+
+	public void setTopBids(List<BidDetail> topBids) {
+		this.topBids = topBids;
+	}
+
+	public int getTotalBidCount() {
+		return totalBidCount;
+	}
+
+	public void setTotalBidCount(int totalBidCount) {
+		this.totalBidCount = totalBidCount;
+	}
+
+	public boolean isInBasket() {
+		return inBasket;
+	}
+
+	public void setInBasket(boolean inBasket) {
+		this.inBasket = inBasket;
+	}
+
+	public boolean isAlreadyBid() {
+		return alreadyBid;
+	}
+
+	public void setAlreadyBid(boolean alreadyBid) {
+		this.alreadyBid = alreadyBid;
+	}
+
+	public boolean isBiddingWindowOpen() {
+		return biddingWindowOpen;
+	}
+
+	public void setBiddingWindowOpen(boolean biddingWindowOpen) {
+		this.biddingWindowOpen = biddingWindowOpen;
+	}
+
+	public boolean isCanBid() {
+		return canBid;
+	}
+
+	public void setCanBid(boolean canBid) {
+		this.canBid = canBid;
+	}
+
+	public int getProspectiveRank() {
+		return prospectiveRank;
+	}
+
+	public void setProspectiveRank(int prospectiveRank) {
+		this.prospectiveRank = prospectiveRank;
+	}
+
+	public int getCutoffAmount() {
+		return cutoffAmount;
+	}
+
+	public void setCutoffAmount(int cutoffAmount) {
+		this.cutoffAmount = cutoffAmount;
+	}
+
+	public boolean isPlaced() {
+		return placed;
+	}
+
+	public void setPlaced(boolean placed) {
+		this.placed = placed;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	public String getSuccessMessage() {
+		return successMessage;
+	}
+
+	public void setSuccessMessage(String successMessage) {
+		this.successMessage = successMessage;
+	}
+}
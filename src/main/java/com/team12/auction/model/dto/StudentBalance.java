@@ -0,0 +1,99 @@
+package com.team12.auction.model.dto;
+
+/**
+ * 학생별 포인트/학점 잔액 (StudentLedger)
+ */
+public class StudentBalance {
+	private int studentId;
+	private int maxPoint;
+	private int maxCredits;
+	// 수강 등록에 쓴 포인트 합 (Enrollment.points_used)
+	private int spentPoints;
+	// 아직 마감되지 않은 입찰에 건 포인트 합
+	private int committedPoints;
+	private int enrolledCredits;
+	private int basketCredits;
+	// StudentLedger 행에서 읽었는지 (false면 원본 테이블에서 계산)
+	private boolean fromLedger;
+
+	public StudentBalance() {
+	}
+
+	public int getStudentId() {
+		return studentId;
+	}
+
+	public void setStudentId(int studentId) {
+		this.studentId = studentId;
+	}
+
+	public int getMaxPoint() {
+		return maxPoint;
+	}
+
+	public void setMaxPoint(int maxPoint) {
+		this.maxPoint = maxPoint;
+	}
+
+	public int getMaxCredits() {
+		return maxCredits;
+	}
+
+	public void setMaxCredits(int maxCredits) {
+		this.maxCredits = maxCredits;
+	}
+
+	public int getSpentPoints() {
+		return spentPoints;
+	}
+
+	public void setSpentPoints(int spentPoints) {
+		this.spentPoints = spentPoints;
+	}
+
+	public int getCommittedPoints() {
+		return committedPoints;
+	}
+
+	public void setCommittedPoints(int committedPoints) {
+		this.committedPoints = committedPoints;
+	}
+
+	public int getEnrolledCredits() {
+		return enrolledCredits;
+	}
+
+	public void setEnrolledCredits(int enrolledCredits) {
+		this.enrolledCredits = enrolledCredits;
+	}
+
+	public int getBasketCredits() {
+		return basketCredits;
+	}
+
+	public void setBasketCredits(int basketCredits) {
+		this.basketCredits = basketCredits;
+	}
+
+	public boolean isFromLedger() {
+		return fromLedger;
+	}
+
+	public void setFromLedger(boolean fromLedger) {
+		this.fromLedger = fromLedger;
+	}
+
+	/**
+	 * 남은 포인트 (최대 포인트 - 수강 등록에 쓴 포인트)
+	 */
+	public int getRemainingPoints() {
+		return maxPoint - spentPoints;
+	}
+
+	/**
+	 * 새 입찰에 쓸 수 있는 포인트 (남은 포인트 - 진행 중인 입찰에 건 포인트)
+	 */
+	public int getAvailablePoints() {
+		return getRemainingPoints() - committedPoints;
+	}
+}
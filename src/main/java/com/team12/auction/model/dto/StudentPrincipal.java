@@ -0,0 +1,75 @@
+package com.team12.auction.model.dto;
+
+import com.team12.auction.model.entity.Student;
+
+/**
+ * 로그인한 학생 정보 (AuthFilter가 요청마다 붙임, 변경 불가)
+ * <p>
+ * 비밀번호는 담지 않는다.
+ */
+public final class StudentPrincipal {
+	// 요청 속성 이름
+	public static final String ATTRIBUTE = "principal";
+
+	private final int studentId;
+	private final String name;
+	private final String department;
+	private final int grade;
+	private final int maxCredits;
+	private final int maxPoint;
+
+	public StudentPrincipal(int studentId, String name, String department, int grade, int maxCredits, int maxPoint) {
+		this.studentId = studentId;
+		this.name = name;
+		this.department = department;
+		this.grade = grade;
+		this.maxCredits = maxCredits;
+		this.maxPoint = maxPoint;
+	}
+
+	public static StudentPrincipal of(Student student) {
+		return new StudentPrincipal(student.getStudentId(), student.getName(), student.getDepartment(),
+				student.getGrade(), student.getMaxCredits(), student.getMaxPoint());
+	}
+
+	public int getStudentId() {
+		return studentId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDepartment() {
+		return department;
+	}
+
+	public int getGrade() {
+		return grade;
+	}
+
+	public int getMaxCredits() {
+		return maxCredits;
+	}
+
+	public int getMaxPoint() {
+		return maxPoint;
+	}
+
+	/**
+	 * 화면/수정용 Student 사본 (비밀번호는 비어 있음)
+	 */
+	public Student toStudent() {
+		return new Student(studentId, name, department, grade, null, maxCredits, maxPoint);
+	}
+
+	@Override
+	public String toString() {
+		return "StudentPrincipal{" +
+				"studentId=" + studentId +
+				", name='" + name + '\'' +
+				", department='" + department + '\'' +
+				", grade=" + grade +
+				'}';
+	}
+}
@@ -0,0 +1,285 @@
+package com.team12.auction.service;
+
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.DBConnection;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경매 마감 실행기
+ * <p>
+ * 서로 독립적인 경매들을 고정 크기 작업 스레드 풀에서 동시에 마감한다. 경매마다 별도 트랜잭션으로 처리하고,
+ * 실패하면 그 경매만 maxAttempts번까지 다시 시도한다 (다른 경매 처리에는 영향 없음).
+ * 같은 경매가 대기/처리 중이면 중복 제출은 무시한다.
+ */
+public class AuctionFinalizationEngine {
+
+        private static volatile AuctionFinalizationEngine instance;
+
+        /**
+         * 경매 하나의 마감 결과
+         */
+        public enum Outcome {
+                // 이번에 마감함
+                FINALIZED,
+                // 이미 마감되었거나 아직 종료 전
+                SKIPPED,
+                // 재시도 후에도 실패
+                FAILED,
+                // 같은 경매가 이미 대기/처리 중
+                DUPLICATE
+        }
+
+        private final AuctionService auctionService = new AuctionService();
+        private final ExecutorService executor;
+        private final int workers;
+        private final int maxAttempts;
+        private final long retryDelayMs;
+
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+        private final AtomicInteger queuedCount = new AtomicInteger();
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+        private final LongAdder finalizedCount = new LongAdder();
+        private final LongAdder skippedCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder retryCount = new LongAdder();
+        private final LongAdder totalClearingMs = new LongAdder();
+        private final AtomicLong maxClearingMs = new AtomicLong();
+        private final LongAdder closeLatencyCount = new LongAdder();
+        private final LongAdder totalCloseLatencyMs = new LongAdder();
+        private final AtomicLong maxCloseLatencyMs = new AtomicLong();
+        private volatile long lastCloseLatencyMs;
+
+        AuctionFinalizationEngine(int workers, int maxAttempts, long retryDelayMs) {
+                this.workers = Math.max(1, workers);
+                this.maxAttempts = Math.max(1, maxAttempts);
+                this.retryDelayMs = Math.max(0, retryDelayMs);
+
+                AtomicInteger threadNumber = new AtomicInteger();
+                this.executor = Executors.newFixedThreadPool(this.workers, r -> {
+                        Thread thread = new Thread(r, "auction-clearing-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                });
+        }
+
+        /**
+         * 설정을 읽어 실행기 시작
+         * <p>
+         * 작업 스레드 수 기본값은 CPU 수와 커넥션 풀 최대 크기의 1/4 중 작은 값 (요청 처리용 커넥션을 남겨 둔다).
+         */
+        public static synchronized void start() {
+                if (instance != null) {
+                        return;
+                }
+                int defaultWorkers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                        DBConnection.getPool().getMaxSize() / 4));
+                instance = new AuctionFinalizationEngine(
+                        AppConfig.getInt("auction.finalizer.workers", defaultWorkers),
+                        AppConfig.getInt("auction.finalizer.maxAttempts", 3),
+                        AppConfig.getLong("auction.finalizer.retryDelayMs", 500));
+                System.out.println("[INFO] Auction finalization engine started (workers=" + instance.workers + ")");
+        }
+
+        /**
+         * 실행기 종료 (대기/처리 중인 마감은 최대 30초까지 기다림)
+         */
+        public static synchronized void stop() {
+                AuctionFinalizationEngine engine = instance;
+                instance = null;
+                if (engine == null) {
+                        return;
+                }
+                engine.executor.shutdown();
+                try {
+                        if (!engine.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                                System.err.println("[WARN] Auction finalization engine did not finish in time");
+                                engine.executor.shutdownNow();
+                        }
+                } catch (InterruptedException e) {
+                        engine.executor.shutdownNow();
+                        Thread.currentThread().interrupt();
+                }
+                System.out.println("[INFO] Auction finalization engine stopped (" + engine.describe() + ")");
+        }
+
+        public static AuctionFinalizationEngine getInstance() {
+                return instance;
+        }
+
+        /**
+         * 경매 마감 제출
+         *
+         * @param closeAt 경매 종료 시각 (epoch ms, 마감 지연 측정용 / 모르면 0)
+         */
+        public CompletableFuture<Outcome> submit(String auctionId, long closeAt) {
+                if (!pending.add(auctionId)) {
+                        return CompletableFuture.completedFuture(Outcome.DUPLICATE);
+                }
+                queuedCount.incrementAndGet();
+                try {
+                        return CompletableFuture.supplyAsync(() -> run(auctionId, closeAt), executor);
+                } catch (RejectedExecutionException e) {
+                        queuedCount.decrementAndGet();
+                        pending.remove(auctionId);
+                        throw e;
+                }
+        }
+
+        /**
+         * 여러 경매를 동시에 마감하고 모두 끝날 때까지 기다린다.
+         *
+         * @return 경매별 결과 (제출 순서)
+         */
+        public List<Outcome> finalizeAll(List<String> auctionIds) {
+                List<CompletableFuture<Outcome>> futures = new ArrayList<>(auctionIds.size());
+                for (String auctionId : auctionIds) {
+                        futures.add(submit(auctionId, 0));
+                }
+
+                List<Outcome> outcomes = new ArrayList<>(futures.size());
+                for (CompletableFuture<Outcome> future : futures) {
+                        try {
+                                outcomes.add(future.get());
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                outcomes.add(Outcome.FAILED);
+                        } catch (ExecutionException e) {
+                                outcomes.add(Outcome.FAILED);
+                        }
+                }
+                return outcomes;
+        }
+
+        private Outcome run(String auctionId, long closeAt) {
+                queuedCount.decrementAndGet();
+                inFlightCount.incrementAndGet();
+                long started = System.currentTimeMillis();
+                try {
+                        for (int attempt = 1; ; attempt++) {
+                                try {
+                                        boolean finalized = auctionService.finalizeAuction(auctionId);
+                                        long finished = System.currentTimeMillis();
+                                        record(totalClearingMs, maxClearingMs, finished - started);
+                                        if (!finalized) {
+                                                skippedCount.increment();
+                                                return Outcome.SKIPPED;
+                                        }
+                                        finalizedCount.increment();
+                                        if (closeAt > 0) {
+                                                long latency = finished - closeAt;
+                                                lastCloseLatencyMs = latency;
+                                                closeLatencyCount.increment();
+                                                record(totalCloseLatencyMs, maxCloseLatencyMs, latency);
+                                                System.out.println("[INFO] Auction finalized: " + auctionId + " (" + latency + " ms after close)");
+                                        } else {
+                                                System.out.println("[INFO] Auction finalized: " + auctionId);
+                                        }
+                                        return Outcome.FINALIZED;
+                                } catch (SQLException | RuntimeException e) {
+                                        if (attempt >= maxAttempts) {
+                                                failedCount.increment();
+                                                System.err.println("[ERROR] Auction finalization failed: " + auctionId
+                                                        + " (attempt " + attempt + "/" + maxAttempts + ") - " + e.getMessage());
+                                                return Outcome.FAILED;
+                                        }
+                                        retryCount.increment();
+                                        System.err.println("[WARN] Auction finalization retry: " + auctionId
+                                                + " (attempt " + attempt + "/" + maxAttempts + ") - " + e.getMessage());
+                                        try {
+                                                Thread.sleep(retryDelayMs * attempt);
+                                        } catch (InterruptedException ie) {
+                                                Thread.currentThread().interrupt();
+                                                failedCount.increment();
+                                                return Outcome.FAILED;
+                                        }
+                                }
+                        }
+                } finally {
+                        inFlightCount.decrementAndGet();
+                        pending.remove(auctionId);
+                }
+        }
+
+        private static void record(LongAdder total, AtomicLong max, long value) {
+                total.add(value);
+                max.accumulateAndGet(value, Math::max);
+        }
+
+        public int getWorkers() {
+                return workers;
+        }
+
+        public int getQueuedCount() {
+                return queuedCount.get();
+        }
+
+        public int getInFlightCount() {
+                return inFlightCount.get();
+        }
+
+        public long getFinalizedCount() {
+                return finalizedCount.sum();
+        }
+
+        public long getSkippedCount() {
+                return skippedCount.sum();
+        }
+
+        public long getFailedCount() {
+                return failedCount.sum();
+        }
+
+        public long getRetryCount() {
+                return retryCount.sum();
+        }
+
+        public long getAverageClearingMs() {
+                long count = finalizedCount.sum() + skippedCount.sum();
+                return count == 0 ? 0 : totalClearingMs.sum() / count;
+        }
+
+        public long getMaxClearingMs() {
+                return maxClearingMs.get();
+        }
+
+        public long getLastCloseLatencyMs() {
+                return lastCloseLatencyMs;
+        }
+
+        public long getAverageCloseLatencyMs() {
+                long count = closeLatencyCount.sum();
+                return count == 0 ? 0 : totalCloseLatencyMs.sum() / count;
+        }
+
+        public long getMaxCloseLatencyMs() {
+                return maxCloseLatencyMs.get();
+        }
+
+        public String describe() {
+                return "workers=" + workers
+                        + ", queued=" + getQueuedCount()
+                        + ", inFlight=" + getInFlightCount()
+                        + ", finalized=" + getFinalizedCount()
+                        + ", skipped=" + getSkippedCount()
+                        + ", failed=" + getFailedCount()
+                        + ", retries=" + getRetryCount()
+                        + ", clearingMs(avg/max)=" + getAverageClearingMs() + "/" + getMaxClearingMs()
+                        + ", closeLatencyMs(last/avg/max)=" + getLastCloseLatencyMs() + "/" + getAverageCloseLatencyMs()
+                        + "/" + getMaxCloseLatencyMs();
+        }
+}
@@ -0,0 +1,236 @@
+package com.team12.auction.service;
+
+import com.team12.auction.dao.AuctionDAO;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경매 마감 스케줄러
+ * <p>
+ * ACTIVE 경매를 종료 시각 순으로 DelayQueue에 넣어 두고, 종료 시각이 되면 AuctionFinalizationEngine에 마감을 맡긴다.
+ * 같은 시각에 끝나는 경매들은 실행기의 작업 스레드들이 동시에 처리한다.
+ * 종료 시각은 DB 시각 기준 남은 시간으로 계산하므로 서버 시계와 DB 시계가 달라도 일찍 깨어나지 않는다.
+ * 새로 생긴 경매나 종료 시간이 바뀐 경매는 sweepIntervalMs마다 다시 읽어 반영한다 (마감 실패 시 재시도도 이때 일어난다).
+ */
+public class AuctionFinalizationScheduler {
+
+        private static volatile AuctionFinalizationScheduler instance;
+
+        // end_time < SYSDATE 조건이 확실히 참이 되도록 종료 시각보다 조금 늦게 깨운다
+        private static final long GRACE_MS = 1000;
+
+        private final AuctionDAO auctionDAO = new AuctionDAO();
+        private final long sweepIntervalMs;
+
+        private final DelayQueue<Due> queue = new DelayQueue<>();
+        // auction_id -> 예약된 마감 시각 (큐에 남은 예전 예약은 이 값과 비교해 무시)
+        private final Map<String, Long> scheduled = new ConcurrentHashMap<>();
+
+        private final LongAdder dispatchCount = new LongAdder();
+        private final LongAdder sweepCount = new LongAdder();
+
+        private volatile boolean running;
+        private Thread worker;
+        private Thread sweeper;
+
+        AuctionFinalizationScheduler(long sweepIntervalMs) {
+                this.sweepIntervalMs = sweepIntervalMs;
+        }
+
+        /**
+         * 설정을 읽어 스케줄러 시작 ({@code auction.finalizer.enabled=false}이면 시작하지 않음)
+         */
+        public static synchronized void start() {
+                if (instance != null) {
+                        return;
+                }
+                if (!AppConfig.getBoolean("auction.finalizer.enabled", true)) {
+                        System.out.println("[INFO] Auction finalizer disabled");
+                        return;
+                }
+                AuctionFinalizationScheduler scheduler = new AuctionFinalizationScheduler(
+                        AppConfig.getLong("auction.finalizer.sweepIntervalMs", 60000));
+                scheduler.startThreads();
+                instance = scheduler;
+        }
+
+        /**
+         * 스케줄러 종료 (마감 작업 자체는 AuctionFinalizationEngine.stop()에서 마무리)
+         */
+        public static synchronized void stop() {
+                AuctionFinalizationScheduler scheduler = instance;
+                instance = null;
+                if (scheduler != null) {
+                        scheduler.stopThreads();
+                }
+        }
+
+        public static AuctionFinalizationScheduler getInstance() {
+                return instance;
+        }
+
+        private void startThreads() {
+                running = true;
+
+                worker = new Thread(this::runWorker, "auction-finalizer");
+                worker.setDaemon(true);
+                worker.start();
+
+                sweeper = new Thread(this::runSweeper, "auction-finalizer-sweep");
+                sweeper.setDaemon(true);
+                sweeper.start();
+
+                System.out.println("[INFO] Auction finalizer started (sweepIntervalMs=" + sweepIntervalMs + ")");
+        }
+
+        private void stopThreads() {
+                running = false;
+                sweeper.interrupt();
+                // 마감 트랜잭션 도중에 끊지 않도록 작업 스레드는 인터럽트 대신 종료 표시를 넣는다
+                queue.put(new Due(null, 0, 0));
+                try {
+                        sweeper.join(5000);
+                        worker.join(30000);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+                queue.clear();
+                scheduled.clear();
+                System.out.println("[INFO] Auction finalizer stopped (" + describe() + ")");
+        }
+
+        /**
+         * 경매 마감 예약 (이미 같은 시각으로 예약되어 있으면 무시)
+         *
+         * @param remainingMs DB 시각 기준 종료까지 남은 시간
+         */
+        public void schedule(String auctionId, long remainingMs) {
+                long closeAt = System.currentTimeMillis() + remainingMs;
+                long dueAt = Math.max(System.currentTimeMillis(), closeAt) + GRACE_MS;
+                Long previous = scheduled.get(auctionId);
+                // 초 단위 DATE라 sweep마다 계산값이 조금씩 흔들리므로 1초 이내 차이는 같은 예약으로 본다
+                if (previous != null && Math.abs(previous - dueAt) < 1000) {
+                        return;
+                }
+                scheduled.put(auctionId, dueAt);
+                queue.put(new Due(auctionId, dueAt, closeAt));
+        }
+
+        /**
+         * ACTIVE 경매의 종료 시각을 다시 읽어 예약을 맞춘다.
+         */
+        public void sweep() throws SQLException {
+                Map<String, Long> deadlines = auctionDAO.selectActiveAuctionDeadlines();
+                scheduled.keySet().retainAll(deadlines.keySet());
+                for (Map.Entry<String, Long> entry : deadlines.entrySet()) {
+                        schedule(entry.getKey(), entry.getValue());
+                }
+                sweepCount.increment();
+        }
+
+        private void runSweeper() {
+                while (running) {
+                        try {
+                                sweep();
+                        } catch (SQLException e) {
+                                System.err.println("[ERROR] Auction finalizer sweep failed: " + e.getMessage());
+                        } catch (RuntimeException e) {
+                                System.err.println("[ERROR] Auction finalizer sweep failed");
+                                e.printStackTrace();
+                        }
+                        if (sweepIntervalMs <= 0) {
+                                // 시작 시 한 번만 읽는다
+                                return;
+                        }
+                        try {
+                                Thread.sleep(sweepIntervalMs);
+                        } catch (InterruptedException e) {
+                                return;
+                        }
+                }
+        }
+
+        private void runWorker() {
+                while (running) {
+                        Due due;
+                        try {
+                                due = queue.take();
+                        } catch (InterruptedException e) {
+                                return;
+                        }
+                        if (due.auctionId == null) {
+                                return;
+                        }
+                        Long current = scheduled.get(due.auctionId);
+                        if (current == null || current != due.dueAt) {
+                                // 종료 시간이 바뀌었거나 이미 처리된 예약
+                                continue;
+                        }
+                        dispatch(due);
+                }
+        }
+
+        private void dispatch(Due due) {
+                AuctionFinalizationEngine engine = AuctionFinalizationEngine.getInstance();
+                if (engine == null) {
+                        // 실행기가 이미 멈췄으면 다음 sweep에서 다시 예약된다
+                        scheduled.remove(due.auctionId, due.dueAt);
+                        return;
+                }
+                dispatchCount.increment();
+                // 끝나면(성공/실패 모두) 예약을 지운다. 아직 ACTIVE면 다음 sweep에서 다시 예약된다
+                engine.submit(due.auctionId, due.closeAt)
+                        .whenComplete((outcome, error) -> scheduled.remove(due.auctionId, due.dueAt));
+        }
+
+        public int getScheduledCount() {
+                return scheduled.size();
+        }
+
+        public long getDispatchCount() {
+                return dispatchCount.sum();
+        }
+
+        public long getSweepCount() {
+                return sweepCount.sum();
+        }
+
+        public String describe() {
+                return "scheduled=" + getScheduledCount()
+                        + ", dispatched=" + getDispatchCount()
+                        + ", sweeps=" + getSweepCount();
+        }
+
+        /**
+         * 큐에 들어가는 마감 예약
+         */
+        private static final class Due implements Delayed {
+                private final String auctionId;
+                private final long dueAt;
+                // 실제 경매 종료 시각 (마감 지연 측정용)
+                private final long closeAt;
+
+                private Due(String auctionId, long dueAt, long closeAt) {
+                        this.auctionId = auctionId;
+                        this.dueAt = dueAt;
+                        this.closeAt = closeAt;
+                }
+
+                @Override
+                public long getDelay(TimeUnit unit) {
+                        return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                }
+
+                @Override
+                public int compareTo(Delayed other) {
+                        return Long.compare(dueAt, ((Due) other).dueAt);
+                }
+        }
+}
@@ -3,10 +3,10 @@ package com.team12.auction.service;
 import com.team12.auction.dao.AuctionDAO;
 import com.team12.auction.dao.BidDAO;
 import com.team12.auction.model.dto.AuctionDetail;
-import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.TransactionUtil;
 
-import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 public class AuctionService {
@@ -21,23 +21,64 @@ public class AuctionService {
 
         /**
          * 종료된 경매에 대해 상위 입찰자를 낙찰 처리하고 수강 신청을 자동 등록한다.
+         * <p>
+         * AuctionFinalizationEngine이 실행 중이면 경매들을 동시에 마감하고, 아니면 하나씩 마감한다.
+         * 어느 경우든 한 경매의 실패가 나머지 경매 처리를 막지 않는다.
+         *
+         * @return 이번 호출에서 마감한 경매 수
          */
-        public void finalizeExpiredAuctions() throws SQLException {
+        public int finalizeExpiredAuctions() throws SQLException {
                 List<AuctionDetail> expiredAuctions = auctionDAO.selectExpiredActiveAuctions();
 
+                AuctionFinalizationEngine engine = AuctionFinalizationEngine.getInstance();
+                if (engine != null) {
+                        List<String> auctionIds = new ArrayList<>(expiredAuctions.size());
+                        for (AuctionDetail auction : expiredAuctions) {
+                                auctionIds.add(auction.getAuctionId());
+                        }
+                        int finalized = 0;
+                        for (AuctionFinalizationEngine.Outcome outcome : engine.finalizeAll(auctionIds)) {
+                                if (outcome == AuctionFinalizationEngine.Outcome.FINALIZED) {
+                                        finalized++;
+                                }
+                        }
+                        return finalized;
+                }
+
+                int finalized = 0;
+                SQLException firstError = null;
                 for (AuctionDetail auction : expiredAuctions) {
-                        Connection conn = null;
                         try {
-                                conn = DBConnection.getConnection();
-                                bidDAO.finalizeAuctionBids(conn, auction.getAuctionId(), auction.getAvailableSlots(), auction.getSectionId());
-                                auctionDAO.updateStatus(conn, auction.getAuctionId(), "COMPLETED");
-                                DBConnection.commit(conn);
+                                if (finalizeAuction(auction.getAuctionId())) {
+                                        finalized++;
+                                }
                         } catch (SQLException e) {
-                                DBConnection.rollback(conn);
-                                throw e;
-                        } finally {
-                                DBConnection.close(null, conn);
+                                System.err.println("[ERROR] Auction finalization failed: " + auction.getAuctionId() + " - " + e.getMessage());
+                                if (firstError == null) {
+                                        firstError = e;
+                                }
                         }
                 }
+                if (firstError != null) {
+                        throw firstError;
+                }
+                return finalized;
+        }
+
+        /**
+         * 경매 하나를 마감한다. 경매 행을 잠근 뒤 상태를 다시 확인하므로 여러 곳에서 동시에 호출해도 한 번만 처리된다.
+         *
+         * @return 마감했으면 true, 이미 마감되었거나 아직 종료 전이면 false
+         */
+        public boolean finalizeAuction(String auctionId) throws SQLException {
+                return TransactionUtil.execute(conn -> {
+                        AuctionDetail auction = auctionDAO.lockExpiredActiveAuction(conn, auctionId);
+                        if (auction == null) {
+                                return false;
+                        }
+                        bidDAO.finalizeAuctionBids(conn, auction.getAuctionId(), auction.getAvailableSlots(), auction.getSectionId());
+                        auctionDAO.updateStatus(conn, auction.getAuctionId(), "COMPLETED");
+                        return true;
+                });
         }
 }
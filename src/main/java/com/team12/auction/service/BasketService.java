@@ -0,0 +1,86 @@
+package com.team12.auction.service;
+
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.cache.TimetableIndex;
+import com.team12.auction.dao.BasketDAO;
+import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.model.dto.BasketAddResult;
+import com.team12.auction.model.dto.BasketAddResult.Reason;
+import com.team12.auction.model.entity.Course;
+import com.team12.auction.model.entity.Section;
+import com.team12.auction.util.TransactionUtil;
+
+import java.sql.SQLException;
+
+/**
+ * 수강꾸러미 담기
+ * <p>
+ * 중복 확인, 학점 제한 확인, 시간 충돌 확인, 담기를 하나의 트랜잭션에서 처리한다.
+ * 첫 SELECT에서 학생 행을 잠그므로 같은 학생이 동시에 여러 분반을 담아도 확인과 INSERT 사이에 다른 담기가 끼어들 수 없다
+ * (다른 학생의 담기는 기다리지 않음). 담으려는 분반의 학점은 강의 캐시에서 읽고,
+ * 장바구니가 아직 없는 학생만 생성 문장이 하나 더 실행된다. 담은 학점 합은 같은 트랜잭션에서 StudentLedger에 반영한다.
+ */
+public class BasketService {
+
+        private final BasketDAO basketDAO;
+        private final StudentDAO studentDAO;
+
+        public BasketService() {
+                this.basketDAO = new BasketDAO();
+                this.studentDAO = new StudentDAO();
+        }
+
+        /**
+         * 수강꾸러미에 분반 담기. 결과는 reason으로 구분하고, 거절되면 errorMessage, 성공하면 successMessage가 채워진다.
+         */
+        public BasketAddResult addToBasket(int studentId, String sectionId) throws SQLException {
+                return TransactionUtil.execute(conn -> {
+                        // 1) 학생 행 잠금 + 최대 학점 / 장바구니 / 중복 / 담은 학점 합 (1회 왕복)
+                        BasketAddResult result = basketDAO.selectAddContext(conn, studentId, sectionId, true);
+                        if (result == null) {
+                                return reject(new BasketAddResult(), Reason.STUDENT_NOT_FOUND, "학생 정보를 찾을 수 없습니다.");
+                        }
+                        if (result.isInBasket()) {
+                                return reject(result, Reason.ALREADY_IN_BASKET, "이미 수강꾸러미에 담은 분반입니다.");
+                        }
+
+                        // 추가하려는 과목의 학점 (강의 캐시)
+                        Section section = CatalogCache.getSection(sectionId);
+                        if (section == null) {
+                                return reject(result, Reason.SECTION_NOT_FOUND, "존재하지 않는 분반입니다.");
+                        }
+                        Course course = CatalogCache.getCourse(section.getCourseId());
+                        result.setNewCredits(course == null ? 0 : course.getCredits());
+                        if (result.getCurrentCredits() + result.getNewCredits() > result.getMaxCredits()) {
+                                return reject(result, Reason.CREDIT_LIMIT_EXCEEDED, "학점 제한을 초과합니다. (현재: "
+                                        + result.getCurrentCredits() + "학점, 추가: " + result.getNewCredits()
+                                        + "학점, 제한: " + result.getMaxCredits() + "학점)");
+                        }
+                        // 시간 충돌 (수강 중 + 수강꾸러미 시간표와 비교, 시간 칸이 없는 분반은 조회 생략)
+                        if (TimetableIndex.conflictsWithSchedule(studentId, sectionId, true)) {
+                                return reject(result, Reason.TIME_CONFLICT, "수강 중이거나 수강꾸러미에 담은 분반과 시간이 겹칩니다.");
+                        }
+
+                        if (result.getBasketId() == null) {
+                                // 처음 담는 학생만 장바구니 생성
+                                result.setBasketId(basketDAO.ensureBasket(studentId));
+                        }
+                        // 2) 담기
+                        basketDAO.insertBasketItem(conn, result.getBasketId(), sectionId);
+                        studentDAO.applyLedgerDelta(conn, studentId, 0, 0, 0, result.getNewCredits());
+                        SectionCounters.basketChanged(sectionId, 1);
+
+                        result.setAdded(true);
+                        result.setReason(Reason.ADDED);
+                        result.setSuccessMessage("분반을 수강꾸러미에 담았습니다.");
+                        return result;
+                });
+        }
+
+        private BasketAddResult reject(BasketAddResult result, Reason reason, String message) {
+                result.setReason(reason);
+                result.setErrorMessage(message);
+                return result;
+        }
+}
@@ -0,0 +1,201 @@
+package com.team12.auction.service;
+
+import com.team12.auction.cache.AuctionOrderBook;
+import com.team12.auction.cache.AuctionOrderBooks;
+import com.team12.auction.cache.TimetableIndex;
+import com.team12.auction.dao.BidDAO;
+import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.model.dto.AuctionDetail;
+import com.team12.auction.model.dto.BidDetail;
+import com.team12.auction.model.dto.BidPlacementResult;
+import com.team12.auction.model.dto.StudentBalance;
+import com.team12.auction.model.entity.Bid;
+import com.team12.auction.util.TransactionUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 입찰 화면 조회 / 입찰 처리
+ * <p>
+ * 검증, 순위 확인, 입찰 기록을 하나의 트랜잭션(하나의 커넥션)에서 처리한다.
+ * 입찰 시에는 경매 행을 잠그므로 같은 경매에 대한 순위 확인과 INSERT 사이에 다른 입찰이 끼어들 수 없다.
+ * 진행 중인 경매는 순위/입찰 수/상위 목록을 메모리 순위표(AuctionOrderBook)에서 계산한다.
+ * 입찰 금액은 StudentLedger의 사용 가능 포인트(남은 포인트 - 진행 중인 입찰 합)를 넘을 수 없다.
+ */
+public class BidService {
+
+        private final BidDAO bidDAO;
+        private final StudentDAO studentDAO;
+
+        public BidService() {
+                this.bidDAO = new BidDAO();
+                this.studentDAO = new StudentDAO();
+        }
+
+        /**
+         * 입찰 화면에 필요한 정보 조회
+         *
+         * @return 경매가 없으면 errorMessage가 채워진 결과
+         */
+        public BidPlacementResult loadBidPage(int studentId, String auctionId) throws SQLException {
+                return TransactionUtil.execute(conn -> {
+                        AuctionOrderBook book = AuctionOrderBooks.peek(auctionId);
+                        BidPlacementResult result = bidDAO.selectBidContext(conn, auctionId, studentId, 0, false, book == null);
+                        if (result == null) {
+                                return notFound();
+                        }
+                        book = resolveOrderBook(conn, result, book, studentId, 0, false);
+                        fillPageState(conn, result, book);
+                        return result;
+                });
+        }
+
+        /**
+         * 입찰 처리. 검증에 실패하면 errorMessage, 성공하면 successMessage가 채워진다.
+         * 어느 경우든 결과 화면에 필요한 정보가 함께 담긴다.
+         */
+        public BidPlacementResult placeBid(int studentId, String auctionId, int bidAmount) throws SQLException {
+                return TransactionUtil.execute(conn -> {
+                        // 경매 행 잠금 + 장바구니 확인 (순위표가 없으면 기존 입찰/예상 순위도 함께, 1회 왕복)
+                        AuctionOrderBook book = AuctionOrderBooks.peek(auctionId);
+                        BidPlacementResult result = bidDAO.selectBidContext(conn, auctionId, studentId, bidAmount, true, book == null);
+                        if (result == null) {
+                                return notFound();
+                        }
+                        book = resolveOrderBook(conn, result, book, studentId, bidAmount, true);
+
+                        AuctionDetail auction = result.getAuction();
+                        String error = validate(result, bidAmount);
+                        if (error == null && TimetableIndex.conflictsWithSchedule(studentId, auction.getSectionId(), false)) {
+                                // 낙찰되면 바로 수강 등록되므로 수강 중인 분반과 시간이 겹치면 입찰을 막는다
+                                error = "수강 중인 과목과 시간이 겹쳐 입찰할 수 없습니다.";
+                        }
+                        if (error == null) {
+                                // 학생 행을 잠그고 장부에서 잔액 확인 (진행 중인 입찰에 건 포인트는 제외)
+                                StudentBalance balance = studentDAO.selectBalance(conn, studentId, true);
+                                if (balance != null && bidAmount > balance.getAvailablePoints()) {
+                                        error = "사용 가능한 포인트가 부족합니다. (남은 포인트: " + balance.getRemainingPoints()
+                                                + ", 입찰 중: " + balance.getCommittedPoints() + ")";
+                                }
+                        }
+                        if (error != null) {
+                                result.setErrorMessage(error);
+                                fillPageState(conn, result, book);
+                                return result;
+                        }
+
+                        Bid bid = new Bid();
+                        bid.setBidAmount(bidAmount);
+                        bid.setAuctionId(auction.getAuctionId());
+                        bid.setStudentId(studentId);
+                        bidDAO.insertBid(conn, bid);
+
+                        result.setPlaced(true);
+                        result.setAlreadyBid(true);
+                        // 순위표에는 방금 입찰이 이미 들어가 있다
+                        result.setTotalBidCount(book != null ? book.size() : result.getTotalBidCount() + 1);
+                        result.setSuccessMessage("입찰이 완료되었습니다. 현재 예상 순위: " + result.getProspectiveRank() + "위");
+                        fillPageState(conn, result, book);
+                        return result;
+                });
+        }
+
+        private String validate(BidPlacementResult context, int bidAmount) {
+                AuctionDetail auction = context.getAuction();
+
+                if (bidAmount <= 0) {
+                        return "입찰 금액은 1 이상이어야 합니다.";
+                }
+                if (!context.isInBasket()) {
+                        return "수강꾸러미에 담지 않은 분반의 경매는 입찰할 수 없습니다.";
+                }
+                if (!isWithinBidWindow(auction) || !"ACTIVE".equalsIgnoreCase(auction.getStatus())) {
+                        return "입찰 가능 기간이 아니거나 비활성화된 경매입니다.";
+                }
+                if (context.isAlreadyBid()) {
+                        return "이미 입찰한 경매입니다.";
+                }
+                if (context.getProspectiveRank() > auction.getAvailableSlots()) {
+                        return "입찰 금액이 수강 가능 인원 범위 안에 들지 않아 입찰할 수 없습니다.";
+                }
+                return null;
+        }
+
+        /**
+         * 진행 중인 경매면 순위표를 준비하고 입찰 집계를 순위표 값으로 채운다.
+         * 진행 중이 아니면 순위표를 버리고, 집계를 생략했었다면 DB에서 다시 조회한다.
+         *
+         * @return 사용할 순위표 (없으면 null)
+         */
+        private AuctionOrderBook resolveOrderBook(Connection conn, BidPlacementResult result, AuctionOrderBook book,
+                                                  int studentId, int bidAmount, boolean lockAuction) throws SQLException {
+                AuctionDetail auction = result.getAuction();
+
+                if (!"ACTIVE".equalsIgnoreCase(auction.getStatus())) {
+                        if (book != null) {
+                                AuctionOrderBooks.invalidate(auction.getAuctionId());
+                                BidPlacementResult withStats = bidDAO.selectBidContext(conn, auction.getAuctionId(), studentId,
+                                        bidAmount, lockAuction, true);
+                                result.setAlreadyBid(withStats.isAlreadyBid());
+                                result.setTotalBidCount(withStats.getTotalBidCount());
+                                result.setProspectiveRank(withStats.getProspectiveRank());
+                        }
+                        return null;
+                }
+
+                if (book == null) {
+                        // 처음 조회: 집계는 이미 DB에서 읽었으므로 순위표만 준비한다
+                        return AuctionOrderBooks.get(conn, auction.getAuctionId());
+                }
+
+                result.setAlreadyBid(book.hasBidFrom(studentId));
+                result.setTotalBidCount(book.size());
+                result.setProspectiveRank(book.prospectiveRank(bidAmount));
+                return book;
+        }
+
+        /**
+         * 상위 입찰 목록과 화면 표시용 플래그 채우기
+         */
+        private void fillPageState(Connection conn, BidPlacementResult result, AuctionOrderBook book) throws SQLException {
+                AuctionDetail auction = result.getAuction();
+                int slots = auction.getAvailableSlots();
+
+                if (book != null) {
+                        result.setTopBids(book.top(slots));
+                        result.setCutoffAmount(book.cutoffAmount(slots));
+                } else if (slots > 0 && result.getTotalBidCount() > 0) {
+                        List<BidDetail> topBids = bidDAO.selectTopBids(conn, auction.getAuctionId(), slots);
+                        result.setTopBids(topBids);
+                        if (topBids.size() >= slots) {
+                                result.setCutoffAmount(topBids.get(slots - 1).getBidAmount());
+                        }
+                }
+
+                boolean biddingWindowOpen = isWithinBidWindow(auction);
+                result.setBiddingWindowOpen(biddingWindowOpen);
+                result.setCanBid(result.isInBasket() && biddingWindowOpen
+                        && "ACTIVE".equalsIgnoreCase(auction.getStatus()) && !result.isAlreadyBid());
+        }
+
+        private BidPlacementResult notFound() {
+                BidPlacementResult result = new BidPlacementResult();
+                result.setErrorMessage("존재하지 않는 경매입니다.");
+                return result;
+        }
+
+        private boolean isWithinBidWindow(AuctionDetail auction) {
+                if (auction.getStartTime() == null || auction.getEndTime() == null) {
+                        return false;
+                }
+
+                LocalDate today = LocalDate.now();
+                LocalDate start = auction.getStartTime().toLocalDate();
+                LocalDate end = auction.getEndTime().toLocalDate();
+
+                return !today.isBefore(start) && !today.isAfter(end);
+        }
+}
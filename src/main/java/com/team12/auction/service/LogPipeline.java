@@ -0,0 +1,544 @@
+package com.team12.auction.service;
+
+import com.team12.auction.cache.RecentActivityCache;
+import com.team12.auction.dao.LogDAO;
+import com.team12.auction.model.entity.Log;
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.TransactionUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션 전체 로그 기록기
+ * <p>
+ * 서블릿은 submit()으로 고정 크기 링 버퍼(잠금 없음)에 로그를 넣기만 하고, 쓰기 스레드 하나가 모아서
+ * log.pipeline.batchSize건이 차거나 log.pipeline.flushIntervalMs가 지나면 executeBatch로 한 번에 INSERT 한다.
+ * 요청 트랜잭션 안에서 제출하면 커밋된 뒤에만 버퍼에 넣는다 (롤백된 작업의 로그는 남기지 않음).
+ * <p>
+ * 버퍼가 가득 차면 log.pipeline.overflow에 따라 처리한다.
+ * <ul>
+ *     <li>drop: 버린다 (기본)</li>
+ *     <li>block: log.pipeline.blockTimeoutMs까지 자리가 날 때를 기다렸다가 그래도 없으면 버린다</li>
+ *     <li>spill: 파일(log.pipeline.spillFile)에 적어 두고, 버퍼가 비면 쓰기 스레드가 다시 읽어 INSERT 한다</li>
+ * </ul>
+ * 기록에 성공한 로그는 최근 활동 캐시(RecentActivityCache)에도 덧붙인다.
+ * 종료 시 버퍼와 파일에 남은 로그를 모두 기록한 뒤 멈춘다. 시작 전이나 종료 후에 들어온 로그는 바로 INSERT 한다.
+ */
+public class LogPipeline {
+
+        private static volatile LogPipeline instance;
+
+        /**
+         * 버퍼가 가득 찼을 때의 처리 방식
+         */
+        public enum Overflow {
+                DROP,
+                BLOCK,
+                SPILL
+        }
+
+        private final LogDAO logDAO = new LogDAO();
+        private final RingBuffer buffer;
+        private final int batchSize;
+        private final long flushIntervalNanos;
+        private final Overflow overflow;
+        private final long blockTimeoutNanos;
+        private final long shutdownTimeoutMs;
+        private final Path spillFile;
+        private final Object spillLock = new Object();
+        private final Object drainLock = new Object();
+        private final Thread writer;
+        private volatile boolean running = true;
+        private volatile boolean drained;
+
+        private final LongAdder enqueuedCount = new LongAdder();
+        private final LongAdder flushedCount = new LongAdder();
+        private final LongAdder droppedCount = new LongAdder();
+        private final LongAdder spilledCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder batchCount = new LongAdder();
+        private final LongAdder totalBatchNanos = new LongAdder();
+        private final AtomicLong maxBatchNanos = new AtomicLong();
+
+        LogPipeline(int capacity, int batchSize, long flushIntervalMs, Overflow overflow, long blockTimeoutMs,
+                        long shutdownTimeoutMs, Path spillFile) {
+                this.buffer = new RingBuffer(capacity);
+                this.batchSize = Math.max(1, batchSize);
+                this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+                this.overflow = overflow;
+                this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockTimeoutMs));
+                this.shutdownTimeoutMs = Math.max(0, shutdownTimeoutMs);
+                this.spillFile = spillFile;
+                this.writer = new Thread(this::runWriter, "log-pipeline-writer");
+                this.writer.setDaemon(true);
+        }
+
+        /**
+         * 설정을 읽어 쓰기 스레드 시작
+         */
+        public static synchronized void start() {
+                if (instance != null) {
+                        return;
+                }
+                Overflow overflow;
+                try {
+                        overflow = Overflow.valueOf(AppConfig.getString("log.pipeline.overflow", "drop").trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                        System.err.println("[WARN] Unknown log.pipeline.overflow, using drop");
+                        overflow = Overflow.DROP;
+                }
+                LogPipeline pipeline = new LogPipeline(
+                        AppConfig.getInt("log.pipeline.capacity", 8192),
+                        AppConfig.getInt("log.pipeline.batchSize", 100),
+                        AppConfig.getLong("log.pipeline.flushIntervalMs", 200),
+                        overflow,
+                        AppConfig.getLong("log.pipeline.blockTimeoutMs", 50),
+                        AppConfig.getLong("log.pipeline.shutdownTimeoutMs", 10000),
+                        Paths.get(AppConfig.getString("log.pipeline.spillFile",
+                                System.getProperty("java.io.tmpdir") + "/auction-log-spill.tsv")));
+                pipeline.startWriter();
+                instance = pipeline;
+                System.out.println("[INFO] Log pipeline started (capacity=" + pipeline.buffer.capacity()
+                        + ", batchSize=" + pipeline.batchSize + ", overflow=" + overflow + ")");
+        }
+
+        /**
+         * 새 로그를 받지 않고, 남은 로그를 모두 기록한 뒤 종료 (최대 log.pipeline.shutdownTimeoutMs)
+         */
+        public static synchronized void stop() {
+                LogPipeline pipeline = instance;
+                instance = null;
+                if (pipeline == null) {
+                        return;
+                }
+                pipeline.shutdown();
+                System.out.println("[INFO] Log pipeline stopped (" + pipeline.describe() + ")");
+        }
+
+        void startWriter() {
+                writer.start();
+        }
+
+        /**
+         * 쓰기 스레드를 멈추고 버퍼와 파일에 남은 로그가 기록될 때까지 기다린다
+         * <p>
+         * running이 바뀌기 전에 읽은 생산자는 쓰기 스레드가 마지막으로 비운 뒤에도 버퍼에 넣을 수 있으므로
+         * 한 번 더 비우고, 그 뒤에 들어온 로그는 넣은 생산자가 직접 기록한다 (accepted() 참고).
+         */
+        void shutdown() {
+                running = false;
+                LockSupport.unpark(writer);
+                try {
+                        writer.join(shutdownTimeoutMs);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+                if (writer.isAlive()) {
+                        System.err.println("[WARN] Log pipeline did not drain in time (pending=" + buffer.size() + ")");
+                        return;
+                }
+                drained = true;
+                drainRemaining();
+        }
+
+        /**
+         * 쓰기 스레드가 끝난 뒤 버퍼에 남은 로그를 호출한 스레드에서 기록 (소비자가 하나가 되도록 잠금)
+         */
+        private void drainRemaining() {
+                synchronized (drainLock) {
+                        List<Log> batch = new ArrayList<>(batchSize);
+                        Log log;
+                        while ((log = buffer.poll()) != null) {
+                                batch.add(log);
+                                if (batch.size() >= batchSize) {
+                                        flush(batch);
+                                }
+                        }
+                        flush(batch);
+                }
+        }
+
+        public static LogPipeline getInstance() {
+                return instance;
+        }
+
+        /**
+         * 로그 하나 제출 (시각은 지금)
+         */
+        public static void record(String actionType, int studentId, String details) {
+                Log log = new Log();
+                log.setActionType(actionType);
+                log.setStudentId(studentId);
+                log.setDetails(details);
+                log.setTimestamp(new Timestamp(System.currentTimeMillis()));
+                submit(log);
+        }
+
+        /**
+         * 로그 제출 (요청 스레드는 DB를 기다리지 않음)
+         * <p>
+         * 트랜잭션 안이면 커밋된 뒤에 버퍼에 넣고, 롤백되면 버린다.
+         */
+        public static void submit(Log log) {
+                boolean deferred = TransactionUtil.registerSynchronization(committed -> {
+                        if (committed) {
+                                enqueue(log);
+                        }
+                });
+                if (!deferred) {
+                        enqueue(log);
+                }
+        }
+
+        private static void enqueue(Log log) {
+                LogPipeline pipeline = instance;
+                if (pipeline == null || !pipeline.running) {
+                        // 시작 전 / 종료 중: 바로 기록
+                        try {
+                                new LogDAO().insertLog(log);
+                                RecentActivityCache.appendAll(List.of(log));
+                        } catch (SQLException e) {
+                                System.err.println("[ERROR] Failed to insert log: " + log + " (" + e.getMessage() + ")");
+                        }
+                        return;
+                }
+                pipeline.offer(log);
+        }
+
+        boolean offer(Log log) {
+                if (buffer.offer(log)) {
+                        accepted();
+                        return true;
+                }
+                switch (overflow) {
+                        case BLOCK:
+                                long deadline = System.nanoTime() + blockTimeoutNanos;
+                                while (running && System.nanoTime() < deadline) {
+                                        LockSupport.unpark(writer);
+                                        LockSupport.parkNanos(100_000);
+                                        if (buffer.offer(log)) {
+                                                accepted();
+                                                return true;
+                                        }
+                                }
+                                droppedCount.increment();
+                                return false;
+                        case SPILL:
+                                if (spill(List.of(log))) {
+                                        return true;
+                                }
+                                droppedCount.increment();
+                                return false;
+                        default:
+                                droppedCount.increment();
+                                return false;
+                }
+        }
+
+        private void accepted() {
+                enqueuedCount.increment();
+                if (drained) {
+                        // 종료 때의 마지막 비우기 뒤에 들어왔으면 더 꺼낼 스레드가 없으므로 직접 기록한다
+                        drainRemaining();
+                        return;
+                }
+                // 한 묶음이 찼을 때만 쓰기 스레드를 깨운다 (그 전에는 flushIntervalMs마다 스스로 깸)
+                if (buffer.size() == batchSize) {
+                        LockSupport.unpark(writer);
+                }
+        }
+
+        private void runWriter() {
+                List<Log> batch = new ArrayList<>(batchSize);
+                long firstAt = 0;
+                while (running) {
+                        Log log = buffer.poll();
+                        if (log != null) {
+                                if (batch.isEmpty()) {
+                                        firstAt = System.nanoTime();
+                                }
+                                batch.add(log);
+                                if (batch.size() >= batchSize) {
+                                        flush(batch);
+                                }
+                                continue;
+                        }
+                        if (!batch.isEmpty() && System.nanoTime() - firstAt >= flushIntervalNanos) {
+                                flush(batch);
+                                continue;
+                        }
+                        if (batch.isEmpty() && replaySpill()) {
+                                continue;
+                        }
+                        LockSupport.parkNanos(flushIntervalNanos);
+                }
+
+                // 종료: 버퍼와 파일에 남은 로그 모두 기록
+                Log log;
+                while ((log = buffer.poll()) != null) {
+                        batch.add(log);
+                        if (batch.size() >= batchSize) {
+                                flush(batch);
+                        }
+                }
+                flush(batch);
+                replaySpill();
+        }
+
+        private void flush(List<Log> batch) {
+                if (batch.isEmpty()) {
+                        return;
+                }
+                long started = System.nanoTime();
+                try {
+                        logDAO.insertLogs(batch);
+                        flushedCount.add(batch.size());
+                        RecentActivityCache.appendAll(batch);
+                } catch (SQLException e) {
+                        System.err.println("[ERROR] Log batch insert failed (" + batch.size() + " logs): " + e.getMessage());
+                        if (overflow != Overflow.SPILL || !spill(batch)) {
+                                failedCount.add(batch.size());
+                        }
+                }
+                long elapsed = System.nanoTime() - started;
+                batchCount.increment();
+                totalBatchNanos.add(elapsed);
+                maxBatchNanos.accumulateAndGet(elapsed, Math::max);
+                batch.clear();
+        }
+
+        /**
+         * 로그를 파일 끝에 한 줄씩 적는다 (탭 구분)
+         */
+        private boolean spill(List<Log> logs) {
+                synchronized (spillLock) {
+                        try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                                for (Log log : logs) {
+                                        long at = log.getTimestamp() == null ? System.currentTimeMillis() : log.getTimestamp().getTime();
+                                        out.write(escape(log.getActionType()) + '\t' + at + '\t'
+                                                + log.getStudentId() + '\t' + escape(log.getAuctionId()) + '\t'
+                                                + escape(log.getDetails()));
+                                        out.newLine();
+                                }
+                                spilledCount.add(logs.size());
+                                return true;
+                        } catch (IOException e) {
+                                System.err.println("[ERROR] Log spill failed: " + e.getMessage());
+                                return false;
+                        }
+                }
+        }
+
+        /**
+         * 파일에 적어 둔 로그를 읽어 INSERT (파일은 먼저 옮겨 두므로 그 사이에 들어온 로그는 새 파일에 쌓임)
+         *
+         * @return 읽은 로그가 있으면 true
+         */
+        private boolean replaySpill() {
+                if (overflow != Overflow.SPILL) {
+                        return false;
+                }
+                Path replaying = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+                synchronized (spillLock) {
+                        if (!Files.exists(replaying)) {
+                                if (!Files.exists(spillFile)) {
+                                        return false;
+                                }
+                                try {
+                                        Files.move(spillFile, replaying, StandardCopyOption.REPLACE_EXISTING);
+                                } catch (IOException e) {
+                                        System.err.println("[ERROR] Log spill replay failed: " + e.getMessage());
+                                        return false;
+                                }
+                        }
+                }
+
+                List<Log> batch = new ArrayList<>(batchSize);
+                try (BufferedReader in = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+                        String line;
+                        while ((line = in.readLine()) != null) {
+                                String[] fields = line.split("\t", -1);
+                                if (fields.length != 5) {
+                                        continue;
+                                }
+                                batch.add(new Log(null, unescape(fields[0]), new Timestamp(Long.parseLong(fields[1])),
+                                        unescape(fields[4]), Integer.parseInt(fields[2]), unescape(fields[3])));
+                                if (batch.size() >= batchSize) {
+                                        logDAO.insertLogs(batch);
+                                        flushedCount.add(batch.size());
+                                        RecentActivityCache.appendAll(batch);
+                                        batch.clear();
+                                }
+                        }
+                        logDAO.insertLogs(batch);
+                        flushedCount.add(batch.size());
+                        RecentActivityCache.appendAll(batch);
+                } catch (IOException | SQLException | RuntimeException e) {
+                        // 파일은 남겨 두고 다음에 다시 시도 (이미 들어간 묶음은 중복될 수 있음)
+                        System.err.println("[ERROR] Log spill replay failed: " + e.getMessage());
+                        return false;
+                }
+                try {
+                        Files.deleteIfExists(replaying);
+                } catch (IOException e) {
+                        System.err.println("[ERROR] Log spill cleanup failed: " + e.getMessage());
+                }
+                return true;
+        }
+
+        private static String escape(String value) {
+                if (value == null) {
+                        return "\\N";
+                }
+                return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+        }
+
+        private static String unescape(String value) {
+                if ("\\N".equals(value)) {
+                        return null;
+                }
+                StringBuilder sb = new StringBuilder(value.length());
+                for (int i = 0; i < value.length(); i++) {
+                        char c = value.charAt(i);
+                        if (c == '\\' && i + 1 < value.length()) {
+                                char next = value.charAt(++i);
+                                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+                        } else {
+                                sb.append(c);
+                        }
+                }
+                return sb.toString();
+        }
+
+        public long getEnqueuedCount() {
+                return enqueuedCount.sum();
+        }
+
+        public long getFlushedCount() {
+                return flushedCount.sum();
+        }
+
+        public long getDroppedCount() {
+                return droppedCount.sum();
+        }
+
+        public long getSpilledCount() {
+                return spilledCount.sum();
+        }
+
+        public long getFailedCount() {
+                return failedCount.sum();
+        }
+
+        public int getPendingCount() {
+                return buffer.size();
+        }
+
+        public long getAverageBatchMicros() {
+                long count = batchCount.sum();
+                return count == 0 ? 0 : totalBatchNanos.sum() / count / 1000;
+        }
+
+        public long getMaxBatchMicros() {
+                return maxBatchNanos.get() / 1000;
+        }
+
+        public String describe() {
+                return "pending=" + getPendingCount()
+                        + ", enqueued=" + getEnqueuedCount()
+                        + ", flushed=" + getFlushedCount()
+                        + ", dropped=" + getDroppedCount()
+                        + ", spilled=" + getSpilledCount()
+                        + ", failed=" + getFailedCount()
+                        + ", batches=" + batchCount.sum()
+                        + ", avgBatchUs=" + getAverageBatchMicros()
+                        + ", maxBatchUs=" + getMaxBatchMicros();
+        }
+
+        /**
+         * 고정 크기 링 버퍼 (여러 생산자 / 소비자 하나, 잠금 없음)
+         * <p>
+         * 칸마다 순번을 두어 생산자는 꼬리 번호를 CAS로 차지한 뒤 칸을 채우고 순번을 올린다.
+         * 소비자는 순번이 채워진 칸만 꺼내므로 채우는 중인 칸을 읽지 않는다.
+         */
+        static final class RingBuffer {
+                private final int mask;
+                private final AtomicReferenceArray<Log> items;
+                private final AtomicLongArray sequences;
+                private final AtomicLong tail = new AtomicLong();
+                private volatile long head;
+
+                RingBuffer(int requestedCapacity) {
+                        int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1;
+                        this.mask = capacity - 1;
+                        this.items = new AtomicReferenceArray<>(capacity);
+                        this.sequences = new AtomicLongArray(capacity);
+                        for (int i = 0; i < capacity; i++) {
+                                sequences.set(i, i);
+                        }
+                }
+
+                int capacity() {
+                        return mask + 1;
+                }
+
+                boolean offer(Log log) {
+                        while (true) {
+                                long position = tail.get();
+                                int index = (int) (position & mask);
+                                long diff = sequences.get(index) - position;
+                                if (diff == 0) {
+                                        if (tail.compareAndSet(position, position + 1)) {
+                                                items.set(index, log);
+                                                sequences.set(index, position + 1);
+                                                return true;
+                                        }
+                                } else if (diff < 0) {
+                                        // 가득 참
+                                        return false;
+                                } else {
+                                        Thread.onSpinWait();
+                                }
+                        }
+                }
+
+                /**
+                 * 소비자 스레드에서만 호출
+                 */
+                Log poll() {
+                        long position = head;
+                        int index = (int) (position & mask);
+                        if (sequences.get(index) != position + 1) {
+                                return null;
+                        }
+                        Log log = items.get(index);
+                        items.set(index, null);
+                        sequences.set(index, position + capacity());
+                        head = position + 1;
+                        return log;
+                }
+
+                int size() {
+                        return (int) Math.max(0, tail.get() - head);
+                }
+        }
+}
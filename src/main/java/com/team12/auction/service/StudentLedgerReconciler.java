@@ -0,0 +1,139 @@
+package com.team12.auction.service;
+
+import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.util.AppConfig;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StudentLedger 정합성 점검
+ * <p>
+ * 장부는 수강/입찰/수강꾸러미를 바꾸는 트랜잭션 안에서 증감으로만 갱신되므로, 관리자가 SQL로 직접 고친 행 등은 어긋날 수 있다.
+ * 시작 시 한 번(빠진 행 채우기) 그리고 ledger.reconcileIntervalMs마다 원본 테이블에서 다시 계산해 어긋난 행을 고친다.
+ */
+public class StudentLedgerReconciler {
+
+        private static volatile StudentLedgerReconciler instance;
+
+        private final StudentDAO studentDAO = new StudentDAO();
+        private final long intervalMs;
+
+        private final LongAdder runCount = new LongAdder();
+        private final LongAdder fixedCount = new LongAdder();
+        private final AtomicLong lastFixed = new AtomicLong();
+
+        private volatile boolean running;
+        private Thread worker;
+
+        StudentLedgerReconciler(long intervalMs) {
+                this.intervalMs = intervalMs;
+        }
+
+        /**
+         * 설정을 읽어 점검 시작 ({@code ledger.enabled=false}이면 시작하지 않음)
+         */
+        public static synchronized void start() {
+                if (instance != null) {
+                        return;
+                }
+                if (!StudentDAO.isLedgerEnabled()) {
+                        System.out.println("[INFO] Student ledger disabled");
+                        return;
+                }
+                StudentLedgerReconciler reconciler = new StudentLedgerReconciler(
+                        AppConfig.getLong("ledger.reconcileIntervalMs", 600000));
+                // 첫 점검은 시작 스레드에서 끝내 장부 행이 빠진 학생이 없게 한다
+                reconciler.reconcile();
+                reconciler.startThread();
+                instance = reconciler;
+        }
+
+        public static synchronized void stop() {
+                StudentLedgerReconciler reconciler = instance;
+                instance = null;
+                if (reconciler != null) {
+                        reconciler.stopThread();
+                }
+        }
+
+        public static StudentLedgerReconciler getInstance() {
+                return instance;
+        }
+
+        private void startThread() {
+                if (intervalMs <= 0) {
+                        System.out.println("[INFO] Student ledger reconciled once (periodic reconcile disabled)");
+                        return;
+                }
+                running = true;
+                worker = new Thread(this::run, "student-ledger-reconciler");
+                worker.setDaemon(true);
+                worker.start();
+                System.out.println("[INFO] Student ledger reconciler started (intervalMs=" + intervalMs + ")");
+        }
+
+        private void stopThread() {
+                running = false;
+                if (worker != null) {
+                        worker.interrupt();
+                        try {
+                                worker.join(5000);
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                }
+                System.out.println("[INFO] Student ledger reconciler stopped (" + describe() + ")");
+        }
+
+        private void run() {
+                while (running) {
+                        try {
+                                Thread.sleep(intervalMs);
+                        } catch (InterruptedException e) {
+                                return;
+                        }
+                        reconcile();
+                }
+        }
+
+        /**
+         * 한 번 점검
+         *
+         * @return 고친 행 수 (실패하면 -1)
+         */
+        public int reconcile() {
+                try {
+                        int fixed = studentDAO.reconcileLedger();
+                        runCount.increment();
+                        fixedCount.add(fixed);
+                        lastFixed.set(fixed);
+                        if (fixed > 0) {
+                                System.err.println("[WARN] Student ledger reconciled " + fixed + " drifted/missing rows");
+                        }
+                        return fixed;
+                } catch (SQLException e) {
+                        System.err.println("[ERROR] Student ledger reconcile failed: " + e.getMessage());
+                        return -1;
+                } catch (RuntimeException e) {
+                        System.err.println("[ERROR] Student ledger reconcile failed");
+                        e.printStackTrace();
+                        return -1;
+                }
+        }
+
+        public long getRunCount() {
+                return runCount.sum();
+        }
+
+        public long getFixedCount() {
+                return fixedCount.sum();
+        }
+
+        public String describe() {
+                return "runs=" + getRunCount()
+                        + ", fixed=" + getFixedCount()
+                        + ", lastFixed=" + lastFixed.get();
+        }
+}
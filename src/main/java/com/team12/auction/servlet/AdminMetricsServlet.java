@@ -0,0 +1,355 @@
+package com.team12.auction.servlet;
+
+import com.team12.auction.cache.AuctionOrderBooks;
+import com.team12.auction.cache.BasketIdCache;
+import com.team12.auction.cache.CatalogCache;
+import com.team12.auction.cache.RecentActivityCache;
+import com.team12.auction.cache.SectionCounters;
+import com.team12.auction.cache.SectionSearchIndex;
+import com.team12.auction.cache.StudentProfileCache;
+import com.team12.auction.cache.TimetableIndex;
+import com.team12.auction.service.AuctionFinalizationEngine;
+import com.team12.auction.service.AuctionFinalizationScheduler;
+import com.team12.auction.service.LogPipeline;
+import com.team12.auction.service.StudentLedgerReconciler;
+import com.team12.auction.util.AppConfig;
+import com.team12.auction.util.ConnectionPool;
+import com.team12.auction.util.DBConnection;
+import com.team12.auction.util.FanOut;
+import com.team12.auction.util.LatencyHistogram;
+import com.team12.auction.util.RequestStats;
+import com.team12.auction.util.SqlMetrics;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 지표 조회 (JSON, {@code ?format=prometheus}이면 Prometheus 텍스트)
+ * <p>
+ * SQL 문장별 실행 통계, 커넥션 대여 대기 시간, 커넥션 풀, 요청 내 동시 조회, 경로별 요청당 DB 사용량,
+ * 각 캐시/백그라운드 작업의 상태를 보여준다.
+ * admin.metrics.token과 같은 값을 {@code X-Metrics-Token} 헤더로 보내야 하며, 토큰을 설정하지 않으면 모든 요청을 거절한다.
+ * 프록시 뒤에서는 원격 주소가 모두 같은 서버로 보이므로 주소로는 허용하지 않고,
+ * URL에 남지 않도록 쿼리 파라미터로 받은 토큰도 받지 않는다.
+ */
+@WebServlet("/admin/metrics")
+public class AdminMetricsServlet extends HttpServlet {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("admin.metrics.enabled", true);
+    private static final String TOKEN = AppConfig.getString("admin.metrics.token", "");
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!ENABLED) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!isAllowed(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        String format = request.getParameter("format");
+        if ("prometheus".equalsIgnoreCase(format)) {
+            response.setContentType("text/plain; version=0.0.4");
+            writePrometheus(response.getWriter());
+        } else {
+            response.setContentType("application/json");
+            writeJson(response.getWriter());
+        }
+    }
+
+    private boolean isAllowed(HttpServletRequest request) {
+        if (TOKEN.isEmpty()) {
+            return false;
+        }
+        String given = request.getHeader("X-Metrics-Token");
+        return given != null && MessageDigest.isEqual(TOKEN.getBytes(StandardCharsets.UTF_8),
+            given.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ---------------------------------------------------------------- JSON
+
+    private void writeJson(PrintWriter out) {
+        ConnectionPool pool = DBConnection.getPool();
+        out.print('{');
+
+        out.print("\"pool\":{");
+        out.print("\"active\":" + pool.getActiveCount());
+        out.print(",\"idle\":" + pool.getIdleCount());
+        out.print(",\"max\":" + pool.getMaxSize());
+        out.print(",\"waiting\":" + pool.getWaitingCount());
+        out.print(",\"borrowed\":" + pool.getBorrowCount());
+        out.print(",\"timeouts\":" + pool.getTimeoutCount());
+        out.print(",\"leaks\":" + pool.getLeakCount());
+        out.print(",\"statementCacheHits\":" + pool.getStatementCacheHits());
+        out.print(",\"statementCacheMisses\":" + pool.getStatementCacheMisses());
+        out.print('}');
+
+        out.print(",\"connectionAcquire\":");
+        writeJsonHistogram(out, SqlMetrics.getAcquireHistogram());
+
+        out.print(",\"statements\":[");
+        List<SqlMetrics.StatementStats> statements = SqlMetrics.getStatements();
+        for (int i = 0; i < statements.size(); i++) {
+            SqlMetrics.StatementStats stats = statements.get(i);
+            if (i > 0) {
+                out.print(',');
+            }
+            out.print("{\"sql\":" + quote(stats.getSql()));
+            out.print(",\"executions\":" + stats.getExecutions());
+            out.print(",\"failures\":" + stats.getFailures());
+            out.print(",\"rows\":" + stats.getRows());
+            out.print(",\"latency\":");
+            writeJsonHistogram(out, stats.getLatency());
+            out.print('}');
+        }
+        out.print(']');
+
+        out.print(",\"fanout\":{");
+        boolean first = true;
+        for (Map.Entry<String, FanOut.Stat> entry : FanOut.getStats().entrySet()) {
+            FanOut.Stat stat = entry.getValue();
+            if (!first) {
+                out.print(',');
+            }
+            first = false;
+            out.print(quote(entry.getKey()) + ":{\"count\":" + stat.getCount()
+                + ",\"failures\":" + stat.getFailures()
+                + ",\"inline\":" + stat.getInlineRuns()
+                + ",\"meanUs\":" + stat.getAverageMicros()
+                + ",\"maxUs\":" + stat.getMaxMicros() + '}');
+        }
+        out.print('}');
+
+        out.print(",\"endpoints\":{");
+        first = true;
+        for (Map.Entry<String, RequestStats.EndpointStats> entry : RequestStats.getEndpointStats().entrySet()) {
+            RequestStats.EndpointStats stats = entry.getValue();
+            if (!first) {
+                out.print(',');
+            }
+            first = false;
+            out.print(quote(entry.getKey()) + ":{\"requests\":" + stats.getRequests()
+                + ",\"statements\":" + stats.getStatements()
+                + ",\"maxStatements\":" + stats.getMaxStatements()
+                + ",\"connections\":" + stats.getConnections()
+                + ",\"dbUs\":" + stats.getDbMicros()
+                + ",\"flagged\":" + stats.getFlagged() + '}');
+        }
+        out.print('}');
+
+        out.print(",\"components\":{");
+        first = true;
+        for (Map.Entry<String, String> entry : components().entrySet()) {
+            if (!first) {
+                out.print(',');
+            }
+            first = false;
+            out.print(quote(entry.getKey()) + ':' + quote(entry.getValue()));
+        }
+        out.print('}');
+
+        out.print('}');
+        out.flush();
+    }
+
+    private void writeJsonHistogram(PrintWriter out, LatencyHistogram histogram) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        out.print("{\"count\":" + snapshot.getCount());
+        out.print(",\"totalUs\":" + histogram.getTotalMicros());
+        out.print(",\"meanUs\":" + histogram.getMeanMicros());
+        out.print(",\"p50Us\":" + snapshot.percentile(0.5));
+        out.print(",\"p99Us\":" + snapshot.percentile(0.99));
+        out.print(",\"p999Us\":" + snapshot.percentile(0.999));
+        out.print(",\"maxUs\":" + histogram.getMaxMicros());
+        out.print('}');
+    }
+
+    /**
+     * 각 구성 요소의 describe() (시작하지 않은 것은 빠짐)
+     */
+    private Map<String, String> components() {
+        Map<String, String> components = new LinkedHashMap<>();
+        components.put("pool", DBConnection.getPool().describe());
+        components.put("catalogCache", CatalogCache.describe());
+        components.put("sectionSearchIndex", SectionSearchIndex.describe());
+        components.put("timetableIndex", TimetableIndex.describe());
+        components.put("sectionCounters", SectionCounters.describe());
+        components.put("auctionOrderBooks", AuctionOrderBooks.describe());
+        components.put("basketIdCache", BasketIdCache.describe());
+        components.put("studentProfileCache", StudentProfileCache.describe());
+        components.put("recentActivityCache", RecentActivityCache.describe());
+        LogPipeline logPipeline = LogPipeline.getInstance();
+        if (logPipeline != null) {
+            components.put("logPipeline", logPipeline.describe());
+        }
+        AuctionFinalizationEngine engine = AuctionFinalizationEngine.getInstance();
+        if (engine != null) {
+            components.put("auctionFinalizationEngine", engine.describe());
+        }
+        AuctionFinalizationScheduler scheduler = AuctionFinalizationScheduler.getInstance();
+        if (scheduler != null) {
+            components.put("auctionFinalizationScheduler", scheduler.describe());
+        }
+        StudentLedgerReconciler reconciler = StudentLedgerReconciler.getInstance();
+        if (reconciler != null) {
+            components.put("studentLedgerReconciler", reconciler.describe());
+        }
+        return components;
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // ---------------------------------------------------------- Prometheus
+
+    private void writePrometheus(PrintWriter out) {
+        ConnectionPool pool = DBConnection.getPool();
+        gauge(out, "auction_db_pool_active", "Connections currently borrowed", pool.getActiveCount());
+        gauge(out, "auction_db_pool_idle", "Idle connections", pool.getIdleCount());
+        gauge(out, "auction_db_pool_max", "Maximum pool size", pool.getMaxSize());
+        gauge(out, "auction_db_pool_waiting", "Threads waiting for a connection", pool.getWaitingCount());
+        counter(out, "auction_db_pool_borrowed_total", "Connections borrowed", pool.getBorrowCount());
+        counter(out, "auction_db_pool_timeouts_total", "Borrow attempts that timed out", pool.getTimeoutCount());
+        counter(out, "auction_db_pool_leaks_total", "Suspected connection leaks", pool.getLeakCount());
+
+        out.println("# HELP auction_db_connection_acquire_seconds Time spent waiting for a pooled connection");
+        out.println("# TYPE auction_db_connection_acquire_seconds summary");
+        writeSummary(out, "auction_db_connection_acquire_seconds", "", SqlMetrics.getAcquireHistogram());
+
+        List<SqlMetrics.StatementStats> statements = SqlMetrics.getStatements();
+        out.println("# HELP auction_sql_duration_seconds Statement execution time by normalized SQL");
+        out.println("# TYPE auction_sql_duration_seconds summary");
+        for (SqlMetrics.StatementStats stats : statements) {
+            writeSummary(out, "auction_sql_duration_seconds", "sql=" + label(stats.getSql()), stats.getLatency());
+        }
+        out.println("# HELP auction_sql_failures_total Statement executions that threw");
+        out.println("# TYPE auction_sql_failures_total counter");
+        for (SqlMetrics.StatementStats stats : statements) {
+            out.println("auction_sql_failures_total{sql=" + label(stats.getSql()) + "} " + stats.getFailures());
+        }
+        out.println("# HELP auction_sql_rows_total Rows returned (queries) or affected (updates)");
+        out.println("# TYPE auction_sql_rows_total counter");
+        for (SqlMetrics.StatementStats stats : statements) {
+            out.println("auction_sql_rows_total{sql=" + label(stats.getSql()) + "} " + stats.getRows());
+        }
+
+        out.println("# HELP auction_fanout_branch_seconds Parallel page query branches");
+        out.println("# TYPE auction_fanout_branch_seconds summary");
+        for (Map.Entry<String, FanOut.Stat> entry : FanOut.getStats().entrySet()) {
+            FanOut.Stat stat = entry.getValue();
+            String labels = "{branch=" + label(entry.getKey()) + "}";
+            out.println("auction_fanout_branch_seconds_count" + labels + " " + stat.getCount());
+            out.println("auction_fanout_branch_seconds_sum" + labels + " "
+                + seconds(stat.getAverageMicros() * stat.getCount()));
+        }
+
+        out.println("# HELP auction_fanout_branch_inline_total Branches run on the request thread (disabled or over fanout.maxConcurrentBranches)");
+        out.println("# TYPE auction_fanout_branch_inline_total counter");
+        for (Map.Entry<String, FanOut.Stat> entry : FanOut.getStats().entrySet()) {
+            out.println("auction_fanout_branch_inline_total{branch=" + label(entry.getKey()) + "} "
+                + entry.getValue().getInlineRuns());
+        }
+
+        Map<String, RequestStats.EndpointStats> endpoints = RequestStats.getEndpointStats();
+        out.println("# HELP auction_request_statements_total Statements executed by requests to each endpoint");
+        out.println("# TYPE auction_request_statements_total counter");
+        for (Map.Entry<String, RequestStats.EndpointStats> entry : endpoints.entrySet()) {
+            out.println("auction_request_statements_total{endpoint=" + label(entry.getKey()) + "} "
+                + entry.getValue().getStatements());
+        }
+        out.println("# HELP auction_request_db_requests_total Requests that used the database");
+        out.println("# TYPE auction_request_db_requests_total counter");
+        for (Map.Entry<String, RequestStats.EndpointStats> entry : endpoints.entrySet()) {
+            out.println("auction_request_db_requests_total{endpoint=" + label(entry.getKey()) + "} "
+                + entry.getValue().getRequests());
+        }
+        out.println("# HELP auction_request_statements_max Most statements executed by one request");
+        out.println("# TYPE auction_request_statements_max gauge");
+        for (Map.Entry<String, RequestStats.EndpointStats> entry : endpoints.entrySet()) {
+            out.println("auction_request_statements_max{endpoint=" + label(entry.getKey()) + "} "
+                + entry.getValue().getMaxStatements());
+        }
+        out.println("# HELP auction_request_flagged_total Requests over the DB budget or with repeated statements");
+        out.println("# TYPE auction_request_flagged_total counter");
+        for (Map.Entry<String, RequestStats.EndpointStats> entry : endpoints.entrySet()) {
+            out.println("auction_request_flagged_total{endpoint=" + label(entry.getKey()) + "} "
+                + entry.getValue().getFlagged());
+        }
+        out.flush();
+    }
+
+    private void writeSummary(PrintWriter out, String name, String labels, LatencyHistogram histogram) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        for (double quantile : QUANTILES) {
+            out.println(name + "{" + prefix + "quantile=\"" + quantile + "\"} " + seconds(snapshot.percentile(quantile)));
+        }
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.println(name + "_sum" + suffix + " " + seconds(histogram.getTotalMicros()));
+        out.println(name + "_count" + suffix + " " + snapshot.getCount());
+    }
+
+    private void gauge(PrintWriter out, String name, String help, long value) {
+        out.println("# HELP " + name + " " + help);
+        out.println("# TYPE " + name + " gauge");
+        out.println(name + " " + value);
+    }
+
+    private void counter(PrintWriter out, String name, String help, long value) {
+        out.println("# HELP " + name + " " + help);
+        out.println("# TYPE " + name + " counter");
+        out.println(name + " " + value);
+    }
+
+    private static String seconds(long micros) {
+        return Double.toString(micros / 1_000_000.0);
+    }
+
+    private static String label(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + '"';
+    }
+}
@@ -1,15 +1,14 @@
 package com.team12.auction.servlet;
 
 import com.team12.auction.dao.AuctionDAO;
+import com.team12.auction.filter.AuthFilter;
 import com.team12.auction.model.dto.AuctionDetail;
 import com.team12.auction.model.entity.Bid;
-import com.team12.auction.service.AuctionService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -20,12 +19,10 @@ import java.util.Map;
 public class AuctionListServlet extends HttpServlet {
 
         private AuctionDAO auctionDAO;
-        private AuctionService auctionService;
 
         @Override
         public void init() throws ServletException {
                 auctionDAO = new AuctionDAO();
-                auctionService = new AuctionService();
         }
 
         @Override
@@ -34,16 +31,10 @@ public class AuctionListServlet extends HttpServlet {
 
                 request.setCharacterEncoding("UTF-8");
 
-                HttpSession session = request.getSession(false);
-                if (session == null || session.getAttribute("studentId") == null) {
-                        response.sendRedirect(request.getContextPath() + "/auth/login");
-                        return;
-                }
-
-                int studentId = (Integer) session.getAttribute("studentId");
+                int studentId = AuthFilter.getPrincipal(request).getStudentId();
 
                 try {
-                        auctionService.finalizeExpiredAuctions();
+                        // 경매 마감은 AuctionFinalizationScheduler가 종료 시각에 처리한다
                         Map<AuctionDetail, Bid> auctionBidMap = auctionDAO.selectMyAuctions(studentId);
 
                         // LinkedHashMap으로 복사해 조회 순서를 유지
@@ -1,9 +1,8 @@
 package com.team12.auction.servlet;
 
-import com.team12.auction.dao.BasketDAO;
-import com.team12.auction.dao.SectionDAO;
-import com.team12.auction.dao.StudentDAO;
-import com.team12.auction.model.entity.Student;
+import com.team12.auction.filter.AuthFilter;
+import com.team12.auction.model.dto.BasketAddResult;
+import com.team12.auction.service.BasketService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -21,13 +20,7 @@ public class BasketAddServlet extends HttpServlet {
 			throws ServletException, IOException {
 		request.setCharacterEncoding("UTF-8");
 		HttpSession session = request.getSession(false);
-
-		if (session == null || session.getAttribute("studentId") == null) {
-			response.sendRedirect(request.getContextPath() + "/auth/login");
-			return;
-		}
-
-		int studentId = (Integer) session.getAttribute("studentId");
+		int studentId = AuthFilter.getPrincipal(request).getStudentId();
 		String sectionId = request.getParameter("sectionId");
 		String returnUrl = request.getParameter("returnUrl");
 //        if (returnUrl == null || returnUrl.isBlank()) {
@@ -42,37 +35,15 @@ public class BasketAddServlet extends HttpServlet {
 			return;
 		}
 
-		BasketDAO basketDAO = new BasketDAO();
-		StudentDAO studentDAO = new StudentDAO();
-		SectionDAO sectionDAO = new SectionDAO();
+		BasketService basketService = new BasketService();
 
 		try {
-			basketDAO.ensureBasketExists(studentId);
-
-			if (basketDAO.isSectionInBasket(studentId, sectionId)) {
-				session.setAttribute("errorMessage", "이미 수강꾸러미에 담은 분반입니다.");
+			// 중복/학점 제한 확인 + 담기 (학생 행을 잠근 한 트랜잭션)
+			BasketAddResult result = basketService.addToBasket(studentId, sectionId);
+			if (result.getReason() == BasketAddResult.Reason.ADDED) {
+				session.setAttribute("successMessage", result.getSuccessMessage());
 			} else {
-				// 학점 제한 체크
-				Student student = studentDAO.selectByStudentId(studentId);
-				if (student == null) {
-					session.setAttribute("errorMessage", "학생 정보를 찾을 수 없습니다.");
-					response.sendRedirect(returnUrl);
-					return;
-				}
-
-				int maxCredits = student.getMaxCredits();
-				int currentCredits = basketDAO.getTotalCreditsInBasket(studentId);
-				
-				// 추가하려는 과목의 학점 조회
-				int newCourseCredits = sectionDAO.getCourseCredits(sectionId);
-				
-				if (currentCredits + newCourseCredits > maxCredits) {
-					session.setAttribute("errorMessage", 
-							"학점 제한을 초과합니다. (현재: " + currentCredits + "학점, 추가: " + newCourseCredits + "학점, 제한: " + maxCredits + "학점)");
-				} else {
-					basketDAO.addSectionToBasket(studentId, sectionId);
-					session.setAttribute("successMessage", "분반을 수강꾸러미에 담았습니다.");
-				}
+				session.setAttribute("errorMessage", result.getErrorMessage());
 			}
 		} catch (SQLException e) {
 			e.printStackTrace();
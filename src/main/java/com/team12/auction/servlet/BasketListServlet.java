@@ -1,9 +1,9 @@
 package com.team12.auction.servlet;
 
 import com.team12.auction.dao.BasketDAO;
-import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.filter.AuthFilter;
 import com.team12.auction.model.dto.BasketItemDetail;
-import com.team12.auction.model.entity.Student;
+import com.team12.auction.model.dto.StudentPrincipal;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -20,12 +20,10 @@ import java.util.List;
 public class BasketListServlet extends HttpServlet {
 
 	private BasketDAO basketDAO;
-	private StudentDAO studentDAO;
 
 	@Override
 	public void init() throws ServletException {
 		basketDAO = new BasketDAO();
-		studentDAO = new StudentDAO();
 	}
 
 	@Override
@@ -35,12 +33,8 @@ public class BasketListServlet extends HttpServlet {
 		request.setCharacterEncoding("UTF-8");
 
 		HttpSession session = request.getSession(false);
-		if (session == null || session.getAttribute("studentId") == null) {
-			response.sendRedirect(request.getContextPath() + "/auth/login");
-			return;
-		}
-
-		int studentId = (Integer) session.getAttribute("studentId");
+		StudentPrincipal principal = AuthFilter.getPrincipal(request);
+		int studentId = principal.getStudentId();
 
 		// 세션에 있던 메시지 옮기기 (한 번만 보여주고 끝)
 		String successMessage = (String) session.getAttribute("successMessage");
@@ -55,8 +49,7 @@ public class BasketListServlet extends HttpServlet {
 		}
 
 		try {
-			// 1) 장바구니 보장 + 조회
-			basketDAO.ensureBasketExists(studentId);
+			// 1) 장바구니 조회 (장바구니가 없는 학생은 빈 목록, 담을 때 만들어짐)
 			List<BasketItemDetail> basketItems = basketDAO.getMyBasket(studentId);
 
 			// 2) 총 학점 계산
@@ -65,9 +58,8 @@ public class BasketListServlet extends HttpServlet {
 				totalCredits += item.getCredits();
 			}
 
-			// 3) 학생 최대 학점 조회
-			Student stu = studentDAO.selectById(studentId);
-			int maxCredits = (stu != null) ? stu.getMaxCredits() : 0; // 메서드 이름은 실제 엔티티에 맞춰 수정
+			// 3) 학생 최대 학점
+			int maxCredits = principal.getMaxCredits();
 
 			// 4) JSP에 넘기기
 			request.setAttribute("basketItems", basketItems);
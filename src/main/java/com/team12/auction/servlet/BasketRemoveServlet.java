@@ -1,6 +1,7 @@
 package com.team12.auction.servlet;
 
 import com.team12.auction.dao.BasketDAO;
+import com.team12.auction.filter.AuthFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -18,13 +19,7 @@ public class BasketRemoveServlet extends HttpServlet {
 			throws ServletException, IOException {
 		request.setCharacterEncoding("UTF-8");
 		HttpSession session = request.getSession(false);
-
-		if (session == null || session.getAttribute("studentId") == null) {
-			response.sendRedirect(request.getContextPath() + "/auth/login");
-			return;
-		}
-
-		int studentId = (Integer) session.getAttribute("studentId");
+		int studentId = AuthFilter.getPrincipal(request).getStudentId();
 		String sectionId = request.getParameter("sectionId");
 		String returnUrl = request.getParameter("returnUrl");
 		if (returnUrl == null || returnUrl.isBlank()) {
@@ -40,7 +35,6 @@ public class BasketRemoveServlet extends HttpServlet {
 		BasketDAO basketDAO = new BasketDAO();
 
 		try {
-			basketDAO.ensureBasketExists(studentId);
 			int deleted = basketDAO.deleteSectionFromBasket(studentId, sectionId);
 			if (deleted > 0) {
 				session.setAttribute("successMessage", "수강꾸러미에서 분반을 삭제했습니다.");
@@ -1,9 +1,8 @@
 package com.team12.auction.servlet;
 
-import com.team12.auction.dao.LogDAO;
 import com.team12.auction.dao.StudentDAO;
-import com.team12.auction.model.entity.Log;
-import com.team12.auction.model.entity.Student;
+import com.team12.auction.filter.AuthFilter;
+import com.team12.auction.service.LogPipeline;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -13,31 +12,21 @@ import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 
 @WebServlet("/auth/changePassword")
 public class ChangePasswordServlet extends HttpServlet {
     private StudentDAO studentDAO;
-    private LogDAO logDAO;
 
     @Override
     public void init() throws ServletException {
         super.init();
         studentDAO = new StudentDAO();
-        logDAO = new LogDAO();
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
         throws ServletException, IOException {
 
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("studentId") == null) {
-            response.sendRedirect(request.getContextPath() + "/auth/login");
-            return;
-        }
-
         request.getRequestDispatcher("/auth/changePassword.jsp").forward(request, response);
     }
 
@@ -48,20 +37,9 @@ public class ChangePasswordServlet extends HttpServlet {
         request.setCharacterEncoding("UTF-8");
 
         HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("studentId") == null) {
-            response.sendRedirect(request.getContextPath() + "/auth/login");
-            return;
-        }
-
-        Integer studentId = (Integer) session.getAttribute("studentId");
+        int studentId = AuthFilter.getPrincipal(request).getStudentId();
 
         try {
-            Student student = studentDAO.selectById(studentId);
-            if (student == null) {
-                response.sendRedirect(request.getContextPath() + "/auth/login");
-                return;
-            }
-
             // Get form data
             String currentPassword = request.getParameter("currentPassword");
             String newPassword = request.getParameter("newPassword");
@@ -111,12 +89,7 @@ public class ChangePasswordServlet extends HttpServlet {
 
             if (success) {
                 // Log the action
-                Log log = new Log();
-                log.setActionType("PASSWORD_CHANGE");
-                log.setDetails("Student " + studentId + " changed password");
-                log.setStudentId(studentId);
-                log.setTimestamp(Timestamp.valueOf(LocalDateTime.now()));
-                logDAO.insertLog(log);
+                LogPipeline.record("PASSWORD_CHANGE", studentId, "Student " + studentId + " changed password");
 
                 session.setAttribute("successMessage", "비밀번호 변경에 성공했습니다.");
                 response.sendRedirect(request.getContextPath() + "/mypage");
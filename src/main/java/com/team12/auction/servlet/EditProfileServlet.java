@@ -1,9 +1,9 @@
 package com.team12.auction.servlet;
 
-import com.team12.auction.dao.LogDAO;
 import com.team12.auction.dao.StudentDAO;
-import com.team12.auction.model.entity.Log;
+import com.team12.auction.filter.AuthFilter;
 import com.team12.auction.model.entity.Student;
+import com.team12.auction.service.LogPipeline;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -13,48 +13,23 @@ import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 
 @WebServlet("/editProfile")
 public class EditProfileServlet extends HttpServlet {
     private StudentDAO studentDAO;
-    private LogDAO logDAO;
 
     @Override
     public void init() throws ServletException {
         super.init();
         studentDAO = new StudentDAO();
-        logDAO = new LogDAO();
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
         throws ServletException, IOException {
 
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("studentId") == null) {
-            response.sendRedirect(request.getContextPath() + "/auth/login");
-            return;
-        }
-
-        Integer studentId = (Integer) session.getAttribute("studentId");
-
-        try {
-            Student student = studentDAO.selectById(studentId);
-            if (student == null) {
-                response.sendRedirect(request.getContextPath() + "/auth/login");
-                return;
-            }
-
-            request.setAttribute("student", student);
-            request.getRequestDispatcher("/student/editProfile.jsp").forward(request, response);
-
-        } catch (SQLException e) {
-            e.printStackTrace();
-            request.setAttribute("errorMessage", "정보를 불러오는 중 오류가 발생했습니다.");
-            request.getRequestDispatcher("/error.jsp").forward(request, response);
-        }
+        request.setAttribute("student", AuthFilter.getPrincipal(request).toStudent());
+        request.getRequestDispatcher("/student/editProfile.jsp").forward(request, response);
     }
 
     @Override
@@ -64,19 +39,10 @@ public class EditProfileServlet extends HttpServlet {
         request.setCharacterEncoding("UTF-8");
 
         HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("studentId") == null) {
-            response.sendRedirect(request.getContextPath() + "/auth/login");
-            return;
-        }
-
-        Integer studentId = (Integer) session.getAttribute("studentId");
+        int studentId = AuthFilter.getPrincipal(request).getStudentId();
 
         try {
-            Student student = studentDAO.selectById(studentId);
-            if (student == null) {
-                response.sendRedirect(request.getContextPath() + "/auth/login");
-                return;
-            }
+            Student student = AuthFilter.getPrincipal(request).toStudent();
 
             // Get form data
             String name = request.getParameter("name");
@@ -107,24 +73,19 @@ public class EditProfileServlet extends HttpServlet {
                 return;
             }
 
-            // Update student info
+            // Update student info (캐시된 학생 정보로 다른 컬럼을 덮어쓰지 않도록 수정 가능한 컬럼만 갱신)
             student.setName(name);
             student.setDepartment(department);
             student.setGrade(grade);
 
-            boolean success = studentDAO.updateStudent(student);
+            boolean success = studentDAO.updateProfile(studentId, name, department, grade);
 
             if (success) {
                 // Update session name
                 session.setAttribute("studentName", name);
 
                 // Log the action
-                Log log = new Log();
-                log.setActionType("PROFILE_UPDATE");
-                log.setDetails("Student " + studentId + " profile updated: " + student.info());
-                log.setStudentId(studentId);
-                log.setTimestamp(Timestamp.valueOf(LocalDateTime.now()));
-                logDAO.insertLog(log);
+                LogPipeline.record("PROFILE_UPDATE", studentId, "Student " + studentId + " profile updated: " + student.info());
 
                 session.setAttribute("successMessage", "프로필 업데이트에 성공했습니다.");
                 response.sendRedirect(request.getContextPath() + "/mypage");
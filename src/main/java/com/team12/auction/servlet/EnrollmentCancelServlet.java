@@ -1,6 +1,7 @@
 package com.team12.auction.servlet;
 
 import com.team12.auction.dao.EnrollmentDAO;
+import com.team12.auction.filter.AuthFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -17,13 +18,7 @@ public class EnrollmentCancelServlet extends HttpServlet {
                         throws ServletException, IOException {
                 request.setCharacterEncoding("UTF-8");
                 HttpSession session = request.getSession(false);
-
-                if (session == null || session.getAttribute("studentId") == null) {
-                        response.sendRedirect(request.getContextPath() + "/auth/login");
-                        return;
-                }
-
-                int studentId = (Integer) session.getAttribute("studentId");
+                int studentId = AuthFilter.getPrincipal(request).getStudentId();
                 String sectionId = request.getParameter("sectionId");
                 String returnUrl = request.getParameter("returnUrl");
 
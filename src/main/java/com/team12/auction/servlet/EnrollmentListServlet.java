@@ -1,6 +1,7 @@
 package com.team12.auction.servlet;
 
 import com.team12.auction.dao.EnrollmentDAO;
+import com.team12.auction.filter.AuthFilter;
 import com.team12.auction.model.dto.EnrollmentDetail;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -31,12 +32,7 @@ public class EnrollmentListServlet extends HttpServlet {
                 request.setCharacterEncoding("UTF-8");
 
                 HttpSession session = request.getSession(false);
-                if (session == null || session.getAttribute("studentId") == null) {
-                        response.sendRedirect(request.getContextPath() + "/auth/login");
-                        return;
-                }
-
-                int studentId = (Integer) session.getAttribute("studentId");
+                int studentId = AuthFilter.getPrincipal(request).getStudentId();
 
                 // 세션 메시지를 JSP로 전달하고 1회성으로 제거
                 String successMessage = (String) session.getAttribute("successMessage");
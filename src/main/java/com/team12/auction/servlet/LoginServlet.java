@@ -1,9 +1,10 @@
 package com.team12.auction.servlet;
 
-import com.team12.auction.dao.LogDAO;
+import com.team12.auction.cache.StudentProfileCache;
 import com.team12.auction.dao.StudentDAO;
-import com.team12.auction.model.entity.Log;
+import com.team12.auction.model.dto.StudentPrincipal;
 import com.team12.auction.model.entity.Student;
+import com.team12.auction.service.LogPipeline;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -14,10 +15,6 @@ import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 import java.io.Serial;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @WebServlet("/auth/login")
 public class LoginServlet extends HttpServlet {
@@ -25,17 +22,10 @@ public class LoginServlet extends HttpServlet {
 	private static final long serialVersionUID = -1705710102025229792L;
 
 	private StudentDAO studentDAO;
-    private LogDAO logDAO;
-
-    private ExecutorService executorService;
 
     @Override
     public void init() throws ServletException {
         studentDAO = new StudentDAO();
-        logDAO = new LogDAO();
-
-        // 최대 10개의 스레드로 로그 처리
-        executorService = Executors.newFixedThreadPool(10);
     }
 
 	@Override
@@ -74,25 +64,14 @@ public class LoginServlet extends HttpServlet {
 				HttpSession session = request.getSession();
 				session.setAttribute("studentId", student.getStudentId());
 				session.setAttribute("studentName", student.getName());
+				// 방금 읽은 학생 정보를 캐시에 담아 첫 화면에서 다시 읽지 않게 한다
+				StudentProfileCache.put(StudentPrincipal.of(student));
 
                 // 먼저 main.jsp로 리다이렉트
                 response.sendRedirect(request.getContextPath() + "/main.jsp");
 
-                // 로그는 스레드 풀에서 비동기 처리
-                final int finalStudentId = studentId;
-                executorService.submit(() -> {
-                    try {
-                        Log log = new Log();
-                        log.setActionType("LOGIN");
-                        log.setDetails("Student " + finalStudentId + " login");
-                        log.setStudentId(finalStudentId);
-                        log.setTimestamp(Timestamp.valueOf(LocalDateTime.now()));
-                        logDAO.insertLog(log);
-                    } catch (SQLException e) {
-                        System.err.println("[Async] Failed to insert login log for student: " + finalStudentId);
-                        e.printStackTrace();
-                    }
-                });
+                // 로그는 공용 로그 기록기에서 모아서 기록
+                LogPipeline.record("LOGIN", studentId, "Student " + studentId + " login");
             } else {
                 // 로그인 실패: 에러 메시지와 함께 login.jsp로 포워드
                 request.setAttribute("errorMessage", "학번 또는 비밀번호가 올바르지 않습니다.");
@@ -1,15 +1,17 @@
 package com.team12.auction.servlet;
 
-import com.team12.auction.dao.LogDAO;
+import com.team12.auction.cache.RecentActivityCache;
 import com.team12.auction.dao.StudentDAO;
+import com.team12.auction.filter.AuthFilter;
+import com.team12.auction.model.dto.StudentBalance;
+import com.team12.auction.model.dto.StudentPrincipal;
 import com.team12.auction.model.entity.Log;
-import com.team12.auction.model.entity.Student;
+import com.team12.auction.util.FanOut;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -18,44 +20,39 @@ import java.util.List;
 @WebServlet("/mypage")
 public class MyPageServlet extends HttpServlet {
     private StudentDAO studentDAO;
-    private LogDAO logDAO;
 
     @Override
     public void init() throws ServletException {
         super.init();
         studentDAO = new StudentDAO();
-        logDAO = new LogDAO();
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
         throws ServletException, IOException {
 
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("studentId") == null) {
-            response.sendRedirect(request.getContextPath() + "/auth/login");
-            return;
-        }
-
-        Integer studentId = (Integer) session.getAttribute("studentId");
+        // 학생 정보는 AuthFilter가 프로필 캐시에서 읽어 둔 것을 쓴다
+        StudentPrincipal principal = AuthFilter.getPrincipal(request);
+        int studentId = principal.getStudentId();
 
         try {
-            // Get student information
-            Student student = studentDAO.selectById(studentId);
-            if (student == null) {
-                response.sendRedirect(request.getContextPath() + "/auth/login");
-                return;
-            }
-
-            // Get current enrolled credits and points
-            int currentCredits = studentDAO.getCurrentCredits(studentId);
-            int currentPoints = studentDAO.getCurrentPoints(studentId);
-
-            // Get recent activity logs (last 10)
-            List<Log> recentLogs = logDAO.getRecentLogsByStudent(studentId, 10);
+            // 서로 독립적인 조회는 동시에 실행 (가장 느린 조회만큼만 기다림)
+            // 학점과 포인트는 같은 잔액 행에서 한 번에 읽는다
+            StudentBalance balance;
+            List<Log> recentLogs;
+            try (FanOut fanOut = FanOut.open("mypage")) {
+                FanOut.Branch<StudentBalance> balanceBranch = fanOut.fork("balance", () -> studentDAO.getBalance(studentId));
+                // Get recent activity logs (last 10, 최근 활동 캐시)
+                FanOut.Branch<List<Log>> logsBranch = fanOut.fork("recentLogs", () -> RecentActivityCache.getRecent(studentId, 10));
+                fanOut.join();
 
+                balance = balanceBranch.get();
+                recentLogs = logsBranch.get();
+            }
+            int currentCredits = balance == null ? 0 : balance.getEnrolledCredits();
+            int currentPoints = balance == null ? 0 : balance.getRemainingPoints();
             // Set attributes for JSP
-            request.setAttribute("student", student);
+            request.setAttribute("student", principal.toStudent());
             request.setAttribute("currentCredits", currentCredits);
             request.setAttribute("currentPoints", currentPoints);
             request.setAttribute("recentLogs", recentLogs);
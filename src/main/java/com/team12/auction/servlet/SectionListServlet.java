@@ -1,6 +1,9 @@
 package com.team12.auction.servlet;
 
+import com.team12.auction.cache.SectionSearchIndex;
+import com.team12.auction.cache.TimetableIndex;
 import com.team12.auction.dao.SectionDAO;
+import com.team12.auction.filter.AuthFilter;
 import com.team12.auction.model.dto.SectionSearchResult;
 
 import jakarta.servlet.ServletException;
@@ -8,7 +11,6 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -30,22 +32,29 @@ public class SectionListServlet extends HttpServlet {
 
 		request.setCharacterEncoding("UTF-8");
 
-		// 로그인 확인 (loginCheck.jsp로도 하지만, 두 번 막는 건 나쁠 것 없음)
-		HttpSession session = request.getSession(false);
-		if (session == null || session.getAttribute("studentId") == null) {
-			response.sendRedirect(request.getContextPath() + "/auth/login");
-			return;
-		}
-
 		String keyword = request.getParameter("keyword");
 		String department = request.getParameter("department");
+		boolean hideConflicts = request.getParameter("hideConflicts") != null;
 
 		try {
-			List<SectionSearchResult> sections = sectionDAO.searchSections(keyword, department);
+			// 메모리 색인에서 검색하고 인원 수만 따로 채운다 (색인이 없으면 기존 SQL 검색)
+			List<SectionSearchResult> sections = SectionSearchIndex.search(keyword, department);
+			boolean fromIndex = sections != null;
+			if (!fromIndex) {
+				sections = sectionDAO.searchSections(keyword, department);
+			}
+			if (hideConflicts) {
+				// 내 시간표(수강 + 수강꾸러미)와 겹치는 분반 숨기기 (인원 수를 채우기 전에 거른다)
+				sections = TimetableIndex.withoutConflicts(sections, AuthFilter.getPrincipal(request).getStudentId());
+			}
+			if (fromIndex) {
+				sectionDAO.fillSectionCounts(sections);
+			}
 
 			request.setAttribute("sections", sections);
 			request.setAttribute("keyword", keyword);
 			request.setAttribute("department", department);
+			request.setAttribute("hideConflicts", hideConflicts);
 
 		} catch (SQLException e) {
 			e.printStackTrace();
@@ -0,0 +1,73 @@
+package com.team12.auction.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * db.properties 설정값 조회
+ * <p>
+ * 클래스패스의 db.properties를 한 번만 읽고, 없는 키는 기본값을 사용한다.
+ */
+public class AppConfig {
+
+    private static final Properties PROPS = new Properties();
+
+    static {
+        try {
+            System.out.println("[INFO] Loading DB Properties...");
+            // 클래스패스에서 파일 읽기
+            InputStream input = AppConfig.class.getClassLoader().getResourceAsStream("db.properties");
+            if (input == null) {
+                System.err.println("db.properties 파일을 찾을 수 없습니다!");
+                throw new InitializerException("db.properties not found");
+            }
+
+            PROPS.load(input);
+            input.close();
+            System.out.println("[OK] DB Properties Loaded!");
+        } catch (IOException e) {
+            System.err.println("DB 설정 파일 로드 실패");
+            throw new InitializerException(e);
+        }
+    }
+
+    private AppConfig() {
+    }
+
+    public static String getString(String key, String defaultValue) {
+        String value = PROPS.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("[WARN] Invalid integer for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            System.err.println("[WARN] Invalid long for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
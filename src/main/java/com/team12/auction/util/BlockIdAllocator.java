@@ -0,0 +1,253 @@
+package com.team12.auction.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * hi/lo 방식 ID 발급기
+ * <p>
+ * IdCounter 테이블에서 blockSize개의 번호를 짧은 별도 트랜잭션으로 한 번에 예약(lease)하고,
+ * 예약한 범위 안에서는 DB 접근 없이 메모리에서 발급한다. 서버가 재시작되면 쓰지 않은 번호는 건너뛴다.
+ * 카운터 행이 없으면 기존 테이블의 최대 번호에서 시작한다.
+ * <p>
+ * 예약은 풀과 별개로 발급기마다 하나씩 여는 전용 커넥션으로 한다. 호출자는 보통 요청 트랜잭션의
+ * 커넥션을 이미 쥐고 있으므로, 풀에서 두 번째 커넥션을 기다리다 풀이 고갈되는 일을 막기 위해서다.
+ */
+public class BlockIdAllocator implements IdAllocator {
+
+    private static final String UPDATE_SQL = "UPDATE IdCounter SET next_value = next_value + ? WHERE counter_name = ?";
+    private static final String SELECT_SQL = "SELECT next_value FROM IdCounter WHERE counter_name = ?";
+    private static final String INSERT_SQL = "INSERT INTO IdCounter (counter_name, next_value) VALUES (?, ?)";
+
+    private final String name;
+    private final String prefix;
+    private final int width;
+    private final int blockSize;
+    private final String seedSql;
+
+    private volatile Block current = new Block(0, 0);
+
+    // 예약 전용 커넥션 (leaseLock으로 보호, 오류가 나면 닫고 다음 예약 때 다시 연다)
+    private final Object leaseLock = new Object();
+    private Connection leaseConnection;
+
+    private final LongAdder allocatedCount = new LongAdder();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseNanos = new LongAdder();
+    private final AtomicLong maxLeaseNanos = new AtomicLong();
+
+    /**
+     * @param seedSql 카운터가 없을 때 기존 데이터의 최대 번호를 구하는 SQL (결과 1행 1열)
+     */
+    public BlockIdAllocator(String name, String prefix, int width, int blockSize, String seedSql) {
+        this.name = name;
+        this.prefix = prefix;
+        this.width = width;
+        this.blockSize = Math.max(1, blockSize);
+        this.seedSql = seedSql;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long nextValue() throws SQLException {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                allocatedCount.increment();
+                return value;
+            }
+            synchronized (this) {
+                if (current == block) {
+                    current = lease(blockSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리 블록과 별개로 count개짜리 범위를 IdCounter에서 바로 예약한다.
+     */
+    @Override
+    public long reserveRange(int count) throws SQLException {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        Block range = lease(count);
+        allocatedCount.add(count);
+        return range.next.get();
+    }
+
+    @Override
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public String format(long value) {
+        String digits = Long.toString(value);
+        StringBuilder sb = new StringBuilder(prefix.length() + Math.max(width, digits.length()));
+        sb.append(prefix);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
+    }
+
+    /**
+     * IdCounter에서 size개짜리 블록 예약 (호출자의 트랜잭션과 무관한 전용 커넥션 사용)
+     */
+    private Block lease(int size) throws SQLException {
+        synchronized (leaseLock) {
+            long started = System.nanoTime();
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+
+            try {
+                if (leaseConnection == null) {
+                    leaseConnection = DBConnection.getPool().openUnpooled();
+                }
+                Connection conn = leaseConnection;
+
+                long end;
+                if (advance(conn, size) == 0) {
+                    end = seed(conn, size);
+                } else {
+                    pstmt = conn.prepareStatement(SELECT_SQL);
+                    pstmt.setString(1, name);
+                    rs = pstmt.executeQuery();
+                    if (!rs.next()) {
+                        throw new SQLException("IdCounter row disappeared: " + name);
+                    }
+                    end = rs.getLong(1);
+                }
+                conn.commit();
+
+                long elapsed = System.nanoTime() - started;
+                leaseCount.increment();
+                leaseNanos.add(elapsed);
+                maxLeaseNanos.accumulateAndGet(elapsed, Math::max);
+                return new Block(end - size, end);
+            } catch (SQLException e) {
+                // 끊어졌을 수 있으므로 버리고 다음 예약 때 새로 연다
+                DBConnection.rollback(leaseConnection);
+                DBConnection.close(leaseConnection);
+                leaseConnection = null;
+                throw e;
+            } finally {
+                DBConnection.close(rs, pstmt, null);
+            }
+        }
+    }
+
+    /**
+     * 예약 전용 커넥션 닫기 (애플리케이션 종료 시). 이후 예약이 필요하면 다시 연다.
+     */
+    @Override
+    public void close() {
+        synchronized (leaseLock) {
+            DBConnection.close(leaseConnection);
+            leaseConnection = null;
+        }
+    }
+
+    private int advance(Connection conn, int size) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setInt(1, size);
+            pstmt.setString(2, name);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 카운터 행 생성. 다른 서버가 먼저 만들었다면 그 행을 이어서 사용한다.
+     *
+     * @return 예약한 블록의 끝 (exclusive)
+     */
+    private long seed(Connection conn, int size) throws SQLException {
+        long maxExisting = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(seedSql);
+             ResultSet rs = pstmt.executeQuery()) {
+            if (rs.next()) {
+                maxExisting = rs.getLong(1);
+            }
+        }
+
+        long end = maxExisting + 1 + size;
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            pstmt.setString(1, name);
+            pstmt.setLong(2, end);
+            pstmt.executeUpdate();
+            System.out.println("[INFO] IdCounter " + name + " seeded from existing max " + maxExisting);
+            return end;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            conn.rollback();
+            if (advance(conn, size) == 0) {
+                throw e;
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL)) {
+                pstmt.setString(1, name);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        }
+    }
+
+    public long getAllocatedCount() {
+        return allocatedCount.sum();
+    }
+
+    public long getLeaseCount() {
+        return leaseCount.sum();
+    }
+
+    public long getAverageLeaseMicros() {
+        long leases = leaseCount.sum();
+        return leases == 0 ? 0 : leaseNanos.sum() / leases / 1000;
+    }
+
+    public long getMaxLeaseMicros() {
+        return maxLeaseNanos.get() / 1000;
+    }
+
+    public long getRemainingInBlock() {
+        Block block = current;
+        return Math.max(0, block.end - block.next.get());
+    }
+
+    @Override
+    public String describe() {
+        return name + ": allocated=" + getAllocatedCount() + ", leases=" + getLeaseCount()
+            + ", avgLeaseUs=" + getAverageLeaseMicros() + ", maxLeaseUs=" + getMaxLeaseMicros()
+            + ", remainingInBlock=" + getRemainingInBlock() + ", blockSize=" + blockSize;
+    }
+
+    /**
+     * 예약한 번호 범위 [next, end)
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.team12.auction.util;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * 크기가 minSize ~ maxSize 사이에서 늘고 줄어드는 JDBC 커넥션 풀
+ * <p>
+ * 빌린 커넥션의 close()는 물리 연결을 끊지 않고 풀로 반납한다. 반납 시 커밋되지 않은 작업은 롤백된다.
+ * 유휴 커넥션이 없으면 maxSize까지 새로 연결하고, 유휴 커넥션은 LIFO로 재사용한다.
+ * start() 후에는 하우스키핑 스레드가 유휴 정리(minSize까지)/최소 개수 유지/누수 감지를 담당한다.
+ * 물리 커넥션마다 PreparedStatement 캐시를 두어 같은 SQL은 한 번만 준비한다.
+ */
+public class ConnectionPool implements DataSource {
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long leakDetectionThresholdMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSec;
+    private final int statementCacheSize;
+    private final long housekeepingIntervalMs;
+
+    /** 앞쪽이 가장 최근에 반납된 커넥션 */
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+
+    private volatile boolean closed;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder validationFailureCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final StatementCache.Stats statementStats = new StatementCache.Stats();
+
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+                          long borrowTimeoutMs, long idleTimeoutMs, long leakDetectionThresholdMs,
+                          long validationIntervalMs, int validationTimeoutSec, long housekeepingIntervalMs,
+                          int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+        this.validationIntervalMs = validationIntervalMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+        this.statementCacheSize = statementCacheSize;
+        this.housekeepingIntervalMs = housekeepingIntervalMs;
+        this.permits = new Semaphore(this.maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 최소 개수만큼 연결하고 하우스키핑 시작 (생성 직후 한 번 호출)
+     */
+    public void start() {
+        fill();
+        housekeeper.scheduleWithFixedDelay(this::housekeep, housekeepingIntervalMs,
+            housekeepingIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 최소 개수만큼 미리 연결
+     */
+    public void fill() {
+        while (!closed && idle.size() + borrowed.size() < minSize) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            try {
+                idle.offerLast(createPhysical());
+            } catch (SQLException e) {
+                System.err.println("[ERROR] Failed to pre-fill connection pool: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+        if (!acquired) {
+            timeoutCount.increment();
+            throw new SQLTimeoutException("Timed out after " + borrowTimeoutMs + "ms waiting for a connection ("
+                + "active=" + borrowed.size() + ", max=" + maxSize + ")");
+        }
+
+        try {
+            PooledConnection pc;
+            while ((pc = idle.pollFirst()) != null) {
+                if (isUsable(pc)) {
+                    break;
+                }
+                validationFailureCount.increment();
+                destroy(pc);
+            }
+            if (pc == null) {
+                pc = createPhysical();
+            }
+
+            pc.borrowedAt = System.currentTimeMillis();
+            pc.borrowTrace = leakDetectionThresholdMs > 0 ? new Throwable("Connection borrowed here") : null;
+            pc.leakReported = false;
+            borrowed.add(pc);
+            borrowCount.increment();
+            SqlMetrics.recordAcquire(System.nanoTime() - started);
+            RequestStats request = RequestStats.current();
+            if (request != null) {
+                request.connectionBorrowed();
+            }
+            return pc.newLease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured account");
+    }
+
+    /**
+     * 풀 종료: 유휴 커넥션을 닫고, 사용 중인 커넥션은 반납되는 즉시 닫는다.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            destroy(pc);
+        }
+        System.out.println("[INFO] Connection pool closed (" + describe() + ")");
+    }
+
+    /**
+     * 풀 크기(maxSize)에 포함되지 않는 별도 물리 커넥션 (수동 커밋 모드, 호출자가 직접 닫는다)
+     * <p>
+     * 요청 커넥션을 이미 쥔 스레드가 짧은 보조 작업을 할 때 풀을 두 번 빌리지 않도록 쓴다.
+     */
+    public Connection openUnpooled() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        physical.setAutoCommit(false);
+        return physical;
+    }
+
+    private PooledConnection createPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        physical.setAutoCommit(false); // 수동 커밋 모드
+        createdCount.increment();
+        return new PooledConnection(physical);
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        if (System.currentTimeMillis() - pc.lastReturnedAt < validationIntervalMs) {
+            return true;
+        }
+        try {
+            return pc.physical.isValid(validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pc) {
+        if (!borrowed.remove(pc)) {
+            return;
+        }
+
+        try {
+            if (!pc.broken && !closed) {
+                try {
+                    if (pc.statementCache != null) {
+                        pc.statementCache.reclaim();
+                    }
+                    pc.physical.rollback();
+                    if (pc.physical.getAutoCommit()) {
+                        pc.physical.setAutoCommit(false);
+                    }
+                    pc.lastReturnedAt = System.currentTimeMillis();
+                    pc.borrowTrace = null;
+                    idle.offerFirst(pc);
+                    return;
+                } catch (SQLException e) {
+                    pc.broken = true;
+                }
+            }
+            destroy(pc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroy(PooledConnection pc) {
+        if (pc.statementCache != null) {
+            pc.statementCache.closeAll();
+        }
+        try {
+            pc.physical.close();
+        } catch (SQLException e) {
+            // 이미 끊긴 연결
+        }
+        destroyedCount.increment();
+    }
+
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            // 1. 오래된 유휴 커넥션 정리 (가장 오래 쉰 커넥션부터)
+            if (idleTimeoutMs > 0) {
+                Iterator<PooledConnection> it = idle.descendingIterator();
+                while (it.hasNext() && idle.size() + borrowed.size() > minSize) {
+                    PooledConnection pc = it.next();
+                    if (now - pc.lastReturnedAt > idleTimeoutMs && idle.remove(pc)) {
+                        destroy(pc);
+                    }
+                }
+            }
+
+            // 2. 누수 감지
+            if (leakDetectionThresholdMs > 0) {
+                for (PooledConnection pc : borrowed) {
+                    if (!pc.leakReported && now - pc.borrowedAt > leakDetectionThresholdMs) {
+                        pc.leakReported = true;
+                        leakCount.increment();
+                        System.err.println("[WARN] Possible connection leak: held for " + (now - pc.borrowedAt) + "ms"
+                            + borrowSite(pc.borrowTrace));
+                    }
+                }
+            }
+
+            // 3. 최소 개수 유지
+            fill();
+        } catch (RuntimeException e) {
+            System.err.println("[ERROR] Connection pool housekeeping failed: " + e);
+        }
+    }
+
+    /**
+     * 커넥션을 빌린 위치 (풀/트랜잭션 코드를 건너뛴 애플리케이션 쪽 호출 몇 줄)
+     */
+    private static String borrowSite(Throwable trace) {
+        if (trace == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(", borrowed at");
+        int shown = 0;
+        for (StackTraceElement frame : trace.getStackTrace()) {
+            String className = frame.getClassName();
+            if (className.startsWith("com.team12.auction.util.") || className.startsWith("jdk.proxy")
+                || className.startsWith("java.")) {
+                continue;
+            }
+            sb.append(shown == 0 ? " " : " <- ").append(frame);
+            if (++shown == 3) {
+                break;
+            }
+        }
+        return shown == 0 ? "" : sb.toString();
+    }
+
+    public int getActiveCount() {
+        return borrowed.size();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount.sum();
+    }
+
+    public long getLeakCount() {
+        return leakCount.sum();
+    }
+
+    public long getStatementCacheHits() {
+        return statementStats.hits.sum();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementStats.misses.sum();
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementStats.evictions.sum();
+    }
+
+    public String describe() {
+        return "active=" + getActiveCount() + ", idle=" + getIdleCount() + ", max=" + maxSize
+            + ", waiting=" + getWaitingCount() + ", borrowed=" + getBorrowCount() + ", created=" + getCreatedCount()
+            + ", destroyed=" + getDestroyedCount() + ", timeouts=" + getTimeoutCount() + ", leaks=" + getLeakCount()
+            + ", stmtCacheHits=" + getStatementCacheHits() + ", stmtCacheMisses=" + getStatementCacheMisses();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return (int) TimeUnit.MILLISECONDS.toSeconds(borrowTimeoutMs);
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * 풀이 관리하는 물리 커넥션
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt = System.currentTimeMillis();
+        private volatile Throwable borrowTrace;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = statementCacheSize > 0
+                ? new StatementCache(physical, statementCacheSize, statementStats) : null;
+        }
+
+        private Connection newLease() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new Lease(this));
+        }
+    }
+
+    /**
+     * 한 번의 대여를 나타내는 커넥션 핸들. close() 이후에는 사용할 수 없다.
+     */
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pc;
+        private volatile boolean returned;
+
+        private Lease(PooledConnection pc) {
+            this.pc = pc;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pc);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pc.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            if ("prepareStatement".equals(method.getName()) && args.length == 1) {
+                if (pc.statementCache != null) {
+                    return pc.statementCache.prepare((String) args[0]);
+                }
+                return SqlMetrics.instrument(pc.physical.prepareStatement((String) args[0]), (String) args[0]);
+            }
+
+            try {
+                return method.invoke(pc.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        pc.broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+}
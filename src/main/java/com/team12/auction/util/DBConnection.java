@@ -1,9 +1,6 @@
 package com.team12.auction.util;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.sql.*;
-import java.util.Properties;
 
 public class DBConnection {
 
@@ -15,6 +12,8 @@ public class DBConnection {
 	private static String USER = DEFAULT_USER;
 	private static String PASSWORD = DEFAULT_PASSWORD;
 
+	private static ConnectionPool pool;
+
 	static {
 		try {
 			System.out.println("[INFO] Loading Oracle JDBC Driver...");
@@ -28,46 +27,56 @@ public class DBConnection {
 			e.printStackTrace();
 		}
 
-		try {
-			System.out.println("[INFO] Loading DB Properties...");
-			Properties props = new Properties();
-			// 클래스패스에서 파일 읽기
-			InputStream input = DBConnection.class.getClassLoader().getResourceAsStream("db.properties");
-			if (input == null) {
-				System.err.println("db.properties 파일을 찾을 수 없습니다!");
-				throw new InitializerException("db.properties not found");
-			}
-
-			props.load(input);
-			URL = props.getProperty("db.url", DEFAULT_URL);
-			USER = props.getProperty("db.user", DEFAULT_USER);
-			PASSWORD = props.getProperty("db.password", DEFAULT_PASSWORD);
-
-			input.close();
-			System.out.println("[OK] DB Properties Loaded!");
-		} catch (IOException e) {
-			System.err.println("DB 설정 파일 로드 실패");
-			throw new InitializerException(e);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+		URL = AppConfig.getString("db.url", DEFAULT_URL);
+		USER = AppConfig.getString("db.user", DEFAULT_USER);
+		PASSWORD = AppConfig.getString("db.password", DEFAULT_PASSWORD);
+
+		pool = new ConnectionPool(URL, USER, PASSWORD,
+				AppConfig.getInt("db.pool.minSize", 2),
+				AppConfig.getInt("db.pool.maxSize", 20),
+				AppConfig.getLong("db.pool.borrowTimeoutMs", 5000),
+				AppConfig.getLong("db.pool.idleTimeoutMs", 600000),
+				AppConfig.getLong("db.pool.leakDetectionThresholdMs", 30000),
+				AppConfig.getLong("db.pool.validationIntervalMs", 500),
+				AppConfig.getInt("db.pool.validationTimeoutSec", 2),
+				AppConfig.getLong("db.pool.housekeepingIntervalMs", 30000),
+				AppConfig.getInt("db.pool.statementCacheSize", 50));
 
 		// Connection 테스트
 		Connection conn = getConnection();
 		close(conn);
+		pool.start();
+		System.out.println("[OK] Connection pool ready (" + pool.describe() + ")");
 	}
 
 	public static void init() {
 	}
 
 	/**
-	 * DB 연결 생성
+	 * 커넥션 풀 종료 (애플리케이션 종료 시)
+	 */
+	public static void shutdown() {
+		pool.close();
+	}
+
+	/**
+	 * 풀 상태 조회용
+	 */
+	public static ConnectionPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * 풀에서 DB 연결 대여 (close() 시 풀로 반납)
+	 * <p>
+	 * 현재 스레드에 TransactionUtil 트랜잭션이 열려 있으면 그 커넥션을 공유한다.
 	 */
 	public static Connection getConnection() {
 		try {
-			Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
-			conn.setAutoCommit(false); // 수동 커밋 모드
-			return conn;
+			if (TransactionUtil.isActive()) {
+				return TransactionUtil.getConnection();
+			}
+			return pool.getConnection();
 		} catch (SQLException e) {
 			System.out.println("[ERROR] Failed to connect to DB");
 			e.printStackTrace();
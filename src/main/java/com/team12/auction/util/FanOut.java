@@ -0,0 +1,333 @@
+package com.team12.auction.util;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 안에서 서로 독립적인 조회를 가상 스레드로 동시에 실행
+ * <p>
+ * fork()로 조회를 나누고 join()으로 모두 끝나기를 기다린다. 하나라도 실패하거나 fanout.deadlineMs가 지나면
+ * 나머지를 취소하고 예외를 던진다. try-with-resources로 닫으면 끝나지 않은 조회도 취소된다.
+ * <p>
+ * 각 조회는 요청 트랜잭션 밖에서 커넥션을 따로 빌리므로, 같은 요청에서 아직 커밋되지 않은 변경은 보이지 않는다.
+ * 읽기 전용 조회에만 사용한다. {@code fanout.enabled=false}이면 요청 스레드에서 차례로 실행한다.
+ * <p>
+ * 동시에 도는 조회 수는 서버 전체에서 fanout.maxConcurrentBranches(기본: 풀 최대 크기의 절반)로 제한한다.
+ * 자리가 없으면 그 조회는 요청 스레드에서 바로 실행되어 요청 커넥션을 함께 쓴다.
+ * 부하가 높을 때 조회마다 풀 커넥션을 더 빌려 풀이 고갈되는 것을 막기 위해서다.
+ */
+public class FanOut implements AutoCloseable {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("fanout.enabled", true);
+    private static final long DEFAULT_DEADLINE_MS = AppConfig.getLong("fanout.deadlineMs", 5000);
+    private static final Semaphore PERMITS = new Semaphore(Math.max(1, AppConfig.getInt("fanout.maxConcurrentBranches",
+        AppConfig.getInt("db.pool.maxSize", 20) / 2)));
+
+    private static final Map<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * 나눠 실행할 조회
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        T call() throws SQLException;
+    }
+
+    private final String name;
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final List<Branch<?>> branches = new ArrayList<>();
+    private final LinkedBlockingQueue<Branch<?>> completed = new LinkedBlockingQueue<>();
+
+    private FanOut(String name, long deadlineMs) {
+        this(name, deadlineMs, ENABLED ? Executors.newVirtualThreadPerTaskExecutor() : null);
+    }
+
+    FanOut(String name, long deadlineMs, ExecutorService executor) {
+        this.name = name;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, deadlineMs));
+        this.executor = executor;
+    }
+
+    /**
+     * @param name 통계에 쓰는 이름 (예: "mypage")
+     */
+    public static FanOut open(String name) {
+        return new FanOut(name, DEFAULT_DEADLINE_MS);
+    }
+
+    public static FanOut open(String name, long deadlineMs) {
+        return new FanOut(name, deadlineMs);
+    }
+
+    /**
+     * 조회 하나를 가상 스레드에서 시작 (꺼져 있거나 동시 실행 한도에 걸리면 요청 스레드에서 바로 실행)
+     */
+    public <T> Branch<T> fork(String branchName, Task<T> task) {
+        Branch<T> branch = new Branch<>(name + "." + branchName, task);
+        branches.add(branch);
+        if (executor == null || !PERMITS.tryAcquire()) {
+            branch.inline = true;
+            branch.run();
+        } else {
+            // 요청의 DB 사용량 기록을 조회 스레드에도 이어 붙인다
+            RequestStats request = RequestStats.current();
+            BranchTask future = new BranchTask(() -> {
+                RequestStats previous = RequestStats.attach(request);
+                try {
+                    branch.run();
+                } finally {
+                    RequestStats.detach(previous);
+                    PERMITS.release();
+                    completed.add(branch);
+                }
+            });
+            branch.future = future;
+            try {
+                executor.execute(future);
+            } catch (RuntimeException e) {
+                PERMITS.release();
+                throw e;
+            }
+        }
+        return branch;
+    }
+
+    /**
+     * 모든 조회가 끝나기를 기다린다. 먼저 실패한 조회의 예외를 그대로 던지고 나머지는 취소한다.
+     *
+     * @throws SQLTimeoutException 기한 안에 끝나지 않은 경우
+     */
+    public void join() throws SQLException {
+        int remaining = 0;
+        for (Branch<?> branch : branches) {
+            if (branch.inline) {
+                branch.rethrow();
+            } else {
+                remaining++;
+            }
+        }
+
+        try {
+            while (remaining > 0) {
+                long waitNanos = deadlineNanos - System.nanoTime();
+                Branch<?> done = waitNanos > 0 ? completed.poll(waitNanos, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    String pending = pending();
+                    cancelAll();
+                    throw new SQLTimeoutException("Fan-out " + name + " exceeded deadline (pending: " + pending + ")");
+                }
+                remaining--;
+                if (done.failure != null) {
+                    cancelAll();
+                    done.rethrow();
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new SQLException("Fan-out " + name + " interrupted", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            // 끝나지 않은 조회는 인터럽트하고 기다리지 않는다 (커넥션은 각 조회의 finally에서 반납)
+            executor.shutdownNow();
+        }
+    }
+
+    private void cancelAll() {
+        for (Branch<?> branch : branches) {
+            if (branch.future != null) {
+                branch.future.cancel(true);
+            }
+        }
+    }
+
+    private String pending() {
+        List<String> names = new ArrayList<>();
+        for (Branch<?> branch : branches) {
+            if (!branch.done) {
+                names.add(branch.name);
+            }
+        }
+        return String.join(", ", names);
+    }
+
+    static int availablePermits() {
+        return PERMITS.availablePermits();
+    }
+
+    /**
+     * 이름별 조회 시간 통계 (이름 순)
+     */
+    public static String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Stat> entry : new TreeMap<>(STATS).entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sb.toString();
+    }
+
+    public static Map<String, Stat> getStats() {
+        return new TreeMap<>(STATS);
+    }
+
+    /**
+     * 조회 하나를 실행하는 작업. 동시 실행 자리를 정확히 한 번 반납한다.
+     * <p>
+     * 시작 전에 취소되면 FutureTask가 작업을 실행하지 않으므로 done()에서 반납하고,
+     * 시작했으면 작업이 끝날 때 반납한다 (실행 중에 취소되어도 조회가 커넥션을 돌려줄 때까지 자리를 쥔다).
+     */
+    private static final class BranchTask extends FutureTask<Void> {
+        private final AtomicBoolean claimed;
+
+        private BranchTask(Runnable body) {
+            this(body, new AtomicBoolean());
+        }
+
+        private BranchTask(Runnable body, AtomicBoolean claimed) {
+            super(() -> {
+                if (claimed.compareAndSet(false, true)) {
+                    body.run();
+                }
+            }, null);
+            this.claimed = claimed;
+        }
+
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                PERMITS.release();
+            }
+        }
+    }
+
+    /**
+     * fork()로 시작한 조회 하나
+     */
+    public static final class Branch<T> {
+        private final String name;
+        private final Task<T> task;
+        private volatile Future<?> future;
+        private volatile T value;
+        private volatile Throwable failure;
+        private volatile boolean done;
+        private volatile boolean inline;
+        private volatile long elapsedNanos;
+
+        private Branch(String name, Task<T> task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        private void run() {
+            long started = System.nanoTime();
+            try {
+                value = task.call();
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+            } finally {
+                elapsedNanos = System.nanoTime() - started;
+                STATS.computeIfAbsent(name, k -> new Stat()).record(elapsedNanos, failure != null, inline);
+                done = true;
+            }
+        }
+
+        private void rethrow() throws SQLException {
+            if (failure instanceof SQLException) {
+                throw (SQLException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+        }
+
+        /**
+         * 결과 (join()이 정상 반환한 뒤에 호출)
+         */
+        public T get() {
+            if (!done) {
+                throw new IllegalStateException("Branch " + name + " has not completed");
+            }
+            return value;
+        }
+
+        public long getElapsedMicros() {
+            return elapsedNanos / 1000;
+        }
+    }
+
+    /**
+     * 조회 이름별 누적 시간
+     */
+    public static final class Stat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder inlineRuns = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos, boolean failed, boolean inline) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            if (inline) {
+                inlineRuns.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * 요청 스레드에서 차례로 실행된 횟수 (꺼져 있거나 동시 실행 한도에 걸린 경우)
+         */
+        public long getInlineRuns() {
+            return inlineRuns.sum();
+        }
+
+        public long getAverageMicros() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / n / 1000;
+        }
+
+        public long getMaxMicros() {
+            return maxNanos.get() / 1000;
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + getCount() + ", failures=" + getFailures() + ", inline=" + getInlineRuns()
+                + ", avgUs=" + getAverageMicros() + ", maxUs=" + getMaxMicros() + "}";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.team12.auction.util;
+
+import java.sql.SQLException;
+
+/**
+ * 문자열 기본키 발급기 (예: BID0000001)
+ */
+public interface IdAllocator {
+
+    /**
+     * 발급기 이름 (IdCounter.counter_name)
+     */
+    String getName();
+
+    /**
+     * 다음 번호 발급
+     */
+    long nextValue() throws SQLException;
+
+    /**
+     * 연속된 번호 count개를 한 번에 예약 (SQL 안에서 ID를 만들 때 사용)
+     *
+     * @return 예약한 범위의 첫 번호 (범위는 [반환값, 반환값 + count))
+     */
+    long reserveRange(int count) throws SQLException;
+
+    /**
+     * ID 접두어 (예: BID)
+     */
+    String getPrefix();
+
+    /**
+     * 접두어 뒤 숫자의 최소 자릿수
+     */
+    int getWidth();
+
+    /**
+     * 번호를 접두어가 붙은 ID 문자열로 변환
+     */
+    String format(long value);
+
+    /**
+     * 다음 ID 발급
+     */
+    default String nextId() throws SQLException {
+        return format(nextValue());
+    }
+
+    /**
+     * 모니터링용 통계 문자열
+     */
+    String describe();
+
+    /**
+     * 발급기가 따로 쥔 자원 해제 (애플리케이션 종료 시)
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,78 @@
+package com.team12.auction.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블별 ID 발급기 등록소
+ * <p>
+ * 기본 발급기는 BlockIdAllocator이며, register()로 다른 구현을 끼워 넣을 수 있다.
+ * 자릿수와 블록 크기는 db.properties의 id.&lt;이름&gt;.width / id.&lt;이름&gt;.blockSize로 바꿀 수 있다.
+ */
+public class IdAllocators {
+
+    public static final String BID = "BID";
+    public static final String ENROLLMENT = "ENROLLMENT";
+    public static final String LOG = "LOG";
+
+    private static final Map<String, IdAllocator> ALLOCATORS = new ConcurrentHashMap<>();
+
+    static {
+        register(block(BID, "BID", 7, 50,
+            "SELECT NVL(MAX(TO_NUMBER(SUBSTR(bid_sequence, 4))), 0) FROM Bid"));
+        register(block(ENROLLMENT, "E", 7, 50,
+            "SELECT NVL(MAX(TO_NUMBER(SUBSTR(enrollment_id, 2))), 0) FROM Enrollment"));
+        register(block(LOG, "L", 7, 200,
+            "SELECT NVL(MAX(TO_NUMBER(SUBSTR(log_id, 2))), 0) FROM Log"));
+    }
+
+    private IdAllocators() {
+    }
+
+    private static IdAllocator block(String name, String prefix, int width, int blockSize, String seedSql) {
+        String key = "id." + name.toLowerCase();
+        return new BlockIdAllocator(name, prefix,
+            AppConfig.getInt(key + ".width", width),
+            AppConfig.getInt(key + ".blockSize", blockSize),
+            seedSql);
+    }
+
+    public static void register(IdAllocator allocator) {
+        ALLOCATORS.put(allocator.getName(), allocator);
+    }
+
+    public static IdAllocator get(String name) {
+        IdAllocator allocator = ALLOCATORS.get(name);
+        if (allocator == null) {
+            throw new IllegalArgumentException("Unknown id allocator: " + name);
+        }
+        return allocator;
+    }
+
+    public static IdAllocator bid() {
+        return get(BID);
+    }
+
+    public static IdAllocator enrollment() {
+        return get(ENROLLMENT);
+    }
+
+    public static IdAllocator log() {
+        return get(LOG);
+    }
+
+    /**
+     * 모든 발급기의 자원 해제 (커넥션 풀을 닫기 전에 호출)
+     */
+    public static void closeAll() {
+        for (IdAllocator allocator : ALLOCATORS.values()) {
+            allocator.close();
+        }
+    }
+
+    public static Collection<IdAllocator> all() {
+        return Collections.unmodifiableCollection(ALLOCATORS.values());
+    }
+}
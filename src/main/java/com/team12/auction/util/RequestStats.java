@@ -0,0 +1,284 @@
+package com.team12.auction.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 요청 하나가 DB에 한 일 (빌린 커넥션 수, 실행한 문장 수, 읽은 행 수, DB 시간)
+ * <p>
+ * RequestStatsFilter가 요청마다 열고 닫는다. 같은 요청의 FanOut 조회 스레드에도 이어 붙으므로 값은 원자적으로 올린다.
+ * 같은 문장(SqlMetrics 기준으로 정리된 SQL)이 db.requestStats.repeatThreshold번 이상 실행되면 N+1 의심으로 표시한다.
+ * 문장 단위 기록은 SqlMetrics가 켜져 있어야 한다 (db.metrics.enabled).
+ */
+public final class RequestStats {
+
+    private static final int MAX_STATEMENTS = AppConfig.getInt("db.requestStats.maxStatements", 20);
+    private static final int MAX_CONNECTIONS = AppConfig.getInt("db.requestStats.maxConnections", 3);
+    private static final long MAX_DB_MS = AppConfig.getLong("db.requestStats.maxDbMs", 500);
+    private static final int REPEAT_THRESHOLD = AppConfig.getInt("db.requestStats.repeatThreshold", 2);
+    private static final int MAX_ENDPOINTS = 200;
+
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    // 경로별 누적 (회귀 확인용)
+    private static final Map<String, EndpointStats> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private final String endpoint;
+    private final long startedAt = System.nanoTime();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong dbNanos = new AtomicLong();
+    // 문장별 실행 횟수 (처음 실행할 때 만든다)
+    private volatile Map<SqlMetrics.StatementStats, AtomicInteger> perStatement;
+
+    private RequestStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 현재 스레드에서 요청 기록 시작
+     *
+     * @param endpoint 경로별 누적에 쓰는 이름 (예: "POST /auction/bid")
+     */
+    public static RequestStats open(String endpoint) {
+        RequestStats stats = new RequestStats(endpoint);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 요청 기록 (없으면 null)
+     */
+    public static RequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 다른 스레드(FanOut 조회)에서 같은 요청 기록을 이어 쓴다.
+     *
+     * @return 이전 값 (detach()에 넘김)
+     */
+    public static RequestStats attach(RequestStats stats) {
+        RequestStats previous = CURRENT.get();
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+        return previous;
+    }
+
+    public static void detach(RequestStats previous) {
+        attach(previous);
+    }
+
+    void connectionBorrowed() {
+        connections.incrementAndGet();
+    }
+
+    void statementExecuted(SqlMetrics.StatementStats statement, long nanos, long affectedRows) {
+        statements.incrementAndGet();
+        dbNanos.addAndGet(nanos);
+        if (affectedRows > 0) {
+            rows.addAndGet(affectedRows);
+        }
+        if (statement != null) {
+            Map<SqlMetrics.StatementStats, AtomicInteger> counts = perStatement;
+            if (counts == null) {
+                synchronized (this) {
+                    counts = perStatement;
+                    if (counts == null) {
+                        counts = new ConcurrentHashMap<>();
+                        perStatement = counts;
+                    }
+                }
+            }
+            counts.computeIfAbsent(statement, s -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    void rowFetched() {
+        rows.incrementAndGet();
+    }
+
+    /**
+     * 요청 기록 종료. 예산 초과/반복 문장을 경고하고 경로별 누적에 더한다.
+     *
+     * @return 예산을 넘었거나 반복 문장이 있으면 true
+     */
+    public boolean close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        List<String> repeated = getRepeatedStatements();
+        List<String> exceeded = getExceededBudgets();
+        boolean flagged = !exceeded.isEmpty() || !repeated.isEmpty();
+
+        if (!exceeded.isEmpty()) {
+            System.err.println("[WARN] DB budget exceeded (" + String.join(", ", exceeded) + ") " + endpoint
+                + " " + summary());
+        }
+        for (String statement : repeated) {
+            System.err.println("[WARN] Repeated statement in " + endpoint + " (N+1?): " + statement);
+        }
+
+        if (statements.get() > 0 || connections.get() > 0) {
+            EndpointStats stats = ENDPOINTS.get(endpoint);
+            if (stats == null && ENDPOINTS.size() < MAX_ENDPOINTS) {
+                stats = ENDPOINTS.computeIfAbsent(endpoint, k -> new EndpointStats());
+            }
+            if (stats != null) {
+                stats.record(this, flagged);
+            }
+        }
+        return flagged;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getDbMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(dbNanos.get());
+    }
+
+    public long getElapsedMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * @return 한 번이라도 DB를 사용했는지
+     */
+    public boolean isUsed() {
+        return statements.get() > 0 || connections.get() > 0;
+    }
+
+    /**
+     * 넘은 예산 목록 (예: "statements 23>20")
+     */
+    public List<String> getExceededBudgets() {
+        List<String> exceeded = new ArrayList<>();
+        if (MAX_STATEMENTS > 0 && statements.get() > MAX_STATEMENTS) {
+            exceeded.add("statements " + statements.get() + ">" + MAX_STATEMENTS);
+        }
+        if (MAX_CONNECTIONS > 0 && connections.get() > MAX_CONNECTIONS) {
+            exceeded.add("connections " + connections.get() + ">" + MAX_CONNECTIONS);
+        }
+        if (MAX_DB_MS > 0 && getDbMicros() > MAX_DB_MS * 1000) {
+            exceeded.add("dbMs " + getDbMicros() / 1000 + ">" + MAX_DB_MS);
+        }
+        return exceeded;
+    }
+
+    /**
+     * 같은 요청에서 repeatThreshold번 이상 실행된 문장 ("x횟수 SQL")
+     */
+    public List<String> getRepeatedStatements() {
+        List<String> repeated = new ArrayList<>();
+        Map<SqlMetrics.StatementStats, AtomicInteger> counts = perStatement;
+        if (counts == null || REPEAT_THRESHOLD <= 1) {
+            return repeated;
+        }
+        for (Map.Entry<SqlMetrics.StatementStats, AtomicInteger> entry : counts.entrySet()) {
+            if (entry.getValue().get() >= REPEAT_THRESHOLD) {
+                repeated.add("x" + entry.getValue().get() + " " + entry.getKey().getSql());
+            }
+        }
+        return repeated;
+    }
+
+    /**
+     * 응답 헤더/로그용 요약
+     */
+    public String summary() {
+        return "conns=" + getConnections()
+            + " stmts=" + getStatements()
+            + " rows=" + getRows()
+            + " dbUs=" + getDbMicros()
+            + " totalUs=" + getElapsedMicros();
+    }
+
+    /**
+     * 경로별 누적 (경로 이름 순)
+     */
+    public static Map<String, EndpointStats> getEndpointStats() {
+        return new TreeMap<>(ENDPOINTS);
+    }
+
+    /**
+     * 경로 하나의 누적 (요청 수, 문장 수 평균/최대, 예산 초과 횟수)
+     */
+    public static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder connections = new LongAdder();
+        private final LongAdder dbMicros = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+
+        private void record(RequestStats request, boolean overBudget) {
+            requests.increment();
+            statements.add(request.getStatements());
+            connections.add(request.getConnections());
+            dbMicros.add(request.getDbMicros());
+            if (overBudget) {
+                flagged.increment();
+            }
+            maxStatements.accumulateAndGet(request.getStatements(), Math::max);
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getConnections() {
+            return connections.sum();
+        }
+
+        public long getDbMicros() {
+            return dbMicros.sum();
+        }
+
+        public long getFlagged() {
+            return flagged.sum();
+        }
+
+        public int getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        @Override
+        public String toString() {
+            long n = getRequests();
+            return "{requests=" + n
+                + ", avgStmts=" + (n == 0 ? 0 : getStatements() / n)
+                + ", maxStmts=" + getMaxStatements()
+                + ", avgConns=" + (n == 0 ? 0 : getConnections() / n)
+                + ", flagged=" + getFlagged() + "}";
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.team12.auction.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장별 실행 통계 (커넥션 풀의 문장 핸들에서 기록)
+ * <p>
+ * 문장은 리터럴을 ?로 바꾸고 공백을 정리한 SQL로 묶는다. SQL 문자열마다 정리는 처음 한 번만 하고,
+ * 캐시된 PreparedStatement는 통계 객체를 직접 들고 있어 실행할 때 찾지 않는다.
+ * 실행 횟수/실패/반환(또는 변경) 행 수/지연 시간 히스토그램과 커넥션 대여 대기 시간을 기록한다.
+ * 서로 다른 문장이 db.metrics.maxStatements개를 넘으면 나머지는 "(other)"로 합친다.
+ * 요청 안에서 실행되면 RequestStats에도 더한다.
+ * <p>
+ * 비용: 기록은 DAO가 받는 문장 핸들(동적 Proxy)을 거치므로 문장 메서드 호출마다 리플렉션 호출이 한 번 들고,
+ * 캐시되지 않은 문장은 prepareStatement마다 Proxy 객체가 하나 생긴다.
+ * 조회의 반환 행 수까지 세려면(db.metrics.queryRows=true) executeQuery마다 ResultSet Proxy와 핸들러를 만들고
+ * ResultSet 메서드 호출마다 리플렉션을 거치므로 기본값은 꺼 둔다 (변경 행 수는 항상 기록한다).
+ */
+public final class SqlMetrics {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("db.metrics.enabled", true);
+    private static final int MAX_STATEMENTS = AppConfig.getInt("db.metrics.maxStatements", 500);
+    private static final boolean COUNT_QUERY_ROWS = AppConfig.getBoolean("db.metrics.queryRows", false);
+    private static final String OTHER = "(other)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.:])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // SQL 원문 -> 통계, 정리된 SQL -> 통계
+    private static final ConcurrentHashMap<String, StatementStats> BY_SQL = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, StatementStats> BY_NORMALIZED = new ConcurrentHashMap<>();
+
+    private static final LatencyHistogram ACQUIRE = new LatencyHistogram();
+
+    private SqlMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * SQL 원문의 통계 (꺼져 있으면 null)
+     */
+    public static StatementStats forSql(String sql) {
+        if (!ENABLED || sql == null) {
+            return null;
+        }
+        StatementStats stats = BY_SQL.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String normalized = normalize(sql);
+        if (BY_NORMALIZED.size() >= MAX_STATEMENTS && !BY_NORMALIZED.containsKey(normalized)) {
+            normalized = OTHER;
+        }
+        stats = BY_NORMALIZED.computeIfAbsent(normalized, StatementStats::new);
+        if (BY_SQL.size() < MAX_STATEMENTS * 4) {
+            BY_SQL.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    static String normalize(String sql) {
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        return WHITESPACE.matcher(result).replaceAll(" ").trim();
+    }
+
+    /**
+     * 풀에서 커넥션을 빌리는 데 걸린 시간
+     */
+    public static void recordAcquire(long nanos) {
+        if (ENABLED) {
+            ACQUIRE.record(nanos);
+        }
+    }
+
+    public static LatencyHistogram getAcquireHistogram() {
+        return ACQUIRE;
+    }
+
+    /**
+     * 총 실행 시간이 긴 순서
+     */
+    public static List<StatementStats> getStatements() {
+        List<StatementStats> list = new ArrayList<>(BY_NORMALIZED.values());
+        list.sort(Comparator.comparingLong((StatementStats s) -> s.latency.getTotalMicros()).reversed());
+        return list;
+    }
+
+    /**
+     * 문장 캐시를 거치지 않은 PreparedStatement에 기록 핸들을 씌운다.
+     */
+    static PreparedStatement instrument(PreparedStatement statement, String sql) {
+        StatementStats stats = forSql(sql);
+        if (stats == null) {
+            return statement;
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return invoke(stats, statement, method, args);
+                }
+            });
+    }
+
+    /**
+     * 문장 메서드 호출. execute 계열이면 시간과 행 수를 기록한다.
+     */
+    static Object invoke(StatementStats stats, PreparedStatement target, Method method, Object[] args) throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return call(target, method, args);
+        }
+        RequestStats request = RequestStats.current();
+        if (stats == null && request == null) {
+            return call(target, method, args);
+        }
+
+        long started = System.nanoTime();
+        boolean failed = true;
+        long rows = 0;
+        try {
+            Object result = call(target, method, args);
+            failed = false;
+            switch (method.getName()) {
+                case "executeQuery":
+                    return COUNT_QUERY_ROWS ? countRows(stats, request, (ResultSet) result) : result;
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    rows = ((Number) result).longValue();
+                    break;
+                case "executeBatch":
+                    for (int count : (int[]) result) {
+                        if (count > 0) {
+                            rows += count;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - started;
+            if (stats != null) {
+                stats.record(nanos, rows, failed);
+            }
+            if (request != null) {
+                request.statementExecuted(stats, nanos, rows);
+            }
+        }
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * next()가 true를 반환할 때마다 반환 행 수를 올리는 ResultSet (db.metrics.queryRows=true일 때만)
+     */
+    private static ResultSet countRows(StatementStats stats, RequestStats request, ResultSet resultSet) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class}, new RowCounter(stats, request, resultSet));
+    }
+
+    private static final class RowCounter implements InvocationHandler {
+        private final StatementStats stats;
+        // 요청 밖(백그라운드 작업)이면 null
+        private final RequestStats request;
+        private final ResultSet target;
+
+        private RowCounter(StatementStats stats, RequestStats request, ResultSet target) {
+            this.stats = stats;
+            this.request = request;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    boolean hasRow = target.next();
+                    if (hasRow) {
+                        if (stats != null) {
+                            stats.rows.increment();
+                        }
+                        if (request != null) {
+                            request.rowFetched();
+                        }
+                    }
+                    return hasRow;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return call(target, method, args);
+            }
+        }
+    }
+
+    /**
+     * 정리된 SQL 하나의 누적 통계
+     */
+    public static final class StatementStats {
+        private final String sql;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        void record(long nanos, long affectedRows, boolean failed) {
+            executions.increment();
+            if (failed) {
+                failures.increment();
+            }
+            if (affectedRows > 0) {
+                rows.add(affectedRows);
+            }
+            latency.record(nanos);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * 변경은 변경 행 수, 조회는 db.metrics.queryRows=true일 때만 반환 행 수
+         */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+}
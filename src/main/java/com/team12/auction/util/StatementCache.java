@@ -0,0 +1,194 @@
+package com.team12.auction.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 물리 커넥션 하나에 붙는 PreparedStatement LRU 캐시 (SQL 문자열 기준)
+ * <p>
+ * 캐시된 문장의 close()는 파라미터만 비우고 캐시로 되돌린다. 같은 SQL이 이미 사용 중이면
+ * 캐시하지 않는 일반 문장을 새로 만든다. 커넥션 하나는 한 스레드만 쓰므로 동기화는 하지 않는다.
+ * 실행 시간과 행 수는 SqlMetrics에 기록한다.
+ */
+class StatementCache {
+
+    private final Connection physical;
+    private final int maxSize;
+    private final Stats stats;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    StatementCache(Connection physical, int maxSize, Stats stats) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.stats = stats;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) {
+                    return false;
+                }
+                CachedStatement evicted = eldest.getValue();
+                evicted.evicted = true;
+                if (!evicted.inUse) {
+                    evicted.closePhysical();
+                }
+                stats.evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 문장을 꺼내거나 새로 준비한다.
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && cached.inUse) {
+            // 같은 SQL을 중첩 사용하는 경우: 캐시하지 않는다
+            stats.misses.increment();
+            return SqlMetrics.instrument(physical.prepareStatement(sql), sql);
+        }
+        if (cached == null) {
+            stats.misses.increment();
+            cached = new CachedStatement(physical.prepareStatement(sql), SqlMetrics.forSql(sql));
+            statements.put(sql, cached);
+        } else {
+            stats.hits.increment();
+        }
+        cached.inUse = true;
+        return cached.checkout();
+    }
+
+    /**
+     * 커넥션 반납 시 호출: 닫히지 않은 문장을 회수한다.
+     */
+    void reclaim() {
+        List<String> broken = new ArrayList<>();
+        for (Map.Entry<String, CachedStatement> entry : statements.entrySet()) {
+            CachedStatement cached = entry.getValue();
+            if (cached.inUse) {
+                cached.generation++;
+                cached.inUse = false;
+                try {
+                    cached.physical.clearParameters();
+                } catch (SQLException e) {
+                    broken.add(entry.getKey());
+                }
+            }
+        }
+        for (String sql : broken) {
+            CachedStatement removed = statements.remove(sql);
+            removed.closePhysical();
+        }
+    }
+
+    void closeAll() {
+        Iterator<CachedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            it.next().closePhysical();
+            it.remove();
+        }
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    /**
+     * 풀 전체의 캐시 적중 통계
+     */
+    static final class Stats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+    }
+
+    private final class CachedStatement {
+        private final PreparedStatement physical;
+        // 실행 통계 (SqlMetrics가 꺼져 있으면 null)
+        private final SqlMetrics.StatementStats metrics;
+        private boolean inUse;
+        private boolean evicted;
+        private int generation;
+
+        private CachedStatement(PreparedStatement physical, SqlMetrics.StatementStats metrics) {
+            this.physical = physical;
+            this.metrics = metrics;
+        }
+
+        private PreparedStatement checkout() {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new Handle(this, generation));
+        }
+
+        private void checkin(int handleGeneration) throws SQLException {
+            if (handleGeneration != generation || !inUse) {
+                return;
+            }
+            generation++;
+            inUse = false;
+            if (evicted) {
+                closePhysical();
+                return;
+            }
+            physical.clearParameters();
+            physical.clearBatch();
+        }
+
+        private void closePhysical() {
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                // 이미 닫힌 문장
+            }
+        }
+    }
+
+    /**
+     * DAO에 넘겨주는 문장 핸들. close() 이후에는 사용할 수 없다.
+     */
+    private static final class Handle implements InvocationHandler {
+        private final CachedStatement cached;
+        private final int generation;
+
+        private Handle(CachedStatement cached, int generation) {
+            this.cached = cached;
+            this.generation = generation;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    cached.checkin(generation);
+                    return null;
+                case "isClosed":
+                    return generation != cached.generation || cached.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.physical + "]";
+                default:
+                    break;
+            }
+
+            if (generation != cached.generation) {
+                throw new SQLException("Statement has already been closed");
+            }
+
+            return SqlMetrics.invoke(cached.metrics, cached.physical, method, args);
+        }
+    }
+}
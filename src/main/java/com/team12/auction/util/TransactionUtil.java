@@ -1,5 +1,243 @@
 package com.team12.auction.util;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스레드(요청) 단위 트랜잭션
+ * <p>
+ * begin() 이후 같은 스레드의 DBConnection.getConnection()은 모두 하나의 커넥션을 공유한다.
+ * 커넥션은 처음 필요할 때 풀에서 빌리며, DAO가 호출하는 commit()/close()는 무시되고
+ * rollback()은 트랜잭션을 롤백 전용으로 표시한다. 실제 커밋/롤백은 가장 바깥의 end()에서 한 번만 일어난다.
+ * 메모리 캐시처럼 DB 결과에 맞춰 되돌려야 하는 작업은 registerSynchronization()으로 완료 콜백을 등록한다.
+ */
 public class TransactionUtil {
 
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 트랜잭션 작업
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T> {
+        T doInTransaction(Connection conn) throws SQLException;
+    }
+
+    /**
+     * 트랜잭션 완료 콜백 (커넥션 반납 후 호출)
+     */
+    @FunctionalInterface
+    public interface Synchronization {
+        void afterCompletion(boolean committed);
+    }
+
+    /**
+     * 트랜잭션 시작 (이미 진행 중이면 참여)
+     */
+    public static void begin() {
+        Context ctx = CURRENT.get();
+        if (ctx == null) {
+            CURRENT.set(new Context());
+        } else {
+            ctx.depth++;
+        }
+    }
+
+    /**
+     * 현재 스레드에 트랜잭션이 열려 있는지 여부
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션이 중첩되지 않은 가장 바깥 단계인지 여부 (다음 end()가 실제로 커밋/롤백하는지)
+     */
+    public static boolean isOutermost() {
+        Context ctx = CURRENT.get();
+        return ctx != null && ctx.depth == 0;
+    }
+
+    /**
+     * 현재 트랜잭션의 커넥션 (처음 호출 시 풀에서 대여)
+     */
+    public static Connection getConnection() throws SQLException {
+        Context ctx = CURRENT.get();
+        if (ctx == null) {
+            throw new IllegalStateException("No transaction bound to the current thread");
+        }
+        if (ctx.lease == null) {
+            ctx.lease = DBConnection.getPool().getConnection();
+            ctx.participant = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new Participant(ctx));
+        }
+        return ctx.participant;
+    }
+
+    /**
+     * 트랜잭션을 롤백 전용으로 표시
+     */
+    public static void setRollbackOnly() {
+        Context ctx = CURRENT.get();
+        if (ctx != null) {
+            ctx.rollbackOnly = true;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에 완료 콜백 등록
+     *
+     * @return 트랜잭션이 없어 등록하지 못했으면 false
+     */
+    public static boolean registerSynchronization(Synchronization synchronization) {
+        Context ctx = CURRENT.get();
+        if (ctx == null) {
+            return false;
+        }
+        if (ctx.synchronizations == null) {
+            ctx.synchronizations = new ArrayList<>();
+        }
+        ctx.synchronizations.add(synchronization);
+        return true;
+    }
+
+    /**
+     * 트랜잭션 종료. 가장 바깥의 end()에서만 커밋(또는 롤백) 후 커넥션을 반납한다.
+     *
+     * @param success 작업이 정상 종료되었는지 여부 (false면 롤백)
+     */
+    public static void end(boolean success) throws SQLException {
+        Context ctx = CURRENT.get();
+        if (ctx == null) {
+            return;
+        }
+        if (!success) {
+            ctx.rollbackOnly = true;
+        }
+        if (ctx.depth > 0) {
+            ctx.depth--;
+            return;
+        }
+
+        CURRENT.remove();
+        if (ctx.lease == null) {
+            fireAfterCompletion(ctx, !ctx.rollbackOnly);
+            return;
+        }
+
+        boolean committed = false;
+        try {
+            if (ctx.rollbackOnly) {
+                ctx.lease.rollback();
+            } else {
+                try {
+                    ctx.lease.commit();
+                    committed = true;
+                } catch (SQLException e) {
+                    DBConnection.rollback(ctx.lease);
+                    throw e;
+                }
+            }
+        } finally {
+            DBConnection.close(ctx.lease);
+            fireAfterCompletion(ctx, committed);
+        }
+    }
+
+    private static void fireAfterCompletion(Context ctx, boolean committed) {
+        if (ctx.synchronizations == null) {
+            return;
+        }
+        for (Synchronization synchronization : ctx.synchronizations) {
+            try {
+                synchronization.afterCompletion(committed);
+            } catch (RuntimeException e) {
+                System.err.println("[ERROR] Transaction synchronization failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * work를 트랜잭션 안에서 실행. 이미 트랜잭션이 열려 있으면 그 트랜잭션에 참여한다.
+     */
+    public static <T> T execute(TransactionCallback<T> work) throws SQLException {
+        begin();
+        boolean success = false;
+        try {
+            T result = work.doInTransaction(getConnection());
+            success = true;
+            return result;
+        } finally {
+            if (success) {
+                end(true);
+            } else {
+                try {
+                    end(false);
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private static final class Context {
+        private Connection lease;
+        private Connection participant;
+        private boolean rollbackOnly;
+        private int depth;
+        private List<Synchronization> synchronizations;
+    }
+
+    /**
+     * DAO에 넘겨주는 커넥션 핸들. 트랜잭션 경계 관련 호출을 가로챈다.
+     */
+    private static final class Participant implements InvocationHandler {
+        private final Context ctx;
+
+        private Participant(Context ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    return null;
+                case "rollback":
+                    if (args == null || args.length == 0) {
+                        ctx.rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "isClosed":
+                    return ctx.lease.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TransactionConnection[" + ctx.lease + "]";
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(ctx.lease, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
     Boolean biddingWindowOpen = (Boolean) request.getAttribute("biddingWindowOpen");
     Boolean alreadyBid = (Boolean) request.getAttribute("alreadyBid");
     Boolean inBasket = (Boolean) request.getAttribute("inBasket");
+    Integer cutoffAmount = (Integer) request.getAttribute("cutoffAmount");
 
     if (canBid == null) canBid = false;
     if (biddingWindowOpen == null) biddingWindowOpen = false;
@@ -113,6 +114,9 @@
                         이미 입찰을 완료했습니다.
                     <% } else { %>
                         현재 시점 기준, 상위 <%= auction.getAvailableSlots() %>위 안에 들어야 입찰이 가능합니다.
+                        <% if (cutoffAmount != null && cutoffAmount > 0) { %>
+                            <br>현재 커트라인: <strong><%= cutoffAmount %>점</strong> (이보다 높게 입찰해야 합니다)
+                        <% } %>
                     <% } %>
                 </p>
 
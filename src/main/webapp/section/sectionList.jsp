@@ -16,6 +16,7 @@
 
     String keyword = (String) request.getAttribute("keyword");
     String department = (String) request.getAttribute("department");
+    boolean hideConflicts = Boolean.TRUE.equals(request.getAttribute("hideConflicts"));
 
     // 🔹 메시지는 모두 session에서 읽고, 한 번만 쓰고 지운다 (flash message 패턴)
     String successMessage = (String) session.getAttribute("successMessage");
@@ -60,6 +61,8 @@
 						value="<%= keyword != null ? keyword : "" %>"> <input
 						type="text" name="department" placeholder="학과 입력"
 						value="<%= department != null ? department : "" %>">
+					<label><input type="checkbox" name="hideConflicts"
+						<%= hideConflicts ? "checked" : "" %>> 시간 겹치는 강의 숨기기</label>
 					<button class="btn-primary" type="submit">검색</button>
 				</div>
 				<a href="<%=request.getContextPath()%>/basket/list"
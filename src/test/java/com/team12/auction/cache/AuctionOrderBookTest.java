@@ -0,0 +1,172 @@
+package com.team12.auction.cache;
+
+import com.team12.auction.model.dto.BidDetail;
+import com.team12.auction.model.entity.Bid;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AuctionOrderBook 트립의 순위/커트라인/상위 N개 계산
+ * <p>
+ * 마지막 테스트는 무작위 추가/삭제 뒤의 결과를 정렬한 목록으로 계산한 값과 비교한다.
+ */
+class AuctionOrderBookTest {
+
+    /**
+     * 마감 SQL과 같은 순서 (금액 내림차순, 시각 오름차순, 번호의 숫자 부분 오름차순)
+     */
+    private static final Comparator<Bid> ORDER = Comparator.comparingInt(Bid::getBidAmount).reversed()
+        .thenComparingLong(bid -> bid.getBidTime().getTime())
+        .thenComparingLong(bid -> AuctionOrderBook.sequenceNumber(bid.getBidSequence()));
+
+    @Test
+    void sequenceNumberReadsDigitsAfterPrefix() {
+        assertEquals(12, AuctionOrderBook.sequenceNumber("BID0000012"));
+        assertEquals(100, AuctionOrderBook.sequenceNumber("BID100"));
+        assertEquals(Long.MAX_VALUE, AuctionOrderBook.sequenceNumber("BID"));
+        assertEquals(Long.MAX_VALUE, AuctionOrderBook.sequenceNumber("BID12X"));
+    }
+
+    @Test
+    void ranksByAmountThenTimeThenSequence() {
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        book.add(bid("BID0000001", 30, 100, 1));
+        book.add(bid("BID0000002", 50, 200, 2));
+        book.add(bid("BID0000003", 30, 50, 3));
+        book.add(bid("BID0000004", 10, 10, 4));
+
+        assertEquals(4, book.size());
+        assertEquals(1, book.rankOf("BID0000002"));
+        assertEquals(2, book.rankOf("BID0000003"));
+        assertEquals(3, book.rankOf("BID0000001"));
+        assertEquals(4, book.rankOf("BID0000004"));
+        assertEquals(-1, book.rankOf("BID0000099"));
+        assertEquals(List.of("BID0000002", "BID0000003", "BID0000001", "BID0000004"), sequences(book.top(10)));
+    }
+
+    @Test
+    void tieBreakComparesSequenceNumbersNotStrings() {
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        // 문자열로 비교하면 "BID100" < "BID99"지만 먼저 발급된 99번이 앞이어야 한다
+        book.add(bid("BID100", 20, 1000, 1));
+        book.add(bid("BID99", 20, 1000, 2));
+
+        assertEquals(1, book.rankOf("BID99"));
+        assertEquals(2, book.rankOf("BID100"));
+        assertEquals(List.of("BID99", "BID100"), sequences(book.top(2)));
+    }
+
+    @Test
+    void prospectiveRankPutsNewBidAfterEqualAmounts() {
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        assertEquals(1, book.prospectiveRank(10));
+
+        book.add(bid("BID0000001", 50, 1, 1));
+        book.add(bid("BID0000002", 30, 2, 2));
+        book.add(bid("BID0000003", 30, 3, 3));
+
+        assertEquals(1, book.prospectiveRank(60));
+        assertEquals(2, book.prospectiveRank(50));
+        assertEquals(2, book.prospectiveRank(40));
+        assertEquals(4, book.prospectiveRank(30));
+        assertEquals(4, book.prospectiveRank(1));
+    }
+
+    @Test
+    void cutoffAmountIsAmountOfLastSlot() {
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        book.add(bid("BID0000001", 50, 1, 1));
+        book.add(bid("BID0000002", 30, 2, 2));
+        book.add(bid("BID0000003", 40, 3, 3));
+
+        assertEquals(0, book.cutoffAmount(0));
+        assertEquals(50, book.cutoffAmount(1));
+        assertEquals(40, book.cutoffAmount(2));
+        assertEquals(30, book.cutoffAmount(3));
+        assertEquals(0, book.cutoffAmount(4));
+    }
+
+    @Test
+    void duplicateSequenceIsIgnoredAndRemoveUpdatesRanks() {
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        book.add(bid("BID0000001", 50, 1, 1));
+        book.add(bid("BID0000002", 40, 2, 2));
+        book.add(bid("BID0000001", 10, 9, 1));
+        assertEquals(2, book.size());
+        assertEquals(1, book.rankOf("BID0000001"));
+
+        book.remove("BID0000001");
+        book.remove("BID0000077");
+        assertEquals(1, book.size());
+        assertEquals(-1, book.rankOf("BID0000001"));
+        assertEquals(1, book.rankOf("BID0000002"));
+        assertFalse(book.hasBidFrom(1));
+        assertTrue(book.hasBidFrom(2));
+    }
+
+    @Test
+    void matchesSortedListAfterRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        AuctionOrderBook book = new AuctionOrderBook("A1");
+        List<Bid> expected = new ArrayList<>();
+
+        for (int i = 1; i <= 3000; i++) {
+            if (!expected.isEmpty() && random.nextInt(4) == 0) {
+                Bid removed = expected.remove(random.nextInt(expected.size()));
+                book.remove(removed.getBidSequence());
+            } else {
+                // 금액과 시각의 범위를 좁혀 동점이 자주 나오게 한다 (번호 자릿수도 섞음)
+                String sequence = random.nextBoolean() ? "BID" + i : String.format("BID%07d", i);
+                Bid bid = bid(sequence, 1 + random.nextInt(20), random.nextInt(5), i);
+                expected.add(bid);
+                book.add(bid);
+            }
+
+            if (i % 100 == 0) {
+                expected.sort(ORDER);
+                assertEquals(expected.size(), book.size());
+                for (int rank = 1; rank <= expected.size(); rank++) {
+                    assertEquals(rank, book.rankOf(expected.get(rank - 1).getBidSequence()));
+                }
+                int slots = 1 + random.nextInt(expected.size() + 5);
+                int cutoff = slots <= expected.size() ? expected.get(slots - 1).getBidAmount() : 0;
+                assertEquals(cutoff, book.cutoffAmount(slots));
+                int amount = 1 + random.nextInt(21);
+                assertEquals(1 + (int) expected.stream().filter(bid -> bid.getBidAmount() >= amount).count(),
+                    book.prospectiveRank(amount));
+                int limit = random.nextInt(30);
+                assertEquals(sequencesOf(expected.subList(0, Math.min(limit, expected.size()))),
+                    sequences(book.top(limit)));
+            }
+        }
+    }
+
+    private static Bid bid(String sequence, int amount, long time, int studentId) {
+        return new Bid(sequence, amount, new Date(time), null, "A1", studentId);
+    }
+
+    private static List<String> sequences(List<BidDetail> bids) {
+        List<String> result = new ArrayList<>();
+        for (BidDetail bid : bids) {
+            result.add(bid.getBidSequence());
+        }
+        return result;
+    }
+
+    private static List<String> sequencesOf(List<Bid> bids) {
+        List<String> result = new ArrayList<>();
+        for (Bid bid : bids) {
+            result.add(bid.getBidSequence());
+        }
+        return result;
+    }
+}
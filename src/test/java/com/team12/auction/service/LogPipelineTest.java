@@ -0,0 +1,385 @@
+package com.team12.auction.service;
+
+import com.team12.auction.model.entity.Log;
+import com.team12.auction.util.DBConnection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LogPipeline 링 버퍼와 가득 찼을 때의 처리(drop/block/spill), 종료 시 비우기
+ * <p>
+ * 쓰기 스레드를 시작하지 않은 파이프라인은 버퍼가 비워지지 않으므로 가득 찬 상태를 그대로 만들 수 있다.
+ * DB가 필요한 테스트는 src/test/resources/db.properties의 H2 메모리 DB에 Log/IdCounter 테이블을 만들어 쓴다.
+ */
+class LogPipelineTest {
+
+    private static final long NO_FLUSH_MS = 60_000;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void createTables() throws SQLException {
+        Connection conn = DBConnection.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS Log (log_id VARCHAR2(20) PRIMARY KEY, action_type VARCHAR2(30), "
+                + "timestamp TIMESTAMP, details VARCHAR2(500), student_id NUMBER, auction_id VARCHAR2(20))");
+            stmt.execute("CREATE TABLE IF NOT EXISTS IdCounter (counter_name VARCHAR2(30) PRIMARY KEY, "
+                + "next_value NUMBER(19) NOT NULL)");
+            // 카운터가 있으면 기존 최대 번호를 구하는 SQL(TO_NUMBER)을 쓰지 않는다
+            stmt.execute("INSERT INTO IdCounter (counter_name, next_value) SELECT 'LOG', 1 FROM dual "
+                + "WHERE NOT EXISTS (SELECT 1 FROM IdCounter WHERE counter_name = 'LOG')");
+            DBConnection.commit(conn);
+        } finally {
+            DBConnection.close(conn);
+        }
+    }
+
+    // ---- RingBuffer ----
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(2, new LogPipeline.RingBuffer(1).capacity());
+        assertEquals(2, new LogPipeline.RingBuffer(2).capacity());
+        assertEquals(4, new LogPipeline.RingBuffer(3).capacity());
+        assertEquals(64, new LogPipeline.RingBuffer(64).capacity());
+        assertEquals(128, new LogPipeline.RingBuffer(65).capacity());
+    }
+
+    @Test
+    void ringBufferRejectsWhenFullAndKeepsOrder() {
+        LogPipeline.RingBuffer buffer = new LogPipeline.RingBuffer(4);
+        List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            logs.add(log("RING", i, Integer.toString(i)));
+            assertTrue(buffer.offer(logs.get(i)));
+        }
+        assertFalse(buffer.offer(log("RING", 4, "4")));
+        assertEquals(4, buffer.size());
+
+        assertSame(logs.get(0), buffer.poll());
+        Log late = log("RING", 5, "5");
+        assertTrue(buffer.offer(late));
+        for (int i = 1; i < 4; i++) {
+            assertSame(logs.get(i), buffer.poll());
+        }
+        assertSame(late, buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void multipleProducersLoseNothingAndKeepPerProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        LogPipeline.RingBuffer buffer = new LogPipeline.RingBuffer(256);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    Log log = log("RING", producer, Integer.toString(i));
+                    while (!buffer.offer(log)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        // 소비자는 하나 (쓰기 스레드와 같은 조건)
+        int[] next = new int[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            Log log = buffer.poll();
+            if (log == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = log.getStudentId();
+            assertEquals(next[producer], Integer.parseInt(log.getDetails()), "producer " + producer + " out of order");
+            next[producer]++;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, next[p]);
+        }
+        assertNull(buffer.poll());
+    }
+
+    // ---- 가득 찼을 때 ----
+
+    @Test
+    void dropModeDropsWhenFull() {
+        LogPipeline pipeline = new LogPipeline(2, 10, NO_FLUSH_MS, LogPipeline.Overflow.DROP, 0, 1000,
+            tempDir.resolve("spill.tsv"));
+
+        assertTrue(pipeline.offer(log("DROP", 1, "a")));
+        assertTrue(pipeline.offer(log("DROP", 1, "b")));
+        assertFalse(pipeline.offer(log("DROP", 1, "c")));
+        assertFalse(pipeline.offer(log("DROP", 1, "d")));
+
+        assertEquals(2, pipeline.getEnqueuedCount());
+        assertEquals(2, pipeline.getDroppedCount());
+        assertEquals(2, pipeline.getPendingCount());
+        assertFalse(Files.exists(tempDir.resolve("spill.tsv")));
+    }
+
+    @Test
+    void blockModeDropsAfterTimeout() {
+        LogPipeline pipeline = new LogPipeline(2, 10, NO_FLUSH_MS, LogPipeline.Overflow.BLOCK, 50, 1000,
+            tempDir.resolve("spill.tsv"));
+        pipeline.offer(log("BLOCK", 1, "a"));
+        pipeline.offer(log("BLOCK", 1, "b"));
+
+        long started = System.nanoTime();
+        assertFalse(pipeline.offer(log("BLOCK", 1, "c")));
+        long waitedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(waitedMs >= 50, "waited " + waitedMs + "ms");
+        assertEquals(2, pipeline.getEnqueuedCount());
+        assertEquals(1, pipeline.getDroppedCount());
+    }
+
+    @Test
+    void blockModeAcceptsOnceWriterMakesRoom() throws Exception {
+        LogPipeline pipeline = new LogPipeline(2, 10, NO_FLUSH_MS, LogPipeline.Overflow.BLOCK, 10_000, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "BLOCK_" + System.nanoTime();
+        pipeline.offer(log(tag, 1, "a"));
+        pipeline.offer(log(tag, 1, "b"));
+
+        // 조금 뒤에 쓰기 스레드를 시작해 버퍼를 비운다
+        Thread starter = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pipeline.startWriter();
+        });
+        starter.start();
+        assertTrue(pipeline.offer(log(tag, 1, "c")));
+        starter.join();
+        pipeline.shutdown();
+
+        assertEquals(3, pipeline.getEnqueuedCount());
+        assertEquals(0, pipeline.getDroppedCount());
+        assertEquals(3, pipeline.getFlushedCount());
+        assertEquals(3, countLogs(tag));
+    }
+
+    @Test
+    void spillModeWritesOverflowToFileAndReplaysOnStop() throws Exception {
+        Path spillFile = tempDir.resolve("spill.tsv");
+        LogPipeline pipeline = new LogPipeline(2, 10, NO_FLUSH_MS, LogPipeline.Overflow.SPILL, 0, 10_000, spillFile);
+        String tag = "SPILL_" + System.nanoTime();
+        String awkward = "tab\there\nnew line \\ back";
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(pipeline.offer(log(tag, i, i == 4 ? awkward : "d" + i)));
+        }
+        assertEquals(2, pipeline.getEnqueuedCount());
+        assertEquals(3, pipeline.getSpilledCount());
+        assertEquals(0, pipeline.getDroppedCount());
+        assertEquals(3, Files.readAllLines(spillFile).size());
+
+        pipeline.startWriter();
+        pipeline.shutdown();
+
+        assertEquals(5, pipeline.getFlushedCount());
+        assertEquals(0, pipeline.getFailedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertFalse(Files.exists(spillFile));
+        assertEquals(5, countLogs(tag));
+        assertEquals(1, countLogs(tag, awkward));
+    }
+
+    // ---- 종료 ----
+
+    @Test
+    void shutdownDrainsBufferedLogs() throws Exception {
+        LogPipeline pipeline = new LogPipeline(1024, 100, NO_FLUSH_MS, LogPipeline.Overflow.DROP, 0, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "DRAIN_" + System.nanoTime();
+        pipeline.startWriter();
+
+        int total = 250;
+        for (int i = 0; i < total; i++) {
+            assertTrue(pipeline.offer(log(tag, i, "d" + i)));
+        }
+        // 마지막 50건은 묶음이 차지 않았고 flushIntervalMs도 지나지 않았으므로 종료 때 기록되어야 한다
+        pipeline.shutdown();
+
+        assertEquals(total, pipeline.getEnqueuedCount());
+        assertEquals(total, pipeline.getFlushedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(total, countLogs(tag));
+    }
+
+    @Test
+    void shutdownDrainsWhileProducersRace() throws Exception {
+        LogPipeline pipeline = new LogPipeline(64, 16, 5, LogPipeline.Overflow.BLOCK, 10_000, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "RACE_" + System.nanoTime();
+        pipeline.startWriter();
+
+        int producers = 4;
+        int perProducer = 500;
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (!pipeline.offer(log(tag, producer, "d" + i))) {
+                        failed.set(true);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        pipeline.shutdown();
+
+        assertFalse(failed.get());
+        assertEquals(producers * perProducer, pipeline.getFlushedCount());
+        assertEquals(producers * perProducer, countLogs(tag));
+    }
+
+    @Test
+    void shutdownWritesLogsLeftAfterWriterExits() throws Exception {
+        LogPipeline pipeline = new LogPipeline(16, 10, NO_FLUSH_MS, LogPipeline.Overflow.DROP, 0, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "LEFT_" + System.nanoTime();
+        // 쓰기 스레드가 한 번도 꺼내지 않은 로그 = 마지막 비우기 뒤에 들어온 로그와 같은 상황
+        for (int i = 0; i < 3; i++) {
+            pipeline.offer(log(tag, i, "d" + i));
+        }
+        pipeline.shutdown();
+
+        assertEquals(3, pipeline.getFlushedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(3, countLogs(tag));
+    }
+
+    @Test
+    void offerAfterShutdownIsWrittenByProducer() throws Exception {
+        LogPipeline pipeline = new LogPipeline(16, 10, NO_FLUSH_MS, LogPipeline.Overflow.DROP, 0, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "LATE_" + System.nanoTime();
+        pipeline.startWriter();
+        pipeline.shutdown();
+
+        assertTrue(pipeline.offer(log(tag, 1, "late")));
+
+        assertEquals(1, pipeline.getFlushedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(1, countLogs(tag));
+    }
+
+    @Test
+    void logsOfferedDuringShutdownAreNotLost() throws Exception {
+        LogPipeline pipeline = new LogPipeline(1 << 16, 50, 5, LogPipeline.Overflow.DROP, 0, 10_000,
+            tempDir.resolve("spill.tsv"));
+        String tag = "STOP_" + System.nanoTime();
+        pipeline.startWriter();
+
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                // 종료가 끝난 뒤에도 조금 더 넣어 종료 전후 모두를 거치게 한다
+                int extra = 20;
+                for (int i = 0; extra > 0; i++) {
+                    pipeline.offer(log(tag, producer, "d" + i));
+                    LockSupport.parkNanos(50_000);
+                    if (stop.get()) {
+                        extra--;
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        Thread.sleep(50);
+        pipeline.shutdown();
+        stop.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, pipeline.getDroppedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(pipeline.getEnqueuedCount(), pipeline.getFlushedCount());
+        assertEquals(pipeline.getEnqueuedCount(), countLogs(tag));
+    }
+
+    private static Log log(String actionType, int studentId, String details) {
+        Log log = new Log();
+        log.setActionType(actionType);
+        log.setStudentId(studentId);
+        log.setDetails(details);
+        log.setTimestamp(new Timestamp(System.currentTimeMillis()));
+        return log;
+    }
+
+    private static int countLogs(String actionType) throws SQLException {
+        return count("SELECT COUNT(*) FROM Log WHERE action_type = ?", actionType);
+    }
+
+    private static int countLogs(String actionType, String details) throws SQLException {
+        return count("SELECT COUNT(*) FROM Log WHERE action_type = ? AND details = ?", actionType, details);
+    }
+
+    private static int count(String sql, String... params) throws SQLException {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DBConnection.getConnection();
+            pstmt = conn.prepareStatement(sql);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setString(i + 1, params[i]);
+            }
+            rs = pstmt.executeQuery();
+            rs.next();
+            return rs.getInt(1);
+        } finally {
+            DBConnection.close(rs, pstmt, conn);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.team12.auction.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * FanOut 동시 실행 자리(permit) 반납
+ * <p>
+ * 직접 돌리는 실행기를 넣어, 한 조회가 실패했을 때 다른 조회가 아직 시작하지 않은 상태를 그대로 만든다.
+ */
+class FanOutTest {
+
+    @Test
+    void permitOfQueuedBranchIsReleasedWhenAnotherBranchFails() {
+        int before = FanOut.availablePermits();
+        ManualExecutor executor = new ManualExecutor();
+        SQLException failure = new SQLException("boom");
+        AtomicBoolean queuedRan = new AtomicBoolean();
+
+        try (FanOut fanOut = new FanOut("test", 5000, executor)) {
+            fanOut.fork("fail", () -> {
+                throw failure;
+            });
+            fanOut.fork("queued", () -> {
+                queuedRan.set(true);
+                return 1;
+            });
+            assertEquals(before - 2, FanOut.availablePermits());
+
+            // 첫 조회만 실행: 실패를 본 join()이 아직 시작하지 않은 두 번째 조회를 취소한다
+            executor.runNext();
+            assertSame(failure, assertThrows(SQLException.class, fanOut::join));
+        }
+        assertEquals(before, FanOut.availablePermits());
+
+        // 취소된 작업은 나중에 실행기가 꺼내도 실행되지 않고 자리를 두 번 반납하지 않는다
+        executor.runNext();
+        assertFalse(queuedRan.get());
+        assertEquals(before, FanOut.availablePermits());
+    }
+
+    @Test
+    void permitsAreReleasedAfterSuccessfulJoin() throws SQLException {
+        int before = FanOut.availablePermits();
+        ManualExecutor executor = new ManualExecutor();
+
+        try (FanOut fanOut = new FanOut("test", 5000, executor)) {
+            FanOut.Branch<Integer> a = fanOut.fork("a", () -> 1);
+            FanOut.Branch<Integer> b = fanOut.fork("b", () -> 2);
+            executor.runNext();
+            executor.runNext();
+            fanOut.join();
+            assertEquals(3, a.get() + b.get());
+        }
+        assertEquals(before, FanOut.availablePermits());
+    }
+
+    @Test
+    void permitOfQueuedBranchIsReleasedOnDeadline() {
+        int before = FanOut.availablePermits();
+        ManualExecutor executor = new ManualExecutor();
+
+        try (FanOut fanOut = new FanOut("test", 20, executor)) {
+            fanOut.fork("never", () -> 1);
+            assertThrows(SQLException.class, fanOut::join);
+        }
+        assertEquals(before, FanOut.availablePermits());
+    }
+
+    /**
+     * 넘겨받은 작업을 runNext()가 불릴 때만 차례로 실행하는 실행기
+     */
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+
+        void runNext() {
+            Runnable task = tasks.poll();
+            if (task != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.team12.auction.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LatencyHistogram 구간 계산과 백분위
+ */
+class LatencyHistogramTest {
+
+    private static final long MAX_TRACKED = (1L << 37) - 1;
+
+    @Test
+    void smallValuesHaveTheirOwnBucket() {
+        for (long micros = 0; micros < 16; micros++) {
+            assertEquals(micros, LatencyHistogram.bucketOf(micros));
+            assertEquals(micros, LatencyHistogram.upperBoundOf((int) micros));
+        }
+        assertEquals(16, LatencyHistogram.bucketOf(16));
+        assertEquals(16, LatencyHistogram.upperBoundOf(16));
+        assertEquals(31, LatencyHistogram.bucketOf(31));
+        assertEquals(32, LatencyHistogram.bucketOf(32));
+        assertEquals(33, LatencyHistogram.upperBoundOf(32));
+    }
+
+    @Test
+    void everyValueFallsInsideItsBucketWithinSixPercent() {
+        List<Long> values = new ArrayList<>();
+        for (long micros = 0; micros < 70_000; micros++) {
+            values.add(micros);
+        }
+        for (int exponent = 4; exponent <= 36; exponent++) {
+            long power = 1L << exponent;
+            values.add(power - 1);
+            values.add(power);
+            values.add(power + 1);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            values.add(random.nextLong(MAX_TRACKED + 1));
+        }
+
+        for (long micros : values) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertTrue(micros <= upper, micros + " > upper bound " + upper);
+            if (bucket > 0) {
+                assertTrue(micros > LatencyHistogram.upperBoundOf(bucket - 1), micros + " belongs to an earlier bucket");
+            }
+            // 구간 폭은 2^(지수-4)이므로 상한과의 차이는 값의 1/16 이하
+            assertTrue((upper - micros) * 16 <= micros, micros + " -> " + upper);
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAndIncreasing() {
+        long previous = -1;
+        int last = LatencyHistogram.bucketOf(MAX_TRACKED);
+        for (int bucket = 0; bucket <= last; bucket++) {
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertTrue(upper > previous);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previous + 1));
+            assertEquals(bucket, LatencyHistogram.bucketOf(upper));
+            previous = upper;
+        }
+        assertEquals(MAX_TRACKED, previous);
+    }
+
+    @Test
+    void valuesBeyondRangeShareLastBucket() {
+        int last = LatencyHistogram.bucketOf(MAX_TRACKED);
+        assertEquals(last, LatencyHistogram.bucketOf(MAX_TRACKED + 1));
+        assertEquals(last, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMicros());
+        assertEquals(0, histogram.snapshot().percentile(0.99));
+    }
+
+    @Test
+    void totalsAndPercentilesMatchRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] micros = new long[10_000];
+        Random random = new Random(7);
+        long total = 0;
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = 1 + (long) Math.abs(random.nextGaussian() * 5_000);
+            total += micros[i];
+            histogram.record(micros[i] * 1000 + 999);
+        }
+        Arrays.sort(micros);
+
+        assertEquals(micros.length, histogram.getCount());
+        assertEquals(total, histogram.getTotalMicros());
+        assertEquals(total / micros.length, histogram.getMeanMicros());
+        assertEquals(micros[micros.length - 1], histogram.getMaxMicros());
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(micros.length, snapshot.getCount());
+        for (double quantile : new double[] {0.0, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+            long exact = micros[(int) Math.max(0, Math.ceil(quantile * micros.length) - 1)];
+            long reported = snapshot.percentile(quantile);
+            assertTrue(reported >= exact, quantile + ": " + reported + " < " + exact);
+            assertTrue((reported - exact) * 16 <= exact, quantile + ": " + reported + " vs " + exact);
+        }
+        assertEquals(histogram.getMaxMicros(), snapshot.percentile(1.0));
+    }
+
+    @Test
+    void concurrentRecordsAreAllCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int perThread = 100_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record((i % 1000 + offset) * 1000L);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, histogram.getCount());
+        assertEquals(threads * perThread, histogram.snapshot().getCount());
+        assertEquals(999 + threads - 1, histogram.getMaxMicros());
+    }
+}
@@ -0,0 +1,27 @@
+#!/bin/sh
+# 단위 테스트 빌드 후 실행 (docs/BENCHMARK.md 참고)
+#   필요: JDK 21, lib/ojdbc11.jar, lib/test/*.jar (junit-platform-console-standalone, H2), CATALINA_HOME (Tomcat 10.1)
+#   예: src/test/run.sh                                         (전체)
+#       src/test/run.sh --select-class=com.team12.auction.service.LogPipelineTest
+set -e
+cd "$(dirname "$0")/../.."
+
+if [ -z "$CATALINA_HOME" ]; then
+    echo "[ERROR] CATALINA_HOME is not set (Tomcat 10.1 directory)" >&2
+    exit 1
+fi
+
+CP="lib/*:lib/test/*:$CATALINA_HOME/lib/*:$CATALINA_HOME/bin/tomcat-juli.jar"
+OUT=build/test
+
+rm -rf "$OUT"
+mkdir -p "$OUT/classes"
+javac -encoding UTF-8 -proc:none -d "$OUT/classes" -cp "$CP" $(find src/main/java -name '*.java')
+javac -encoding UTF-8 -proc:none -d "$OUT/classes" -cp "$OUT/classes:$CP" $(find src/test/java -name '*.java')
+cp -R src/test/resources/. "$OUT/classes/"
+
+if [ $# -eq 0 ]; then
+    set -- --scan-classpath "$OUT/classes"
+fi
+exec java -cp "$OUT/classes:$CP" ${TEST_JAVA_OPTS} org.junit.platform.console.ConsoleLauncher execute \
+    --disable-banner --details=tree "$@"